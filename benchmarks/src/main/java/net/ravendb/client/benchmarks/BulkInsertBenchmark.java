@@ -0,0 +1,68 @@
+package net.ravendb.client.benchmarks;
+
+import net.ravendb.client.documents.BulkInsertOperation;
+import net.ravendb.client.documents.DocumentStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side cost of BulkInsertOperation.store - serialization, buffering and streaming into a sink which discards the data.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean useCompression;
+
+    private StubServer server;
+    private DocumentStore store;
+    private BulkInsertOperation bulkInsert;
+    private Person[] people;
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        server = new StubServer();
+
+        store = new DocumentStore(server.getUrl(), StubServer.DATABASE);
+        store.getConventions().setDisableTopologyUpdates(true);
+        store.initialize();
+
+        Random random = new Random(42);
+        people = new Person[1024];
+        for (int i = 0; i < people.length; i++) {
+            people[i] = Person.create(random, i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void openBulkInsert() {
+        bulkInsert = store.bulkInsert();
+        bulkInsert.setUseCompression(useCompression);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeBulkInsert() {
+        bulkInsert.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void store() {
+        int current = index++;
+        bulkInsert.store(people[current & (people.length - 1)], "people/" + current);
+    }
+}
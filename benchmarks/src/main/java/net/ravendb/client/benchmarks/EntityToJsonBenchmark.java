@@ -0,0 +1,84 @@
+package net.ravendb.client.benchmarks;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.Constants;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.documents.session.DocumentInfo;
+import net.ravendb.client.documents.session.DocumentsChanges;
+import net.ravendb.client.documents.session.EntityToJson;
+import net.ravendb.client.json.JsonOperation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of entities and change tracking done by session on store/load/saveChanges.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EntityToJsonBenchmark {
+
+    private DocumentConventions conventions;
+    private Person person;
+    private ObjectNode document;
+    private DocumentInfo unchangedInfo;
+    private DocumentInfo changedInfo;
+
+    @Setup
+    public void setup() {
+        conventions = new DocumentConventions();
+
+        person = Person.create(new Random(42), 1);
+        person.setId("people/1");
+
+        DocumentInfo documentInfo = new DocumentInfo();
+        documentInfo.setId(person.getId());
+        documentInfo.setCollection("People");
+
+        document = EntityToJson.convertEntityToJson(person, conventions, documentInfo);
+        ObjectNode metadata = document.has(Constants.Documents.Metadata.KEY)
+                ? (ObjectNode) document.get(Constants.Documents.Metadata.KEY)
+                : document.putObject(Constants.Documents.Metadata.KEY);
+        metadata.put(Constants.Documents.Metadata.RAVEN_JAVA_TYPE, Person.class.getName());
+
+        unchangedInfo = new DocumentInfo();
+        unchangedInfo.setId(person.getId());
+        unchangedInfo.setDocument(document.deepCopy());
+
+        ObjectNode modified = document.deepCopy();
+        modified.put("Age", person.getAge() + 1);
+        changedInfo = new DocumentInfo();
+        changedInfo.setId(person.getId());
+        changedInfo.setDocument(modified);
+    }
+
+    @Benchmark
+    public ObjectNode convertEntityToJson() {
+        return EntityToJson.convertEntityToJson(person, conventions, null);
+    }
+
+    @Benchmark
+    public Object convertToEntity() {
+        return EntityToJson.convertToEntity(Person.class, person.getId(), document, conventions);
+    }
+
+    @Benchmark
+    public boolean entityChangedUnchanged() {
+        return JsonOperation.entityChanged(document, unchangedInfo, null);
+    }
+
+    @Benchmark
+    public Map<String, List<DocumentsChanges>> entityChangedWithChanges() {
+        Map<String, List<DocumentsChanges>> changes = new HashMap<>();
+        JsonOperation.entityChanged(document, changedInfo, changes);
+        return changes;
+    }
+}
@@ -0,0 +1,83 @@
+package net.ravendb.client.benchmarks;
+
+import net.ravendb.client.http.HttpCache;
+import net.ravendb.client.http.HttpCacheStorage;
+import net.ravendb.client.primitives.Reference;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpCache lookups and updates from multiple threads, as done by request executor shared by many sessions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+@State(Scope.Benchmark)
+public class HttpCacheBenchmark {
+
+    private static final int KEYS = 4096;
+
+    @Param({ "HEAP", "COMPRESSED_HEAP", "OFF_HEAP" })
+    public HttpCacheStorage storage;
+
+    private HttpCache cache;
+    private String[] urls;
+    private String[] responses;
+
+    @Setup
+    public void setup() {
+        cache = new HttpCache(64 * 1024 * 1024, storage);
+
+        Random random = new Random(42);
+        urls = new String[KEYS];
+        responses = new String[KEYS];
+
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < KEYS; i++) {
+            urls[i] = "http://127.0.0.1:8080/databases/" + StubServer.DATABASE + "/docs?&id=people%2F" + i;
+
+            payload.setLength(0);
+            payload.append("{\"Results\":[{\"Name\":\"Person ").append(i).append("\",\"Data\":\"");
+            int length = 200 + random.nextInt(2000);
+            for (int j = 0; j < length; j++) {
+                payload.append((char) ('a' + random.nextInt(26)));
+            }
+            payload.append("\"}],\"Includes\":{}}");
+            responses[i] = payload.toString();
+
+            cache.set(urls[i], "A:" + i, responses[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(7)
+    public String get() {
+        int i = ThreadLocalRandom.current().nextInt(KEYS);
+
+        Reference<String> changeVector = new Reference<>();
+        Reference<String> response = new Reference<>();
+        try (HttpCache.ReleaseCacheItem ignored = cache.get(urls[i], changeVector, response)) {
+            return response.value;
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void set() {
+        int i = ThreadLocalRandom.current().nextInt(KEYS);
+        cache.set(urls[i], "A:" + i, responses[i]);
+    }
+}
@@ -0,0 +1,82 @@
+package net.ravendb.client.benchmarks;
+
+import net.ravendb.client.documents.commands.multiGet.GetRequest;
+import net.ravendb.client.documents.commands.multiGet.GetResponse;
+import net.ravendb.client.documents.commands.multiGet.MultiGetCommand;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.http.RequestExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of multi get response (used by lazy operations).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MultiGetBenchmark {
+
+    @Param({ "4", "32" })
+    public int requestsCount;
+
+    private ExecutorService executorService;
+    private RequestExecutor requestExecutor;
+    private List<GetRequest> requests;
+    private byte[] response;
+
+    @Setup
+    public void setup() {
+        executorService = Executors.newCachedThreadPool();
+        requestExecutor = RequestExecutor.createForSingleNodeWithoutConfigurationUpdates("http://127.0.0.1:1",
+                StubServer.DATABASE, null, null, null, executorService, new DocumentConventions());
+
+        Random random = new Random(42);
+        DocumentConventions conventions = requestExecutor.getConventions();
+
+        requests = new ArrayList<>();
+        StringBuilder json = new StringBuilder("{\"Results\":[");
+        for (int i = 0; i < requestsCount; i++) {
+            GetRequest request = new GetRequest();
+            request.setUrl("/docs");
+            request.setQuery("?&id=people%2F" + i);
+            requests.add(request);
+
+            if (i > 0) {
+                json.append(",");
+            }
+
+            String document = conventions.getEntityMapper().valueToTree(Person.create(random, i)).toString();
+            json.append("{\"Result\":{\"Results\":[").append(document).append("],\"Includes\":{}},")
+                    .append("\"Headers\":{\"Content-Type\":\"application/json\"},")
+                    .append("\"StatusCode\":200}");
+        }
+        json.append("]}");
+
+        response = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestExecutor.close();
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public List<GetResponse> parseResponse() {
+        try (MultiGetCommand command = new MultiGetCommand(requestExecutor, requests)) {
+            command.setResponseRaw(null, new ByteArrayInputStream(response));
+            return command.getResult();
+        }
+    }
+}
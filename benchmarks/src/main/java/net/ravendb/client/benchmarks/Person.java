@@ -0,0 +1,145 @@
+package net.ravendb.client.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+public class Person {
+
+    private String id;
+    private String name;
+    private String email;
+    private int age;
+    private double score;
+    private boolean active;
+    private Date registeredAt;
+    private Address address;
+    private List<String> tags;
+
+    public static Person create(Random random, int index) {
+        Person person = new Person();
+        person.setName("Person " + index);
+        person.setEmail("person" + index + "@example.com");
+        person.setAge(18 + random.nextInt(60));
+        person.setScore(random.nextDouble() * 100);
+        person.setActive(random.nextBoolean());
+        person.setRegisteredAt(new Date(1_600_000_000_000L + random.nextInt(1_000_000) * 1000L));
+
+        Address address = new Address();
+        address.setCity("City " + random.nextInt(100));
+        address.setStreet("Street " + random.nextInt(1000));
+        address.setZipCode(String.valueOf(10_000 + random.nextInt(90_000)));
+        person.setAddress(address);
+
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tags.add("tag" + random.nextInt(50));
+        }
+        person.setTags(tags);
+
+        return person;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Date getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public void setRegisteredAt(Date registeredAt) {
+        this.registeredAt = registeredAt;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public static class Address {
+        private String city;
+        private String street;
+        private String zipCode;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public String getZipCode() {
+            return zipCode;
+        }
+
+        public void setZipCode(String zipCode) {
+            this.zipCode = zipCode;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package net.ravendb.client.benchmarks;
+
+import net.ravendb.client.documents.DocumentStore;
+import net.ravendb.client.documents.queries.HashCalculator;
+import net.ravendb.client.documents.queries.IndexQuery;
+import net.ravendb.client.documents.session.DocumentQuery;
+import net.ravendb.client.documents.session.IDocumentSession;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RQL generation from DocumentQuery and query hash calculation (used as http cache key).
+ * No requests are sent - store points to an unused address and topology updates are disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class QueryBenchmark {
+
+    private DocumentStore store;
+    private IDocumentSession session;
+    private IndexQuery indexQuery;
+    private final List<String> tags = Arrays.asList("tag1", "tag2", "tag3", "tag4");
+
+    @Setup
+    public void setup() {
+        store = new DocumentStore("http://127.0.0.1:1", StubServer.DATABASE);
+        store.getConventions().setDisableTopologyUpdates(true);
+        store.initialize();
+
+        session = store.openSession();
+        indexQuery = createQuery().getIndexQuery();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        store.close();
+    }
+
+    private DocumentQuery<Person> createQuery() {
+        return (DocumentQuery<Person>) session.query(Person.class)
+                .whereEquals("name", "Person 1")
+                .andAlso()
+                .whereBetween("age", 20, 40)
+                .andAlso()
+                .containsAny("tags", tags)
+                .orderByDescending("score")
+                .skip(20)
+                .take(10);
+    }
+
+    @Benchmark
+    public String generateRql() {
+        return createQuery().toString();
+    }
+
+    @Benchmark
+    public String queryHash() {
+        return indexQuery.getQueryHash(store.getConventions().getEntityMapper());
+    }
+
+    @Benchmark
+    public String hashCalculator() throws IOException {
+        HashCalculator hasher = new HashCalculator();
+        hasher.write(indexQuery.getQuery());
+        hasher.write(tags);
+        hasher.write(42L);
+        hasher.write(true);
+        return hasher.getHash();
+    }
+}
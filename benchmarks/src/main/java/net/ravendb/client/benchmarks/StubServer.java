@@ -0,0 +1,77 @@
+package net.ravendb.client.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal http server answering the requests issued by benchmarks, so client code can be measured without RavenDB server.
+ * Request bodies are drained and discarded.
+ */
+public class StubServer implements AutoCloseable {
+
+    public static final String DATABASE = "bench";
+
+    private final HttpServer _server;
+    private final ExecutorService _executor;
+
+    public StubServer() throws IOException {
+        _server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        _executor = Executors.newCachedThreadPool();
+        _server.setExecutor(_executor);
+
+        respondWith("/cluster/node-info", 200, "{\"NodeTag\":\"A\",\"ServerRole\":\"Member\"}");
+        respondWith("/databases/" + DATABASE + "/operations/next-operation-id", 200, "{\"Id\":1,\"NodeTag\":\"A\"}");
+        respondWith("/databases/" + DATABASE + "/bulk_insert", 200, "");
+
+        _server.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + _server.getAddress().getPort();
+    }
+
+    private void respondWith(String path, int statusCode, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        _server.createContext(path, exchange -> {
+            try {
+                drain(exchange);
+
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+                exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+
+                if (bytes.length > 0) {
+                    try (OutputStream output = exchange.getResponseBody()) {
+                        output.write(bytes);
+                    }
+                }
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream input = exchange.getRequestBody()) {
+            //noinspection StatementWithEmptyBody
+            while (input.read(buffer) != -1) {
+                // discard
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        _server.stop(0);
+        _executor.shutdownNow();
+    }
+}
@@ -0,0 +1,100 @@
+package net.ravendb.client.documents.subscriptions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.Constants;
+import net.ravendb.client.benchmarks.Person;
+import net.ravendb.client.benchmarks.StubServer;
+import net.ravendb.client.documents.DocumentStore;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of subscription batch received from server into entities.
+ * Lives in subscriptions package, as SubscriptionBatchBase.initialize is package private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SubscriptionBatchBenchmark {
+
+    @Param({ "16", "256" })
+    public int batchSize;
+
+    private DocumentStore store;
+    private SubscriptionBatch<Person> batch;
+    private BatchFromServer batchFromServer;
+
+    @Setup
+    public void setup() {
+        store = new DocumentStore("http://127.0.0.1:1", StubServer.DATABASE);
+        store.getConventions().setDisableTopologyUpdates(true);
+        store.initialize();
+
+        batch = new SubscriptionBatch<>(Person.class, false, store.getRequestExecutor(), store, StubServer.DATABASE,
+                LogFactory.getLog(SubscriptionBatchBenchmark.class));
+
+        ObjectMapper mapper = store.getConventions().getEntityMapper();
+        Random random = new Random(42);
+
+        List<SubscriptionConnectionServerMessage> messages = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            ObjectNode document = mapper.valueToTree(Person.create(random, i));
+
+            ObjectNode metadata = document.putObject(Constants.Documents.Metadata.KEY);
+            metadata.put(Constants.Documents.Metadata.ID, "people/" + i);
+            metadata.put(Constants.Documents.Metadata.CHANGE_VECTOR, "A:" + i + "-bench");
+            metadata.put(Constants.Documents.Metadata.COLLECTION, "People");
+            metadata.put(Constants.Documents.Metadata.RAVEN_JAVA_TYPE, Person.class.getName());
+
+            SubscriptionConnectionServerMessage message = new SubscriptionConnectionServerMessage();
+            message.setType(SubscriptionConnectionServerMessage.MessageType.DATA);
+            message.setData(document);
+            messages.add(message);
+        }
+
+        batchFromServer = new BatchFromServer();
+        batchFromServer.setMessages(messages);
+        batchFromServer.setIncludes(Collections.emptyList());
+        batchFromServer.setCounterIncludes(Collections.emptyList());
+        batchFromServer.setTimeSeriesIncludes(Collections.emptyList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+    }
+
+    @Benchmark
+    public SubscriptionBatch<Person> initialize() {
+        batch.initialize(batchFromServer);
+        return batch;
+    }
+
+    @Benchmark
+    public void initializeAndReadResults(Blackhole blackhole) {
+        batch.initialize(batchFromServer);
+        for (SubscriptionBatchBase.Item<Person> item : batch.getItems()) {
+            blackhole.consume(item.getResult());
+        }
+    }
+
+    @Benchmark
+    public void initializeAndDeserializeInParallel(Blackhole blackhole) {
+        batch.initialize(batchFromServer);
+        batch.deserializeResults(4, store.getExecutorService());
+        for (SubscriptionBatchBase.Item<Person> item : batch.getItems()) {
+            blackhole.consume(item.getResult());
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package net.ravendb.client.documents;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import net.ravendb.client.Constants;
 import net.ravendb.client.documents.bulkInsert.BulkInsertOperationBase;
 import net.ravendb.client.documents.bulkInsert.BulkInsertOptions;
@@ -46,6 +46,8 @@ import org.apache.hc.core5.http.HttpEntity;
 
 import java.io.*;
 import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
@@ -167,6 +169,8 @@ public class BulkInsertOperation extends BulkInsertOperationBase<Object> impleme
 
     private final Timer _timer;
     private Date _lastWriteToStream;
+    private final long _startTime = System.nanoTime();
+    private long _documentsCount;
     private final Semaphore _streamLock;
     private final Duration _heartbeatCheckInterval = Duration.ofSeconds(40);
 
@@ -189,7 +193,8 @@ public class BulkInsertOperation extends BulkInsertOperationBase<Object> impleme
         _requestExecutor = store.getRequestExecutor(database);
         objectMapper = store.getConventions().getEntityMapper();
 
-        _writer = new BulkInsertWriter(_executorService);
+        _writer = new BulkInsertWriter(_executorService,
+                _conventions.bulkInsert().getBufferSize(), _conventions.bulkInsert().getNumberOfBuffers());
         _writer.initialize();
 
         _countersOperation = new CountersBulkInsertOperation(this);
@@ -402,17 +407,17 @@ public class BulkInsertOperation extends BulkInsertOperationBase<Object> impleme
 
             DocumentInfo documentInfo = new DocumentInfo();
             documentInfo.setMetadataInstance(metadata);
-            ObjectNode json = EntityToJson.convertEntityToJson(entity, _conventions, documentInfo, true);
 
             try (JsonGenerator generator =
-                         objectMapper.getFactory().createGenerator(_writer.getWriter())) {
+                         objectMapper.getFactory().createGenerator(_writer.getBuffer(), JsonEncoding.UTF8)) {
                 generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
 
-                generator.writeTree(json);
+                EntityToJson.writeEntityToJson(generator, entity, _conventions, documentInfo, true);
             }
 
             _writer.write("}");
             flushIfNeeded(false);
+            _documentsCount++;
         } catch (Exception e) {
             handleErrors(id, e);
         }
@@ -571,6 +576,8 @@ public class BulkInsertOperation extends BulkInsertOperationBase<Object> impleme
                 } catch (Exception e) {
                     throwBulkInsertAborted(e, flushEx);
                 }
+
+                _conventions.getMetricsRegistry().onBulkInsertCompleted(_documentsCount, System.nanoTime() - _startTime);
             }
 
             if (_unsubscribeChanges != null) {
@@ -945,6 +952,34 @@ public class BulkInsertOperation extends BulkInsertOperationBase<Object> impleme
         public void store(String name, byte[] bytes, String contentType) {
             _operation._attachmentsOperation.store(_id, name, bytes, contentType);
         }
+
+        public void store(String name, InputStream stream, long length) {
+            store(name, stream, length, null);
+        }
+
+        /**
+         * Stores attachment by copying exactly 'length' bytes from the stream into the bulk insert,
+         * without materializing the whole attachment in memory.
+         * @param name Attachment name
+         * @param stream Attachment content
+         * @param length Number of bytes to read from the stream
+         * @param contentType Content type
+         */
+        public void store(String name, InputStream stream, long length, String contentType) {
+            _operation._attachmentsOperation.store(_id, name, stream, length, contentType);
+        }
+
+        public void store(String name, Path path) {
+            store(name, path, null);
+        }
+
+        public void store(String name, Path path, String contentType) {
+            try (InputStream stream = Files.newInputStream(path)) {
+                store(name, stream, Files.size(path), contentType);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read attachment from " + path, e);
+            }
+        }
     }
 
     private static class AttachmentsBulkInsertOperation {
@@ -965,32 +1000,66 @@ public class BulkInsertOperation extends BulkInsertOperationBase<Object> impleme
                 _operation.executeBeforeStore();
 
                 try {
-                    if (!_operation._first) {
-                        _operation.writeComma();
-                    }
+                    writeHeader(id, name, bytes.length, contentType);
 
-                    _operation._writer.write("{\"Id\":\"");
-                    _operation.writeString(id);
-                    _operation._writer.write("\",\"Type\":\"AttachmentPUT\",\"Name\":\"");
-                    _operation.writeString(name);
+                    _operation._writer.write(bytes);
+                    _operation.flushIfNeeded(false);
+                } catch (Exception e) {
+                    _operation.handleErrors(id, e);
+                }
+            }
+        }
 
-                    if (contentType != null) {
-                        _operation._writer.write("\",\"ContentType\":\"");
-                        _operation.writeString(contentType);
-                    }
+        public void store(String id, String name, InputStream stream, long length, String contentType) {
+            if (length < 0) {
+                throw new IllegalArgumentException("Length cannot be negative");
+            }
 
-                    _operation._writer.write("\",\"ContentLength\":");
-                    _operation._writer.write(String.valueOf(bytes.length));
-                    _operation._writer.write("}");
-                    _operation.flushIfNeeded(false);
+            try (CleanCloseable check = _operation.concurrencyCheck()) {
+                _operation.endPreviousCommandIfNeeded();
 
-                    _operation._writer.write(bytes);
-                    _operation.flushIfNeeded(false);
+                _operation.executeBeforeStore();
+
+                try {
+                    writeHeader(id, name, length, contentType);
+
+                    long remaining = length;
+                    while (remaining > 0) {
+                        int read = _operation._writer.writeFrom(stream, (int) Math.min(remaining, Integer.MAX_VALUE));
+                        if (read == -1) {
+                            throw new IllegalStateException("Attachment '" + name + "' stream ended after "
+                                    + (length - remaining) + " bytes, but its length was declared as " + length);
+                        }
+
+                        remaining -= read;
+                        _operation.flushIfNeeded(false);
+                    }
                 } catch (Exception e) {
                     _operation.handleErrors(id, e);
                 }
             }
         }
+
+        private void writeHeader(String id, String name, long length, String contentType) throws IOException, ExecutionException, InterruptedException {
+            if (!_operation._first) {
+                _operation.writeComma();
+            }
+
+            _operation._writer.write("{\"Id\":\"");
+            _operation.writeString(id);
+            _operation._writer.write("\",\"Type\":\"AttachmentPUT\",\"Name\":\"");
+            _operation.writeString(name);
+
+            if (contentType != null) {
+                _operation._writer.write("\",\"ContentType\":\"");
+                _operation.writeString(contentType);
+            }
+
+            _operation._writer.write("\",\"ContentLength\":");
+            _operation._writer.write(String.valueOf(length));
+            _operation._writer.write("}");
+            _operation.flushIfNeeded(false);
+        }
     }
 
     private static class ReleaseStream implements CleanCloseable {
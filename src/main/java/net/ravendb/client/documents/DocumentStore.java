@@ -9,7 +9,9 @@ import net.ravendb.client.documents.identity.IHiLoIdGenerator;
 import net.ravendb.client.documents.identity.MultiDatabaseHiLoIdGenerator;
 import net.ravendb.client.documents.operations.MaintenanceOperationExecutor;
 import net.ravendb.client.documents.operations.OperationExecutor;
+import net.ravendb.client.documents.session.AsyncDocumentSession;
 import net.ravendb.client.documents.session.DocumentSession;
+import net.ravendb.client.documents.session.IAsyncDocumentSession;
 import net.ravendb.client.documents.session.IDocumentSession;
 import net.ravendb.client.documents.session.SessionOptions;
 import net.ravendb.client.documents.smuggler.DatabaseSmuggler;
@@ -17,6 +19,7 @@ import net.ravendb.client.http.AggressiveCacheMode;
 import net.ravendb.client.http.AggressiveCacheOptions;
 import net.ravendb.client.http.RequestExecutor;
 import net.ravendb.client.primitives.*;
+import net.ravendb.client.util.ThreadUtils;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.time.Duration;
@@ -32,7 +35,7 @@ import java.util.function.Supplier;
  */
 public class DocumentStore extends DocumentStoreBase {
 
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private volatile ExecutorService executorService;
 
     private final ConcurrentMap<DatabaseChangesOptions, IDatabaseChanges> _databaseChanges = new ConcurrentHashMap<>();
 
@@ -68,8 +71,26 @@ public class DocumentStore extends DocumentStoreBase {
 
     }
 
+    /**
+     * Executor used for background work of this store. It is created on first use,
+     * based on {@link DocumentConventions#isUseVirtualThreads()}.
+     * @return executor service
+     */
     public ExecutorService getExecutorService() {
-        return executorService;
+        ExecutorService executor = executorService;
+        if (executor != null) {
+            return executor;
+        }
+
+        synchronized (this) {
+            if (executorService == null) {
+                executorService = getConventions().isUseVirtualThreads() && ThreadUtils.isVirtualThreadsSupported()
+                        ? ThreadUtils.newVirtualThreadPerTaskExecutor()
+                        : Executors.newCachedThreadPool();
+            }
+
+            return executorService;
+        }
     }
 
     /**
@@ -140,7 +161,9 @@ public class DocumentStore extends DocumentStoreBase {
             kvp.getValue().getValue().close();
         }
 
-        executorService.shutdown();
+        if (executorService != null) {
+            executorService.shutdown();
+        }
     }
 
     /**
@@ -177,6 +200,40 @@ public class DocumentStore extends DocumentStoreBase {
         return session;
     }
 
+    /**
+     * Opens the asynchronous session.
+     */
+    @Override
+    public IAsyncDocumentSession openAsyncSession() {
+        SessionOptions sessionOptions = new SessionOptions();
+        sessionOptions.setDisableAtomicDocumentWritesInClusterWideTransaction(getConventions().getDisableAtomicDocumentWritesInClusterWideTransaction());
+        return openAsyncSession(sessionOptions);
+    }
+
+    /**
+     * Opens the asynchronous session for a particular database
+     */
+    @Override
+    public IAsyncDocumentSession openAsyncSession(String database) {
+        SessionOptions sessionOptions = new SessionOptions();
+        sessionOptions.setDatabase(database);
+        sessionOptions.setDisableAtomicDocumentWritesInClusterWideTransaction(getConventions().getDisableAtomicDocumentWritesInClusterWideTransaction());
+
+        return openAsyncSession(sessionOptions);
+    }
+
+    @Override
+    public IAsyncDocumentSession openAsyncSession(SessionOptions options) {
+        assertInitialized();
+        ensureNotClosed();
+
+        UUID sessionId = UUID.randomUUID();
+        AsyncDocumentSession session = new AsyncDocumentSession(this, sessionId, options);
+        registerEvents(session);
+        afterSessionCreated(session);
+        return session;
+    }
+
     @Override
     public RequestExecutor getRequestExecutor() {
         return getRequestExecutor(null);
@@ -196,14 +253,14 @@ public class DocumentStore extends DocumentStoreBase {
         final String effectiveDatabase = database;
 
         Supplier<RequestExecutor> createRequestExecutor = () -> {
-            RequestExecutor requestExecutor = RequestExecutor.create(getUrls(), effectiveDatabase, getCertificate(), getCertificatePrivateKeyPassword(), getTrustStore(), executorService, getConventions());
+            RequestExecutor requestExecutor = RequestExecutor.create(getUrls(), effectiveDatabase, getCertificate(), getCertificatePrivateKeyPassword(), getTrustStore(), getExecutorService(), getConventions());
             registerEvents(requestExecutor);
 
             return requestExecutor;
         };
 
         Supplier<RequestExecutor> createRequestExecutorForSingleNode = () -> {
-            RequestExecutor forSingleNode = RequestExecutor.createForSingleNodeWithConfigurationUpdates(getUrls()[0], effectiveDatabase, getCertificate(), getCertificatePrivateKeyPassword(), getTrustStore(), executorService, getConventions());
+            RequestExecutor forSingleNode = RequestExecutor.createForSingleNodeWithConfigurationUpdates(getUrls()[0], effectiveDatabase, getCertificate(), getCertificatePrivateKeyPassword(), getTrustStore(), getExecutorService(), getConventions());
             registerEvents(forSingleNode);
 
             return forSingleNode;
@@ -326,7 +383,7 @@ public class DocumentStore extends DocumentStoreBase {
     }
 
     protected IDatabaseChanges createDatabaseChanges(DatabaseChangesOptions node) {
-        return new DatabaseChanges(getRequestExecutor(node.getDatabaseName()), node.getDatabaseName(), executorService, () -> _databaseChanges.remove(node), node.getNodeTag());
+        return new DatabaseChanges(getRequestExecutor(node.getDatabaseName()), node.getDatabaseName(), getExecutorService(), () -> _databaseChanges.remove(node), node.getNodeTag());
     }
 
     @Override
@@ -453,4 +510,26 @@ public class DocumentStore extends DocumentStoreBase {
 
         return new BulkInsertOperation(getEffectiveDatabase(database), this, options);
     }
+
+    @Override
+    public ParallelBulkInsertOperation parallelBulkInsert() {
+        return parallelBulkInsert(null, null);
+    }
+
+    @Override
+    public ParallelBulkInsertOperation parallelBulkInsert(String database) {
+        return parallelBulkInsert(database, null);
+    }
+
+    @Override
+    public ParallelBulkInsertOperation parallelBulkInsert(BulkInsertOptions options) {
+        return parallelBulkInsert(null, options);
+    }
+
+    @Override
+    public ParallelBulkInsertOperation parallelBulkInsert(String database, BulkInsertOptions options) {
+        assertInitialized();
+
+        return new ParallelBulkInsertOperation(getEffectiveDatabase(database), this, options);
+    }
 }
@@ -111,6 +111,12 @@ public abstract class DocumentStoreBase implements IDocumentStore {
 
     public abstract IDocumentSession openSession(SessionOptions sessionOptions);
 
+    public abstract IAsyncDocumentSession openAsyncSession();
+
+    public abstract IAsyncDocumentSession openAsyncSession(String database);
+
+    public abstract IAsyncDocumentSession openAsyncSession(SessionOptions sessionOptions);
+
     public void executeIndex(IAbstractIndexCreationTask task) {
         executeIndex(task, null);
     }
@@ -206,6 +212,14 @@ public abstract class DocumentStoreBase implements IDocumentStore {
 
     public abstract BulkInsertOperation bulkInsert(BulkInsertOptions options);
 
+    public abstract ParallelBulkInsertOperation parallelBulkInsert();
+
+    public abstract ParallelBulkInsertOperation parallelBulkInsert(String database);
+
+    public abstract ParallelBulkInsertOperation parallelBulkInsert(String database, BulkInsertOptions options);
+
+    public abstract ParallelBulkInsertOperation parallelBulkInsert(BulkInsertOptions options);
+
     private final DocumentSubscriptions _subscriptions;
 
     public DocumentSubscriptions subscriptions() {
@@ -223,6 +223,26 @@ public interface IDocumentStore extends IDisposalNotification {
      */
     IDocumentSession openSession(SessionOptions sessionOptions);
 
+    /**
+     * Opens the asynchronous session
+     * @return Asynchronous document session
+     */
+    IAsyncDocumentSession openAsyncSession();
+
+    /**
+     * Opens the asynchronous session for a particular database
+     * @param database Database to use
+     * @return Asynchronous document session
+     */
+    IAsyncDocumentSession openAsyncSession(String database);
+
+    /**
+     * Opens the asynchronous session with the specified options.
+     * @param sessionOptions Session options to use
+     * @return Asynchronous document session
+     */
+    IAsyncDocumentSession openAsyncSession(SessionOptions sessionOptions);
+
     /**
      * Executes the index creation
      * @param task Index Creation task to use
@@ -271,6 +291,14 @@ public interface IDocumentStore extends IDisposalNotification {
 
     BulkInsertOperation bulkInsert(BulkInsertOptions options);
 
+    ParallelBulkInsertOperation parallelBulkInsert();
+
+    ParallelBulkInsertOperation parallelBulkInsert(String database);
+
+    ParallelBulkInsertOperation parallelBulkInsert(String database, BulkInsertOptions options);
+
+    ParallelBulkInsertOperation parallelBulkInsert(BulkInsertOptions options);
+
     DocumentSubscriptions subscriptions();
 
     String getDatabase();
@@ -0,0 +1,232 @@
+package net.ravendb.client.documents;
+
+import net.ravendb.client.Constants;
+import net.ravendb.client.documents.bulkInsert.BulkInsertOptions;
+import net.ravendb.client.documents.identity.GenerateEntityIdOnTheClient;
+import net.ravendb.client.documents.operations.BulkInsertProgress;
+import net.ravendb.client.documents.session.BulkInsertOnProgressEventArgs;
+import net.ravendb.client.documents.session.IMetadataDictionary;
+import net.ravendb.client.exceptions.BulkInsertClientException;
+import net.ravendb.client.exceptions.documents.bulkinsert.BulkInsertAbortedException;
+import net.ravendb.client.primitives.CleanCloseable;
+import net.ravendb.client.primitives.EventHandler;
+import net.ravendb.client.primitives.EventHelper;
+import net.ravendb.client.primitives.Reference;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulk insert which accepts concurrent store calls and spreads documents over several bulk insert streams.
+ * Documents are routed to streams by id, so stores of the same id keep their order.
+ */
+public class ParallelBulkInsertOperation implements CleanCloseable {
+
+    private final BulkInsertOperation[] _streams;
+    private final ReentrantLock[] _streamLocks;
+    private final BulkInsertProgress[] _progress;
+    private final GenerateEntityIdOnTheClient _generateEntityIdOnTheClient;
+    private final AtomicReference<RuntimeException> _error = new AtomicReference<>();
+
+    private final List<EventHandler<BulkInsertOnProgressEventArgs>> _onProgress = new CopyOnWriteArrayList<>();
+    private boolean _onProgressInitialized;
+
+    public ParallelBulkInsertOperation(String database, DocumentStore store) {
+        this(database, store, null);
+    }
+
+    public ParallelBulkInsertOperation(String database, DocumentStore store, BulkInsertOptions options) {
+        this(database, store, options, store.getConventions().bulkInsert().getParallelStreams());
+    }
+
+    public ParallelBulkInsertOperation(String database, DocumentStore store, BulkInsertOptions options, int numberOfStreams) {
+        if (numberOfStreams <= 0) {
+            throw new IllegalArgumentException("NumberOfStreams must be positive");
+        }
+
+        _streams = new BulkInsertOperation[numberOfStreams];
+        _streamLocks = new ReentrantLock[numberOfStreams];
+        _progress = new BulkInsertProgress[numberOfStreams];
+
+        _generateEntityIdOnTheClient = new GenerateEntityIdOnTheClient(store.getConventions(),
+                entity -> store.getConventions().generateDocumentId(database, entity));
+
+        for (int i = 0; i < numberOfStreams; i++) {
+            _streams[i] = new BulkInsertOperation(database, store, options);
+            _streamLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public int getNumberOfStreams() {
+        return _streams.length;
+    }
+
+    /**
+     * Registers progress handler. Reported progress is aggregated over all streams.
+     * Handlers must be registered before the first store.
+     * @param handler Progress handler
+     */
+    public void addOnProgress(EventHandler<BulkInsertOnProgressEventArgs> handler) {
+        _onProgress.add(handler);
+
+        synchronized (_progress) {
+            if (_onProgressInitialized) {
+                return;
+            }
+
+            _onProgressInitialized = true;
+
+            for (int i = 0; i < _streams.length; i++) {
+                int streamIndex = i;
+                _streams[i].addOnProgress((sender, event) -> onStreamProgress(streamIndex, event.getProgress()));
+            }
+        }
+    }
+
+    public void removeOnProgress(EventHandler<BulkInsertOnProgressEventArgs> handler) {
+        _onProgress.remove(handler);
+    }
+
+    private void onStreamProgress(int streamIndex, BulkInsertProgress progress) {
+        BulkInsertProgress aggregated = new BulkInsertProgress();
+
+        synchronized (_progress) {
+            _progress[streamIndex] = progress;
+
+            for (BulkInsertProgress streamProgress : _progress) {
+                if (streamProgress == null) {
+                    continue;
+                }
+
+                aggregated.setTotal(aggregated.getTotal() + streamProgress.getTotal());
+                aggregated.setBatchCount(aggregated.getBatchCount() + streamProgress.getBatchCount());
+                aggregated.setDocumentsProcessed(aggregated.getDocumentsProcessed() + streamProgress.getDocumentsProcessed());
+                aggregated.setAttachmentsProcessed(aggregated.getAttachmentsProcessed() + streamProgress.getAttachmentsProcessed());
+                aggregated.setCountersProcessed(aggregated.getCountersProcessed() + streamProgress.getCountersProcessed());
+                aggregated.setTimeSeriesProcessed(aggregated.getTimeSeriesProcessed() + streamProgress.getTimeSeriesProcessed());
+            }
+
+            aggregated.setLastProcessedId(progress.getLastProcessedId());
+        }
+
+        EventHelper.invoke(_onProgress, this, new BulkInsertOnProgressEventArgs(aggregated));
+    }
+
+    public String store(Object entity) {
+        return store(entity, (IMetadataDictionary) null);
+    }
+
+    public String store(Object entity, IMetadataDictionary metadata) {
+        String id;
+        if (metadata == null || !metadata.containsKey(Constants.Documents.Metadata.ID)) {
+            id = getId(entity);
+        } else {
+            id = (String) metadata.get(Constants.Documents.Metadata.ID);
+        }
+
+        store(entity, id, metadata);
+
+        return id;
+    }
+
+    public void store(Object entity, String id) {
+        store(entity, id, null);
+    }
+
+    public void store(Object entity, String id, IMetadataDictionary metadata) {
+        int streamIndex = getStreamIndexFor(id);
+
+        // store might block on network, so we don't use monitors which would pin virtual threads
+        _streamLocks[streamIndex].lock();
+        try {
+            assertNotFailed();
+
+            _streams[streamIndex].store(entity, id, metadata);
+        } catch (RuntimeException e) {
+            if (isStreamFailure(e)) {
+                _error.compareAndSet(null, e);
+            }
+            throw e;
+        } finally {
+            _streamLocks[streamIndex].unlock();
+        }
+    }
+
+    private String getId(Object entity) {
+        Reference<String> idRef = new Reference<>();
+        if (_generateEntityIdOnTheClient.tryGetIdFromInstance(entity, idRef)) {
+            return idRef.value;
+        }
+
+        return _generateEntityIdOnTheClient.generateDocumentKeyForStorage(entity);
+    }
+
+    private int getStreamIndexFor(String id) {
+        if (id == null) {
+            return 0;
+        }
+
+        return Math.floorMod(id.toLowerCase(Locale.ROOT).hashCode(), _streams.length);
+    }
+
+    private static boolean isStreamFailure(RuntimeException e) {
+        // invalid arguments (i.e. empty id) are rejected before anything is written, so the stream is still usable
+        return !(e instanceof BulkInsertClientException
+                || e instanceof IllegalArgumentException
+                || e instanceof UnsupportedOperationException);
+    }
+
+    private void assertNotFailed() {
+        RuntimeException error = _error.get();
+        if (error != null) {
+            throw new BulkInsertAbortedException("Bulk insert was aborted, because one of the parallel streams has failed", error);
+        }
+    }
+
+    public void abort() {
+        RuntimeException error = null;
+
+        for (BulkInsertOperation stream : _streams) {
+            try {
+                stream.abort();
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public void close() {
+        RuntimeException error = null;
+
+        for (int i = 0; i < _streams.length; i++) {
+            _streamLocks[i].lock();
+            try {
+                _streams[i].close();
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            } finally {
+                _streamLocks[i].unlock();
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+}
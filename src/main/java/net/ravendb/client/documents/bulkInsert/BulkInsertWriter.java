@@ -11,6 +11,10 @@ public class BulkInsertWriter extends BulkInsertWriterBase {
         super(executorService);
     }
 
+    public BulkInsertWriter(ExecutorService executorService, int maxSizeInBuffer, int numberOfBuffers) {
+        super(executorService, maxSizeInBuffer, numberOfBuffers);
+    }
+
     public boolean flushIfNeeded() throws IOException, ExecutionException, InterruptedException {
         return flushIfNeeded(false);
     }
@@ -3,23 +3,24 @@ package net.ravendb.client.documents.bulkInsert;
 import net.ravendb.client.documents.BulkInsertOperation;
 
 import java.io.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
 
 public abstract class BulkInsertWriterBase implements Closeable {
 
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    public static final int DEFAULT_NUMBER_OF_BUFFERS = 2;
+
     private final ExecutorService _executorService;
 
-    protected final int _maxSizeInBuffer = 1024 * 1024;
+    protected final int _maxSizeInBuffer;
 
     private CompletableFuture<Void> _asyncWrite = CompletableFuture.completedFuture(null);
 
     protected Writer _currentWriteStream;
-    private Writer _backgroundWriteStream;
 
-    private ByteArrayOutputStream _memoryBuffer;
-    private ByteArrayOutputStream _backgroundMemoryBuffer;
+    private PooledBuffer _memoryBuffer;
+    private final BlockingQueue<PooledBuffer> _freeBuffers;
 
     private boolean _isInitialWrite = true;
 
@@ -28,16 +29,30 @@ public abstract class BulkInsertWriterBase implements Closeable {
     public final BulkInsertOperation.BulkInsertStreamExposerContent streamExposer;
 
     protected BulkInsertWriterBase(ExecutorService executorService) {
+        this(executorService, DEFAULT_BUFFER_SIZE, DEFAULT_NUMBER_OF_BUFFERS);
+    }
+
+    protected BulkInsertWriterBase(ExecutorService executorService, int maxSizeInBuffer, int numberOfBuffers) {
+        if (maxSizeInBuffer <= 0) {
+            throw new IllegalArgumentException("MaxSizeInBuffer must be positive");
+        }
+
+        if (numberOfBuffers < 2) {
+            throw new IllegalArgumentException("NumberOfBuffers must be at least 2");
+        }
+
         _executorService = executorService;
+        _maxSizeInBuffer = maxSizeInBuffer;
         streamExposer = new BulkInsertOperation.BulkInsertStreamExposerContent();
 
-        _memoryBuffer = new ByteArrayOutputStream();
-        _backgroundMemoryBuffer = new ByteArrayOutputStream();
-
-        _currentWriteStream = new OutputStreamWriter(_memoryBuffer);
-        _backgroundWriteStream = new OutputStreamWriter(_backgroundMemoryBuffer);
+        // one buffer is being filled, the rest are either free or waiting to be written to the request stream
+        _freeBuffers = new ArrayBlockingQueue<>(numberOfBuffers - 1);
+        for (int i = 0; i < numberOfBuffers - 1; i++) {
+            _freeBuffers.add(new PooledBuffer(maxSizeInBuffer));
+        }
 
-        _asyncWrite = CompletableFuture.completedFuture(null);
+        _memoryBuffer = new PooledBuffer(maxSizeInBuffer);
+        _currentWriteStream = _memoryBuffer.writer;
     }
 
     public void initialize() {
@@ -52,28 +67,36 @@ public abstract class BulkInsertWriterBase implements Closeable {
         return _memoryBuffer;
     }
 
+    /**
+     * Reads from the stream directly into the current buffer.
+     * @param stream Source stream
+     * @param maxLength Maximum number of bytes to read
+     * @return number of bytes read, or -1 if the end of the stream was reached
+     * @throws IOException if read fails
+     */
+    public int writeFrom(InputStream stream, int maxLength) throws IOException {
+        return _memoryBuffer.readFrom(stream, maxLength);
+    }
+
     public boolean flushIfNeeded() throws IOException, ExecutionException, InterruptedException {
         return flushIfNeeded(false);
     }
 
     public boolean flushIfNeeded(boolean force) throws IOException, ExecutionException, InterruptedException {
         if (_memoryBuffer.size() > _maxSizeInBuffer || _asyncWrite.isDone() || force) {
-            _asyncWrite.get();
-
-            Writer tmp = _currentWriteStream;
-            _currentWriteStream = _backgroundWriteStream;
-            _backgroundWriteStream = tmp;
+            if (_asyncWrite.isCompletedExceptionally()) {
+                _asyncWrite.get();
+            }
 
-            ByteArrayOutputStream tmpBaos = _memoryBuffer;
-            _memoryBuffer = _backgroundMemoryBuffer;
-            _backgroundMemoryBuffer = tmpBaos;
+            PooledBuffer buffer = _memoryBuffer;
 
-            _memoryBuffer.reset();
+            // blocks when all buffers are still waiting to be sent
+            _memoryBuffer = _freeBuffers.take();
+            _currentWriteStream = _memoryBuffer.writer;
 
             onCurrentWriteStreamSet(_memoryBuffer);
 
-            final byte[] buffer = _backgroundMemoryBuffer.toByteArray();
-            _asyncWrite = writeToStream(_requestBodyStream, buffer, _isInitialWrite || force);
+            _asyncWrite = writeToStream(_asyncWrite, buffer, _isInitialWrite || force);
             _isInitialWrite = false;
             return _isInitialWrite || force;
         }
@@ -85,19 +108,28 @@ public abstract class BulkInsertWriterBase implements Closeable {
         // empty
     }
 
-    private CompletableFuture<Void> writeToStream(OutputStream dst, byte[] buffer, boolean forceFlush) {
-        return CompletableFuture.supplyAsync(() -> {
+    private CompletableFuture<Void> writeToStream(CompletableFuture<Void> previousWrite, PooledBuffer buffer, boolean forceFlush) {
+        return previousWrite.handleAsync((result, error) -> {
             try {
-                dst.write(buffer);
+                if (error == null) {
+                    buffer.writeTo(_requestBodyStream);
 
-                if (forceFlush) {
-                    // send this chunk
-                    _requestBodyStream.flush();
+                    if (forceFlush) {
+                        // send this chunk
+                        _requestBodyStream.flush();
+                    }
                 }
-
             } catch (IOException e) {
                 throw new RuntimeException(e);
+            } finally {
+                buffer.reset();
+                _freeBuffers.add(buffer);
             }
+
+            if (error != null) {
+                throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+            }
+
             return null;
         }, _executorService);
     }
@@ -127,12 +159,37 @@ public abstract class BulkInsertWriterBase implements Closeable {
                     throw new RuntimeException(e);
                 }
 
-                byte[] buffer = _memoryBuffer.toByteArray();
-                _requestBodyStream.write(buffer);
+                _memoryBuffer.writeTo(_requestBodyStream);
                 _requestBodyStream.flush();
             }
         } finally {
             streamExposer.done();
         }
     }
+
+    /**
+     * Reusable buffer - written to the request stream directly from its backing array, without a copy.
+     */
+    private static class PooledBuffer extends ByteArrayOutputStream {
+        private final Writer writer = new OutputStreamWriter(this, StandardCharsets.UTF_8);
+
+        PooledBuffer(int maxSizeInBuffer) {
+            // leave some room for the write which exceeds the flush threshold
+            super(maxSizeInBuffer + maxSizeInBuffer / 4);
+        }
+
+        int readFrom(InputStream stream, int maxLength) throws IOException {
+            int toRead = Math.min(buf.length - count, maxLength);
+            if (toRead <= 0) {
+                return 0; // buffer is full, it will be sent on next flush
+            }
+
+            int read = stream.read(buf, count, toRead);
+            if (read > 0) {
+                count += read;
+            }
+
+            return read;
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package net.ravendb.client.documents.changes;
 
 import net.ravendb.client.documents.DocumentStore;
+import net.ravendb.client.http.DocumentCache;
+import net.ravendb.client.http.HttpCache;
 import net.ravendb.client.http.RequestExecutor;
 import net.ravendb.client.primitives.CleanCloseable;
 import net.ravendb.client.primitives.ExceptionsUtils;
@@ -18,9 +20,11 @@ public class EvictItemsFromCacheBasedOnChanges implements CleanCloseable, IObser
     private final RequestExecutor _requestExecutor;
     private final CompletableFuture _taskConnected;
     private CleanCloseable _aggressiveCachingSubscription;
+    private final boolean _fineGrainedInvalidation;
 
     public EvictItemsFromCacheBasedOnChanges(DocumentStore store, String databaseName) {
         _databaseName = databaseName;
+        _fineGrainedInvalidation = store.getConventions().aggressiveCache().isFineGrainedInvalidation();
         _requestExecutor = store.getRequestExecutor(databaseName);
         _changes = new DatabaseChanges(_requestExecutor, databaseName, store.getExecutorService(), null, null);
 
@@ -29,20 +33,35 @@ public class EvictItemsFromCacheBasedOnChanges implements CleanCloseable, IObser
 
     @Override
     public void onNext(DatabaseChange value) {
+        HttpCache cache = _requestExecutor.getCache();
+
         if (value instanceof DocumentChange) {
             DocumentChange documentChange = (DocumentChange) value;
+
+            DocumentCache documentCache = _requestExecutor.getDocumentCache();
+            if (documentCache != null) {
+                // stale documents are never used, but there is no point keeping them
+                documentCache.invalidate(documentChange.getId());
+            }
+
             if (AggressiveCacheChange.shouldUpdateAggressiveCache(documentChange)) {
-                _requestExecutor.getCache().generation.incrementAndGet();
+                if (_fineGrainedInvalidation) {
+                    cache.invalidateDocument(documentChange.getId());
+                } else {
+                    cache.invalidateAll();
+                }
             }
         } else if (value instanceof IndexChange) {
             IndexChange indexChange = (IndexChange) value;
             if (AggressiveCacheChange.shouldUpdateAggressiveCache(indexChange)) {
-                _requestExecutor.getCache().generation.incrementAndGet();
+                if (_fineGrainedInvalidation) {
+                    cache.invalidateIndex();
+                } else {
+                    cache.invalidateAll();
+                }
             }
         } else if (value instanceof AggressiveCacheChange) {
-            AggressiveCacheChange aggressiveCacheChange = (AggressiveCacheChange) value;
-            _requestExecutor.getCache().generation.incrementAndGet();
-
+            cache.invalidateAll();
         }
     }
 
@@ -73,7 +92,8 @@ public class EvictItemsFromCacheBasedOnChanges implements CleanCloseable, IObser
 
         try {
             ChangesSupportedFeatures changesSupportedFeatures = _changes.getSupportedFeatures().get();
-            if (changesSupportedFeatures.isAggressiveCachingChange()) {
+            // aggressive caching change doesn't carry any details, so we can't use it for fine-grained invalidation
+            if (changesSupportedFeatures.isAggressiveCachingChange() && !_fineGrainedInvalidation) {
                 IChangesObservable<AggressiveCacheChange> forAggressiveCachingChanges = _changes.forAggressiveCaching();
                 _aggressiveCachingSubscription = forAggressiveCachingChanges.subscribe((IObserver<AggressiveCacheChange>) (IObserver<?>) this);
             } else {
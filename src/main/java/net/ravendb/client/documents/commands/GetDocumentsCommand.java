@@ -1,6 +1,8 @@
 package net.ravendb.client.documents.commands;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import net.ravendb.client.Constants;
 import net.ravendb.client.documents.conventions.DocumentConventions;
 import net.ravendb.client.documents.operations.timeSeries.AbstractTimeSeriesRange;
@@ -10,6 +12,8 @@ import net.ravendb.client.documents.operations.timeSeries.TimeSeriesTimeRange;
 import net.ravendb.client.documents.queries.HashCalculator;
 import net.ravendb.client.documents.session.TransactionMode;
 import net.ravendb.client.extensions.JsonExtensions;
+import net.ravendb.client.http.DocumentCache;
+import net.ravendb.client.http.HttpCacheDependencies;
 import net.ravendb.client.http.RavenCommand;
 import net.ravendb.client.http.ServerNode;
 import net.ravendb.client.json.ContentProviderHttpEntity;
@@ -53,6 +57,8 @@ public class GetDocumentsCommand extends RavenCommand<GetDocumentsResult> {
     private String _exclude;
     private String _startAfter;
 
+    private DocumentCache _documentCache;
+
     public GetDocumentsCommand(int start, int pageSize) {
         super(GetDocumentsResult.class);
         _start = start;
@@ -326,6 +332,19 @@ public class GetDocumentsCommand extends RavenCommand<GetDocumentsResult> {
         return hasher.getHash();
     }
 
+    @Override
+    public boolean isStreamingResponse() {
+        return true;
+    }
+
+    /**
+     * Document cache used to avoid parsing responses returned from HTTP cache.
+     * @param documentCache document cache or null
+     */
+    public void setDocumentCache(DocumentCache documentCache) {
+        _documentCache = documentCache;
+    }
+
     @Override
     public void setResponse(String response, boolean fromCache) throws IOException {
         if (response == null) {
@@ -333,7 +352,122 @@ public class GetDocumentsCommand extends RavenCommand<GetDocumentsResult> {
             return;
         }
 
+        if (fromCache && tryGetFromDocumentCache()) {
+            return;
+        }
+
         result = mapper.readValue(response, resultClass);
+        storeInDocumentCache();
+    }
+
+    @Override
+    public void setStreamingResponse(JsonParser response, boolean fromCache) throws IOException {
+        if (response == null) {
+            result = null;
+            return;
+        }
+
+        result = mapper.readValue(response, resultClass);
+        storeInDocumentCache();
+    }
+
+    /**
+     * @return id of the only requested document when this is a plain load (no includes, not metadata only), otherwise null
+     */
+    public String getSingleDocumentId() {
+        if (_metadataOnly || _txMode == TransactionMode.CLUSTER_WIDE || hasIncludes()) {
+            return null;
+        }
+
+        if (_id != null) {
+            return _id;
+        }
+
+        return _ids != null && _ids.length == 1 ? _ids[0] : null;
+    }
+
+    private List<String> getDocumentCacheIds() {
+        if (_documentCache == null || _metadataOnly || _txMode == TransactionMode.CLUSTER_WIDE || hasIncludes()) {
+            return null;
+        }
+
+        if (_id != null) {
+            return Collections.singletonList(_id);
+        }
+
+        if (_ids == null) {
+            return null;
+        }
+
+        Set<String> uniqueIds = new LinkedHashSet<>();
+        for (String id : _ids) {
+            if (id == null) {
+                return null;
+            }
+            uniqueIds.add(id);
+        }
+
+        return new ArrayList<>(uniqueIds);
+    }
+
+    private boolean tryGetFromDocumentCache() {
+        List<String> ids = getDocumentCacheIds();
+        if (ids == null || etag == null) {
+            return false;
+        }
+
+        ArrayNode results = _documentCache.get(etag, ids);
+        if (results == null) {
+            return false;
+        }
+
+        GetDocumentsResult cachedResult = new GetDocumentsResult();
+        cachedResult.setResults(results);
+        cachedResult.setIncludes(mapper.createObjectNode());
+        result = cachedResult;
+        return true;
+    }
+
+    private void storeInDocumentCache() {
+        List<String> ids = getDocumentCacheIds();
+        if (ids == null || etag == null || result == null) {
+            return;
+        }
+
+        _documentCache.set(etag, ids, result.getResults());
+    }
+
+    @Override
+    public HttpCacheDependencies getCacheDependencies() {
+        if (_id == null && _ids == null) {
+            return null;
+        }
+
+        // included items might come from any other document
+        if (hasIncludes()) {
+            return null;
+        }
+
+        HttpCacheDependencies dependencies = new HttpCacheDependencies();
+        if (_id != null) {
+            dependencies.addDocument(_id);
+        } else {
+            for (String id : _ids) {
+                dependencies.addDocument(id);
+            }
+        }
+
+        return dependencies;
+    }
+
+    private boolean hasIncludes() {
+        return _includes != null && _includes.length > 0
+                || _includeAllCounters
+                || _counters != null && _counters.length > 0
+                || _timeSeriesIncludes != null && !_timeSeriesIncludes.isEmpty()
+                || _revisionsIncludeByChangeVector != null
+                || _revisionsIncludeByDateTime != null
+                || _compareExchangeValueIncludes != null && _compareExchangeValueIncludes.length > 0;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package net.ravendb.client.documents.commands;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import net.ravendb.client.Parameters;
 import net.ravendb.client.documents.conventions.DocumentConventions;
 import net.ravendb.client.documents.queries.IndexQuery;
@@ -46,6 +47,11 @@ public class QueryCommand extends AbstractQueryCommand<QueryResult, Parameters>
     }
 
 
+    @Override
+    public boolean isStreamingResponse() {
+        return true;
+    }
+
     @Override
     public void setResponse(String response, boolean fromCache) throws IOException {
         if (response == null) {
@@ -53,6 +59,18 @@ public class QueryCommand extends AbstractQueryCommand<QueryResult, Parameters>
             return;
         }
 
+        try (JsonParser parser = mapper.getFactory().createParser(response)) {
+            setStreamingResponse(parser, fromCache);
+        }
+    }
+
+    @Override
+    public void setStreamingResponse(JsonParser response, boolean fromCache) throws IOException {
+        if (response == null) {
+            result = null;
+            return;
+        }
+
         result = mapper.readValue(response, QueryResult.class);
         if (fromCache) {
             result.setDurationInMs(-1);
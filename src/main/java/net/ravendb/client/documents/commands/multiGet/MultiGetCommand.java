@@ -3,7 +3,6 @@ package net.ravendb.client.documents.commands.multiGet;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import net.ravendb.client.Constants;
@@ -22,6 +21,7 @@ import org.apache.hc.core5.http.HttpStatus;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -286,8 +286,12 @@ public class MultiGetCommand extends RavenCommand<List<GetResponse>> implements
                         throwInvalidResponse();
                     }
 
-                    TreeNode treeNode = mapper.readTree(parser);
-                    getResponse.setResult(treeNode.toString());
+                    // copy raw tokens instead of building intermediate tree
+                    StringWriter resultWriter = new StringWriter();
+                    try (JsonGenerator generator = mapper.getFactory().createGenerator(resultWriter)) {
+                        generator.copyCurrentStructure(parser);
+                    }
+                    getResponse.setResult(resultWriter.toString());
                     continue;
                 case "Headers":
                     if (parser.nextToken() == null) {
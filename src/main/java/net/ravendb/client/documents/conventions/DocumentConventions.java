@@ -5,11 +5,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import net.ravendb.client.Constants;
+import net.ravendb.client.documents.bulkInsert.BulkInsertWriterBase;
 import net.ravendb.client.documents.operations.configuration.ClientConfiguration;
 import net.ravendb.client.documents.session.ShardedBatchBehavior;
 import net.ravendb.client.exceptions.RavenException;
 import net.ravendb.client.extensions.JsonExtensions;
 import net.ravendb.client.http.*;
+import net.ravendb.client.metrics.MetricsRegistry;
 import net.ravendb.client.primitives.Reference;
 import net.ravendb.client.primitives.Tuple;
 import net.ravendb.client.util.Inflector;
@@ -23,6 +25,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -37,7 +41,7 @@ public class DocumentConventions {
         defaultForServerConventions.freeze();
     }
 
-    private static final Map<Class, String> _cachedDefaultTypeCollectionNames = new HashMap<>();
+    private static final Map<Class, String> _cachedDefaultTypeCollectionNames = new ConcurrentHashMap<>();
 
     private final List<Tuple<Class, IValueForQueryConverter<Object>>> _listOfQueryValueToObjectConverters = new ArrayList<>();
 
@@ -45,7 +49,7 @@ public class DocumentConventions {
 
     private boolean _frozen;
     private ClientConfiguration _originalConfiguration;
-    private final Map<Class, Field> _idPropertyCache = new HashMap<>();
+    private final ConcurrentMap<Class<?>, EntityModel> _entityModels = new ConcurrentHashMap<>();
     private boolean _saveEnumsAsIntegers;
     private char _identityPartsSeparator;
     private boolean _disableTopologyUpdates;
@@ -79,14 +83,25 @@ public class DocumentConventions {
     private LoadBalanceBehavior _loadBalanceBehavior;
     private ReadBalanceBehavior _readBalanceBehavior;
     private int _maxHttpCacheSize;
+    private HttpCacheStorage _httpCacheStorage;
+    private int _maxNumberOfCachedDocuments;
     private ObjectMapper _entityMapper;
+    private boolean _useBytecodeAcceleration;
     private Boolean _useHttpCompression;
     private Boolean _useHttpDecompression;
     private HttpCompressionAlgorithm _httpCompressionAlgorithm = HttpCompressionAlgorithm.Gzip;
     private boolean _sendApplicationIdentifier;
+    private boolean _useVirtualThreads;
+    private MetricsRegistry _metricsRegistry = MetricsRegistry.NO_OP;
 
     private final BulkInsertConventions _bulkInsert;
 
+    private final HttpClientConventions _httpClient;
+
+    private final RequestHedgingConventions _requestHedging;
+    private final LoadCoalescingConventions _loadCoalescing;
+    private final LoadChunkingConventions _loadChunking;
+
     private final AggressiveCacheConventions _aggressiveCache;
 
 
@@ -98,6 +113,7 @@ public class DocumentConventions {
     public static class AggressiveCacheConventions {
         private final DocumentConventions _conventions;
         private final AggressiveCacheOptions _aggressiveCacheOptions;
+        private boolean _fineGrainedInvalidation;
 
         public AggressiveCacheConventions(DocumentConventions conventions) {
             _conventions = conventions;
@@ -119,6 +135,29 @@ public class DocumentConventions {
         public void setMode(AggressiveCacheMode mode) {
             _aggressiveCacheOptions.setMode(mode);
         }
+
+        /**
+         * When enabled, change notifications invalidate only aggressively cached responses which depend on
+         * changed document or index. Responses with unknown dependencies (e.g. queries) are invalidated on any change.
+         * Requires subscription to all document and index changes.
+         * Default: false
+         * @return true if fine-grained invalidation is enabled
+         */
+        public boolean isFineGrainedInvalidation() {
+            return _fineGrainedInvalidation;
+        }
+
+        /**
+         * When enabled, change notifications invalidate only aggressively cached responses which depend on
+         * changed document or index. Responses with unknown dependencies (e.g. queries) are invalidated on any change.
+         * Requires subscription to all document and index changes.
+         * Default: false
+         * @param fineGrainedInvalidation true to enable fine-grained invalidation
+         */
+        public void setFineGrainedInvalidation(boolean fineGrainedInvalidation) {
+            _conventions.assertNotFrozen();
+            _fineGrainedInvalidation = fineGrainedInvalidation;
+        }
     }
 
     private final ShardingConventions _sharding;
@@ -131,6 +170,7 @@ public class DocumentConventions {
         private final DocumentConventions _conventions;
 
         private ShardedBatchBehavior _batchBehavior;
+        private boolean _directShardRouting;
 
         public ShardedBatchBehavior getBatchBehavior() {
             return _batchBehavior;
@@ -141,13 +181,488 @@ public class DocumentConventions {
             _batchBehavior = batchBehavior;
         }
 
+        /**
+         * Enables sending single document loads directly to the shard which owns the document, instead of the orchestrator.
+         * Requires access to the database record. Loads fall back to the orchestrator when the document isn't found
+         * on the shard, its bucket is being migrated, or the shard can't be reached.
+         * Default: false
+         * @return if loads are routed directly to shards
+         */
+        public boolean isDirectShardRouting() {
+            return _directShardRouting;
+        }
+
+        /**
+         * Enables sending single document loads directly to the shard which owns the document, instead of the orchestrator.
+         * Requires access to the database record. Loads fall back to the orchestrator when the document isn't found
+         * on the shard, its bucket is being migrated, or the shard can't be reached.
+         * Default: false
+         * @param directShardRouting if loads should be routed directly to shards
+         */
+        public void setDirectShardRouting(boolean directShardRouting) {
+            _conventions.assertNotFrozen();
+            _directShardRouting = directShardRouting;
+        }
+
         public ShardingConventions(DocumentConventions conventions) {
             _conventions = conventions;
             _batchBehavior = ShardedBatchBehavior.DEFAULT;
         }
+
+        private void copyFrom(ShardingConventions other) {
+            _batchBehavior = other._batchBehavior;
+            _directShardRouting = other._directShardRouting;
+        }
+    }
+
+
+
+    public RequestHedgingConventions requestHedging() {
+        return _requestHedging;
+    }
+
+    /**
+     * Request hedging: when read request isn't answered within a delay based on recent latencies,
+     * the same request is sent to another node and the first response wins.
+     */
+    public static class RequestHedgingConventions {
+        private final DocumentConventions _conventions;
+        private boolean _enabled;
+        private double _percentile;
+        private Duration _minDelay;
+
+        public RequestHedgingConventions(DocumentConventions conventions) {
+            _conventions = conventions;
+            _percentile = 95;
+            _minDelay = Duration.ofMillis(10);
+        }
+
+        /**
+         * Enables sending read requests to a second node when the chosen node is slow to respond.
+         * Note that the second node might not have received the latest writes yet.
+         * Default: false
+         * @return if request hedging is enabled
+         */
+        public boolean isEnabled() {
+            return _enabled;
+        }
+
+        /**
+         * Enables sending read requests to a second node when the chosen node is slow to respond.
+         * Note that the second node might not have received the latest writes yet.
+         * Default: false
+         * @param enabled if request hedging should be enabled
+         */
+        public void setEnabled(boolean enabled) {
+            _conventions.assertNotFrozen();
+            _enabled = enabled;
+        }
+
+        /**
+         * Percentile of recent read requests latencies after which request is sent to the second node.
+         * Default: 95
+         * @return latency percentile
+         */
+        public double getPercentile() {
+            return _percentile;
+        }
+
+        /**
+         * Percentile of recent read requests latencies after which request is sent to the second node.
+         * Default: 95
+         * @param percentile latency percentile
+         */
+        public void setPercentile(double percentile) {
+            _conventions.assertNotFrozen();
+
+            if (percentile <= 0 || percentile >= 100) {
+                throw new IllegalArgumentException("Percentile must be greater than 0 and less than 100");
+            }
+            _percentile = percentile;
+        }
+
+        /**
+         * Minimal delay before request is sent to the second node.
+         * Default: 10 milliseconds
+         * @return minimal delay
+         */
+        public Duration getMinDelay() {
+            return _minDelay;
+        }
+
+        /**
+         * Minimal delay before request is sent to the second node.
+         * Default: 10 milliseconds
+         * @param minDelay minimal delay
+         */
+        public void setMinDelay(Duration minDelay) {
+            _conventions.assertNotFrozen();
+
+            if (minDelay == null || minDelay.isNegative()) {
+                throw new IllegalArgumentException("MinDelay cannot be null or negative");
+            }
+            _minDelay = minDelay;
+        }
+
+        private void copyFrom(RequestHedgingConventions other) {
+            _enabled = other._enabled;
+            _percentile = other._percentile;
+            _minDelay = other._minDelay;
+        }
+    }
+
+    public LoadCoalescingConventions loadCoalescing() {
+        return _loadCoalescing;
     }
 
+    /**
+     * Load coalescing: concurrent loads of single documents (from all sessions) are merged into one request.
+     */
+    public static class LoadCoalescingConventions {
+        private final DocumentConventions _conventions;
+        private boolean _enabled;
+        private Duration _window;
+        private int _maxBatchSize;
+
+        public LoadCoalescingConventions(DocumentConventions conventions) {
+            _conventions = conventions;
+            _window = Duration.ofMillis(2);
+            _maxBatchSize = 128;
+        }
+
+        /**
+         * Enables merging concurrent single document loads into one request.
+         * Note that each such load waits up to the coalescing window before the request is sent.
+         * Loads are merged per node the session would use. Loads which already have a response in HTTP cache
+         * are not merged, since merged request can't be validated by it.
+         * Default: false
+         * @return if load coalescing is enabled
+         */
+        public boolean isEnabled() {
+            return _enabled;
+        }
+
+        /**
+         * Enables merging concurrent single document loads into one request.
+         * Note that each such load waits up to the coalescing window before the request is sent.
+         * Loads are merged per node the session would use. Loads which already have a response in HTTP cache
+         * are not merged, since merged request can't be validated by it.
+         * Default: false
+         * @param enabled if load coalescing should be enabled
+         */
+        public void setEnabled(boolean enabled) {
+            _conventions.assertNotFrozen();
+            _enabled = enabled;
+        }
+
+        /**
+         * Time the first load waits for other loads to join the request.
+         * Default: 2 milliseconds
+         * @return coalescing window
+         */
+        public Duration getWindow() {
+            return _window;
+        }
+
+        /**
+         * Time the first load waits for other loads to join the request.
+         * Default: 2 milliseconds
+         * @param window coalescing window
+         */
+        public void setWindow(Duration window) {
+            _conventions.assertNotFrozen();
+
+            if (window == null || window.isNegative()) {
+                throw new IllegalArgumentException("Window cannot be null or negative");
+            }
+            _window = window;
+        }
+
+        /**
+         * Maximum number of documents requested together. Request is sent as soon as this number is reached.
+         * Default: 128
+         * @return max batch size
+         */
+        public int getMaxBatchSize() {
+            return _maxBatchSize;
+        }
+
+        /**
+         * Maximum number of documents requested together. Request is sent as soon as this number is reached.
+         * Default: 128
+         * @param maxBatchSize max batch size
+         */
+        public void setMaxBatchSize(int maxBatchSize) {
+            _conventions.assertNotFrozen();
+
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("MaxBatchSize must be positive");
+            }
+            _maxBatchSize = maxBatchSize;
+        }
+
+        private void copyFrom(LoadCoalescingConventions other) {
+            _enabled = other._enabled;
+            _window = other._window;
+            _maxBatchSize = other._maxBatchSize;
+        }
+    }
+
+    public LoadChunkingConventions loadChunking() {
+        return _loadChunking;
+    }
+
+    /**
+     * Load chunking: session load of many ids is split into multiple requests, which are executed concurrently.
+     */
+    public static class LoadChunkingConventions {
+        private final DocumentConventions _conventions;
+        private boolean _enabled;
+        private int _chunkSize;
+        private int _maxConcurrency;
+
+        public LoadChunkingConventions(DocumentConventions conventions) {
+            _conventions = conventions;
+            _chunkSize = 1024;
+            _maxConcurrency = 4;
+        }
+
+        /**
+         * Enables splitting session loads of more than chunk size ids (without includes) into multiple requests.
+         * Default: false
+         * @return if load chunking is enabled
+         */
+        public boolean isEnabled() {
+            return _enabled;
+        }
+
+        /**
+         * Enables splitting session loads of more than chunk size ids (without includes) into multiple requests.
+         * Default: false
+         * @param enabled if load chunking should be enabled
+         */
+        public void setEnabled(boolean enabled) {
+            _conventions.assertNotFrozen();
+            _enabled = enabled;
+        }
+
+        /**
+         * Maximum number of ids requested in single request.
+         * Default: 1024
+         * @return chunk size
+         */
+        public int getChunkSize() {
+            return _chunkSize;
+        }
+
+        /**
+         * Maximum number of ids requested in single request.
+         * Default: 1024
+         * @param chunkSize chunk size
+         */
+        public void setChunkSize(int chunkSize) {
+            _conventions.assertNotFrozen();
+
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("ChunkSize must be positive");
+            }
+            _chunkSize = chunkSize;
+        }
+
+        /**
+         * Maximum number of chunks requested at the same time by single load.
+         * Default: 4
+         * @return max concurrency
+         */
+        public int getMaxConcurrency() {
+            return _maxConcurrency;
+        }
+
+        /**
+         * Maximum number of chunks requested at the same time by single load.
+         * Default: 4
+         * @param maxConcurrency max concurrency
+         */
+        public void setMaxConcurrency(int maxConcurrency) {
+            _conventions.assertNotFrozen();
+
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("MaxConcurrency must be positive");
+            }
+            _maxConcurrency = maxConcurrency;
+        }
+
+        private void copyFrom(LoadChunkingConventions other) {
+            _enabled = other._enabled;
+            _chunkSize = other._chunkSize;
+            _maxConcurrency = other._maxConcurrency;
+        }
+    }
+
+    public HttpClientConventions httpClient() {
+        return _httpClient;
+    }
+
+    public static class HttpClientConventions {
+        private final DocumentConventions _conventions;
+        private int _maxConnectionsPerRoute;
+        private int _maxConnectionsTotal;
+        private Duration _connectionTimeToLive;
+        private Duration _evictIdleConnectionsAfter;
+        private Duration _validateAfterInactivity;
+        private boolean _useHttp2;
+
+        public HttpClientConventions(DocumentConventions conventions) {
+            _conventions = conventions;
+            _maxConnectionsPerRoute = 30;
+            _maxConnectionsTotal = 40;
+        }
+
+        /**
+         * Maximum number of pooled connections to a single node.
+         * Default: 30
+         * @return max connections per route
+         */
+        public int getMaxConnectionsPerRoute() {
+            return _maxConnectionsPerRoute;
+        }
+
+        /**
+         * Maximum number of pooled connections to a single node.
+         * Default: 30
+         * @param maxConnectionsPerRoute max connections per route
+         */
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            _conventions.assertNotFrozen();
+
+            if (maxConnectionsPerRoute <= 0) {
+                throw new IllegalArgumentException("MaxConnectionsPerRoute must be positive");
+            }
+            _maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        /**
+         * Maximum number of pooled connections in total. Http clients are shared between
+         * document stores and databases which use the same http client settings.
+         * Default: 40
+         * @return max connections in total
+         */
+        public int getMaxConnectionsTotal() {
+            return _maxConnectionsTotal;
+        }
+
+        /**
+         * Maximum number of pooled connections in total. Http clients are shared between
+         * document stores and databases which use the same http client settings.
+         * Default: 40
+         * @param maxConnectionsTotal max connections in total
+         */
+        public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+            _conventions.assertNotFrozen();
+
+            if (maxConnectionsTotal <= 0) {
+                throw new IllegalArgumentException("MaxConnectionsTotal must be positive");
+            }
+            _maxConnectionsTotal = maxConnectionsTotal;
+        }
+
+        /**
+         * Total time to live of a pooled connection. Null means connections are kept until closed.
+         * @return connection time to live
+         */
+        public Duration getConnectionTimeToLive() {
+            return _connectionTimeToLive;
+        }
+
+        /**
+         * Total time to live of a pooled connection. Null means connections are kept until closed.
+         * @param connectionTimeToLive connection time to live
+         */
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+            _conventions.assertNotFrozen();
 
+            if (connectionTimeToLive != null && connectionTimeToLive.isNegative()) {
+                throw new IllegalArgumentException("ConnectionTimeToLive cannot be negative");
+            }
+            _connectionTimeToLive = connectionTimeToLive;
+        }
+
+        /**
+         * Idle time after which pooled connection is closed by background eviction.
+         * Null disables idle connections eviction.
+         * @return idle time
+         */
+        public Duration getEvictIdleConnectionsAfter() {
+            return _evictIdleConnectionsAfter;
+        }
+
+        /**
+         * Idle time after which pooled connection is closed by background eviction.
+         * Null disables idle connections eviction.
+         * @param evictIdleConnectionsAfter idle time
+         */
+        public void setEvictIdleConnectionsAfter(Duration evictIdleConnectionsAfter) {
+            _conventions.assertNotFrozen();
+
+            if (evictIdleConnectionsAfter != null && (evictIdleConnectionsAfter.isNegative() || evictIdleConnectionsAfter.isZero())) {
+                throw new IllegalArgumentException("EvictIdleConnectionsAfter must be positive");
+            }
+            _evictIdleConnectionsAfter = evictIdleConnectionsAfter;
+        }
+
+        /**
+         * Period of inactivity after which pooled connection is validated before being reused.
+         * Null means http client default is used.
+         * @return inactivity period
+         */
+        public Duration getValidateAfterInactivity() {
+            return _validateAfterInactivity;
+        }
+
+        /**
+         * Period of inactivity after which pooled connection is validated before being reused.
+         * Null means http client default is used.
+         * @param validateAfterInactivity inactivity period
+         */
+        public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+            _conventions.assertNotFrozen();
+
+            if (validateAfterInactivity != null && validateAfterInactivity.isNegative()) {
+                throw new IllegalArgumentException("ValidateAfterInactivity cannot be negative");
+            }
+            _validateAfterInactivity = validateAfterInactivity;
+        }
+
+        /**
+         * Enables HTTP/2 negotiation (over TLS) so concurrent requests to the same node are multiplexed
+         * over a single connection. Requests which support it are sent using asynchronous http client then.
+         * Default: false
+         * @return if HTTP/2 is enabled
+         */
+        public boolean isUseHttp2() {
+            return _useHttp2;
+        }
+
+        /**
+         * Enables HTTP/2 negotiation (over TLS) so concurrent requests to the same node are multiplexed
+         * over a single connection. Requests which support it are sent using asynchronous http client then.
+         * Default: false
+         * @param useHttp2 if HTTP/2 should be enabled
+         */
+        public void setUseHttp2(boolean useHttp2) {
+            _conventions.assertNotFrozen();
+            _useHttp2 = useHttp2;
+        }
+
+        private void copyFrom(HttpClientConventions other) {
+            _maxConnectionsPerRoute = other._maxConnectionsPerRoute;
+            _maxConnectionsTotal = other._maxConnectionsTotal;
+            _connectionTimeToLive = other._connectionTimeToLive;
+            _evictIdleConnectionsAfter = other._evictIdleConnectionsAfter;
+            _validateAfterInactivity = other._validateAfterInactivity;
+            _useHttp2 = other._useHttp2;
+        }
+    }
 
     public BulkInsertConventions bulkInsert() {
         return _bulkInsert;
@@ -156,10 +671,16 @@ public class DocumentConventions {
     public static class BulkInsertConventions {
         private final DocumentConventions _conventions;
         private int _timeSeriesBatchSize;
+        private int _parallelStreams;
+        private int _bufferSize;
+        private int _numberOfBuffers;
 
         public BulkInsertConventions(DocumentConventions conventions) {
             _conventions = conventions;
             _timeSeriesBatchSize = 1024;
+            _parallelStreams = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+            _bufferSize = BulkInsertWriterBase.DEFAULT_BUFFER_SIZE;
+            _numberOfBuffers = BulkInsertWriterBase.DEFAULT_NUMBER_OF_BUFFERS;
         }
 
         public int getTimeSeriesBatchSize() {
@@ -175,6 +696,71 @@ public class DocumentConventions {
             _timeSeriesBatchSize = batchSize;
         }
 
+        /**
+         * Number of concurrent bulk insert streams opened by parallel bulk insert
+         * @return number of streams
+         */
+        public int getParallelStreams() {
+            return _parallelStreams;
+        }
+
+        /**
+         * Number of concurrent bulk insert streams opened by parallel bulk insert
+         * @param parallelStreams number of streams
+         */
+        public void setParallelStreams(int parallelStreams) {
+            _conventions.assertNotFrozen();
+
+            if (parallelStreams <= 0) {
+                throw new IllegalArgumentException("ParallelStreams must be positive");
+            }
+            _parallelStreams = parallelStreams;
+        }
+
+        /**
+         * Size (in bytes) of a single bulk insert buffer. Buffer is sent to the server once it is filled.
+         * @return buffer size
+         */
+        public int getBufferSize() {
+            return _bufferSize;
+        }
+
+        /**
+         * Size (in bytes) of a single bulk insert buffer. Buffer is sent to the server once it is filled.
+         * @param bufferSize buffer size
+         */
+        public void setBufferSize(int bufferSize) {
+            _conventions.assertNotFrozen();
+
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("BufferSize must be positive");
+            }
+            _bufferSize = bufferSize;
+        }
+
+        /**
+         * Number of buffers used by bulk insert. While one buffer is being filled, the others might still
+         * wait to be sent, so increasing it deepens the pipeline on high latency connections.
+         * @return number of buffers
+         */
+        public int getNumberOfBuffers() {
+            return _numberOfBuffers;
+        }
+
+        /**
+         * Number of buffers used by bulk insert. While one buffer is being filled, the others might still
+         * wait to be sent, so increasing it deepens the pipeline on high latency connections.
+         * @param numberOfBuffers number of buffers
+         */
+        public void setNumberOfBuffers(int numberOfBuffers) {
+            _conventions.assertNotFrozen();
+
+            if (numberOfBuffers < 2) {
+                throw new IllegalArgumentException("NumberOfBuffers must be at least 2");
+            }
+            _numberOfBuffers = numberOfBuffers;
+        }
+
     }
 
     public DocumentConventions() {
@@ -207,8 +793,13 @@ public class DocumentConventions {
 
         _maxNumberOfRequestsPerSession = 30;
         _bulkInsert = new BulkInsertConventions(this);
+        _httpClient = new HttpClientConventions(this);
+        _requestHedging = new RequestHedgingConventions(this);
+        _loadCoalescing = new LoadCoalescingConventions(this);
+        _loadChunking = new LoadChunkingConventions(this);
         _sharding = new ShardingConventions(this);
         _maxHttpCacheSize = 128 * 1024 * 1024;
+        _httpCacheStorage = HttpCacheStorage.HEAP;
 
         _entityMapper = JsonExtensions.getDefaultEntityMapper();
 
@@ -251,6 +842,53 @@ public class DocumentConventions {
         _sendApplicationIdentifier = sendApplicationIdentifier;
     }
 
+    /**
+     * Whether DocumentStore should run its background work (request executors, changes, bulk inserts, subscriptions)
+     * on virtual threads instead of a cached pool of platform threads.
+     * Virtual threads are used only when running on JDK 21+, otherwise this option is ignored.
+     * Default: false
+     * @return if option is enabled
+     */
+    public boolean isUseVirtualThreads() {
+        return _useVirtualThreads;
+    }
+
+    /**
+     * Whether DocumentStore should run its background work (request executors, changes, bulk inserts, subscriptions)
+     * on virtual threads instead of a cached pool of platform threads.
+     * Virtual threads are used only when running on JDK 21+, otherwise this option is ignored.
+     * Default: false
+     * @param useVirtualThreads if option should be enabled
+     */
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        assertNotFrozen();
+        _useVirtualThreads = useVirtualThreads;
+    }
+
+    /**
+     * Gets the registry which receives client side metrics (request latencies, http cache usage, failovers etc.)
+     * Default: no-op registry
+     * @return metrics registry
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return _metricsRegistry;
+    }
+
+    /**
+     * Sets the registry which receives client side metrics (request latencies, http cache usage, failovers etc.)
+     * Default: no-op registry
+     * @param metricsRegistry metrics registry
+     */
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        assertNotFrozen();
+
+        if (metricsRegistry == null) {
+            throw new IllegalArgumentException("MetricsRegistry cannot be null");
+        }
+
+        _metricsRegistry = metricsRegistry;
+    }
+
     /**
      * Get the timeout for the second broadcast attempt.
      * Default: 30 seconds
@@ -398,10 +1036,45 @@ public class DocumentConventions {
         return _entityMapper;
     }
 
+    /**
+     * Sets the mapper used to convert entities. When bytecode acceleration is enabled, the accelerator module
+     * is registered on the mapper set before conventions are frozen - mapper set later is used as is.
+     * @param entityMapper entity mapper
+     */
     public void setEntityMapper(ObjectMapper entityMapper) {
         _entityMapper = entityMapper;
     }
 
+    /**
+     * Whether entity mapper should access entity properties through generated code instead of reflection.
+     * Requires jackson-module-blackbird (JDK 9+) or jackson-module-afterburner on classpath, module is registered on the entity mapper
+     * when conventions are frozen.
+     * Default: false
+     * @return if option is enabled
+     */
+    public boolean isUseBytecodeAcceleration() {
+        return _useBytecodeAcceleration;
+    }
+
+    /**
+     * Whether entity mapper should access entity properties through generated code instead of reflection.
+     * Requires jackson-module-blackbird (JDK 9+) or jackson-module-afterburner on classpath, module is registered on the entity mapper
+     * when conventions are frozen.
+     * Default: false
+     * @param useBytecodeAcceleration if option should be enabled
+     * @throws UnsupportedOperationException if none of the modules is available on classpath
+     */
+    public void setUseBytecodeAcceleration(boolean useBytecodeAcceleration) {
+        assertNotFrozen();
+
+        if (useBytecodeAcceleration && !JsonExtensions.isBytecodeAccelerationSupported()) {
+            throw new UnsupportedOperationException("Bytecode acceleration requires com.fasterxml.jackson.module:jackson-module-blackbird " +
+                    "or com.fasterxml.jackson.module:jackson-module-afterburner on classpath");
+        }
+
+        _useBytecodeAcceleration = useBytecodeAcceleration;
+    }
+
     public ReadBalanceBehavior getReadBalanceBehavior() {
         return _readBalanceBehavior;
     }
@@ -453,15 +1126,78 @@ public class DocumentConventions {
         _loadBalancerPerSessionContextSelector = loadBalancerPerSessionContextSelector;
     }
 
+    /**
+     * Gets the HTTP cache budget in bytes of stored payload.
+     * Default: 128 MB
+     * @return cache size in bytes
+     */
     public int getMaxHttpCacheSize() {
         return _maxHttpCacheSize;
     }
 
+    /**
+     * Sets the HTTP cache budget in bytes of stored payload.
+     * Default: 128 MB
+     * @param maxHttpCacheSize cache size in bytes
+     */
     public void setMaxHttpCacheSize(int maxHttpCacheSize) {
         assertNotFrozen();
         this._maxHttpCacheSize = maxHttpCacheSize;
     }
 
+    /**
+     * Gets the storage used by HTTP cache to keep cached responses.
+     * Default: HEAP
+     * @return cache storage
+     */
+    public HttpCacheStorage getHttpCacheStorage() {
+        return _httpCacheStorage;
+    }
+
+    /**
+     * Sets the storage used by HTTP cache to keep cached responses.
+     * Default: HEAP
+     * @param httpCacheStorage cache storage
+     */
+    public void setHttpCacheStorage(HttpCacheStorage httpCacheStorage) {
+        assertNotFrozen();
+        _httpCacheStorage = httpCacheStorage;
+    }
+
+    /**
+     * Gets the maximum number of parsed documents kept in document cache (shared by all sessions).
+     * Documents loaded by id are reused from there when HTTP cache returns the same response, so it is not parsed again.
+     * Default: 0 (disabled)
+     * @return maximum number of cached documents
+     */
+    public int getMaxNumberOfCachedDocuments() {
+        return _maxNumberOfCachedDocuments;
+    }
+
+    /**
+     * Sets the maximum number of parsed documents kept in document cache (shared by all sessions).
+     * Documents loaded by id are reused from there when HTTP cache returns the same response, so it is not parsed again.
+     * <p>
+     * Limitations:
+     * <ul>
+     *     <li>only loads by id are cached - loads with includes, metadata only loads and cluster wide transactions bypass it</li>
+     *     <li>single version (change vector) of each document is kept - it is shared by all responses containing that version</li>
+     *     <li>document is copied into cache when it is parsed with new change vector and every load gets its own copy,
+     *     so cache trades parsing for copying, not for memory</li>
+     * </ul>
+     * Default: 0 (disabled)
+     * @param maxNumberOfCachedDocuments maximum number of cached documents
+     */
+    public void setMaxNumberOfCachedDocuments(int maxNumberOfCachedDocuments) {
+        assertNotFrozen();
+
+        if (maxNumberOfCachedDocuments < 0) {
+            throw new IllegalArgumentException("MaxNumberOfCachedDocuments cannot be negative");
+        }
+
+        _maxNumberOfCachedDocuments = maxNumberOfCachedDocuments;
+    }
+
     public int getMaxNumberOfRequestsPerSession() {
         return _maxNumberOfRequestsPerSession;
     }
@@ -505,6 +1241,7 @@ public class DocumentConventions {
     public void setFindJavaClassName(Function<Class, String> findJavaClassName) {
         assertNotFrozen();
         _findJavaClassName = findJavaClassName;
+        _entityModels.clear();
     }
 
     public Function<Class, String> getFindCollectionName() {
@@ -522,6 +1259,7 @@ public class DocumentConventions {
     public void setFindCollectionName(Function<Class, String> findCollectionName) {
         assertNotFrozen();
         _findCollectionName = findCollectionName;
+        _entityModels.clear();
     }
 
     public Function<String, String> getFindIdentityPropertyNameFromCollectionName() {
@@ -567,6 +1305,7 @@ public class DocumentConventions {
     public void setFindIdentityProperty(Function<PropertyDescriptor, Boolean> findIdentityProperty) {
         assertNotFrozen();
         this._findIdentityProperty = findIdentityProperty;
+        _entityModels.clear();
     }
 
     public IShouldIgnoreEntityChanges getShouldIgnoreEntityChanges() {
@@ -652,6 +1391,10 @@ public class DocumentConventions {
      * @return collection name
      */
     public String getCollectionName(Class clazz) {
+        return getEntityModel(clazz).getCollectionName();
+    }
+
+    private String findCollectionName(Class clazz) {
         String collectionName = _findCollectionName.apply(clazz);
 
         if (collectionName != null) {
@@ -748,7 +1491,7 @@ public class DocumentConventions {
      * @return java class name
      */
     public String getJavaClassName(Class entityType) {
-        return _findJavaClassName.apply(entityType);
+        return getEntityModel(entityType).getJavaClassName();
     }
 
     /**
@@ -815,10 +1558,20 @@ public class DocumentConventions {
         cloned._readBalanceBehavior = _readBalanceBehavior;
         cloned._loadBalanceBehavior = _loadBalanceBehavior;
         cloned._maxHttpCacheSize = _maxHttpCacheSize;
+        cloned._httpCacheStorage = _httpCacheStorage;
+        cloned._maxNumberOfCachedDocuments = _maxNumberOfCachedDocuments;
         cloned._entityMapper = _entityMapper;
+        cloned._useBytecodeAcceleration = _useBytecodeAcceleration;
         cloned._useHttpCompression = _useHttpCompression;
         cloned._useHttpDecompression = _useHttpDecompression;
         cloned._httpCompressionAlgorithm = _httpCompressionAlgorithm;
+        cloned._useVirtualThreads = _useVirtualThreads;
+        cloned._metricsRegistry = _metricsRegistry;
+        cloned._httpClient.copyFrom(_httpClient);
+        cloned._requestHedging.copyFrom(_requestHedging);
+        cloned._sharding.copyFrom(_sharding);
+        cloned._loadCoalescing.copyFrom(_loadCoalescing);
+        cloned._loadChunking.copyFrom(_loadChunking);
         return cloned;
     }
 
@@ -840,27 +1593,59 @@ public class DocumentConventions {
      *  @return Identity property (field)
      */
     public Field getIdentityProperty(Class clazz) {
-        // If we had obtained the identity property for that type, we will return it.
-        Field info = _idPropertyCache.get(clazz);
-        if (info != null) {
-            return info;
-        }
+        return getEntityModel(clazz).getIdentityProperty();
+    }
 
+    private Field findIdentityProperty(Class<?> clazz) {
         try {
-            Field idField = Arrays.stream(Introspector.getBeanInfo(clazz).getPropertyDescriptors())
+            return Arrays.stream(Introspector.getBeanInfo(clazz).getPropertyDescriptors())
                     .filter(x -> _findIdentityProperty.apply(x))
                     .findFirst()
                     .map(x -> getField(clazz, x.getName()))
                     .orElse(null);
-
-            _idPropertyCache.put(clazz, idField);
-
-            return idField;
         } catch (IntrospectionException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Gets the model of given entity class (collection name, java class name and identity property).
+     * Model is computed on first use and cached.
+     * @param clazz Class of entity
+     * @return entity model
+     */
+    public EntityModel getEntityModel(Class<?> clazz) {
+        EntityModel model = _entityModels.get(clazz);
+        if (model != null) {
+            return model;
+        }
+
+        // computed outside of the map, as user defined conventions might ask for models of other classes
+        String collectionName = null;
+        RuntimeException collectionNameError = null;
+        try {
+            collectionName = findCollectionName(clazz);
+        } catch (RuntimeException e) {
+            collectionNameError = e;
+        }
+
+        model = new EntityModel(clazz, collectionName, collectionNameError, _findJavaClassName.apply(clazz), findIdentityProperty(clazz));
+
+        EntityModel existing = _entityModels.putIfAbsent(clazz, model);
+        return existing != null ? existing : model;
+    }
+
+    /**
+     * Computes models of given entity classes up front, so first store/load of those types doesn't pay for reflection.
+     * Should be called after conventions are customized.
+     * @param classes entity classes
+     */
+    public void preloadEntityModels(Class<?>... classes) {
+        for (Class<?> clazz : classes) {
+            getEntityModel(clazz);
+        }
+    }
+
     public void updateFrom(ClientConfiguration configuration) {
         if (configuration == null) {
             return;
@@ -967,6 +1752,10 @@ public class DocumentConventions {
     }
 
     public void freeze() {
+        if (_useBytecodeAcceleration && !_frozen) {
+            JsonExtensions.registerBytecodeAccelerator(_entityMapper);
+        }
+
         _frozen = true;
     }
 
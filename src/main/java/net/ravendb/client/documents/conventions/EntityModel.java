@@ -0,0 +1,133 @@
+package net.ravendb.client.documents.conventions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Per entity class information derived from conventions: collection name, java class name and identity property.
+ * Computed once per class (see DocumentConventions.getEntityModel), so store/load doesn't need to use reflection.
+ */
+public class EntityModel {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> _type;
+    private final String _collectionName;
+    private final RuntimeException _collectionNameError;
+    private final String _javaClassName;
+    private final Field _identityProperty;
+    private final MethodHandle _identityGetter;
+    private final MethodHandle _identitySetter;
+
+    EntityModel(Class<?> type, String collectionName, RuntimeException collectionNameError, String javaClassName, Field identityProperty) {
+        _type = type;
+        _collectionName = collectionName;
+        _collectionNameError = collectionNameError;
+        _javaClassName = javaClassName;
+        _identityProperty = identityProperty;
+
+        if (identityProperty != null) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                identityProperty.setAccessible(true);
+                _identityGetter = lookup.unreflectGetter(identityProperty).asType(GETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Unable to access identity property " + identityProperty.getName() + " of " + type.getName(), e);
+            }
+
+            MethodHandle setter;
+            try {
+                setter = lookup.unreflectSetter(identityProperty).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                setter = null; // final field - we fail when trying to set it
+            }
+            _identitySetter = setter;
+        } else {
+            _identityGetter = null;
+            _identitySetter = null;
+        }
+    }
+
+    public Class<?> getType() {
+        return _type;
+    }
+
+    /**
+     * @return collection name
+     * @throws IllegalStateException if collection name can't be determined for this type (i.e. interface or abstract class)
+     */
+    public String getCollectionName() {
+        if (_collectionNameError != null) {
+            throw _collectionNameError;
+        }
+
+        return _collectionName;
+    }
+
+    /**
+     * @return java class name to be stored in metadata
+     */
+    public String getJavaClassName() {
+        return _javaClassName;
+    }
+
+    /**
+     * @return identity property or null if entity doesn't have one
+     */
+    public Field getIdentityProperty() {
+        return _identityProperty;
+    }
+
+    public boolean hasIdentityProperty() {
+        return _identityProperty != null;
+    }
+
+    /**
+     * @param entity entity
+     * @return value of identity property or null if entity doesn't have one
+     */
+    public Object getIdentity(Object entity) {
+        if (_identityGetter == null) {
+            return null;
+        }
+
+        try {
+            return (Object) _identityGetter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to read identity property: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets identity property value. Does nothing if entity doesn't have identity property.
+     * @param entity entity
+     * @param id value to set
+     */
+    public void setIdentity(Object entity, String id) {
+        if (_identityProperty == null) {
+            return;
+        }
+
+        if (!String.class.equals(_identityProperty.getType())) {
+            throw new IllegalArgumentException("Cannot set identity value '" + id + "' on field " + _identityProperty.getType() +
+                    " because field type is not string.");
+        }
+
+        if (_identitySetter == null) {
+            throw new IllegalStateException("Unable to write identity property " + _identityProperty.getName() + " of " + _type.getName());
+        }
+
+        try {
+            _identitySetter.invokeExact(entity, (Object) id);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to write identity property: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package net.ravendb.client.documents.identity;
 
 import net.ravendb.client.documents.conventions.DocumentConventions;
-import net.ravendb.client.exceptions.RavenException;
+import net.ravendb.client.documents.conventions.EntityModel;
 import net.ravendb.client.primitives.Reference;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
-import java.lang.reflect.Field;
 import java.util.function.Function;
 
 public class GenerateEntityIdOnTheClient {
@@ -18,10 +16,6 @@ public class GenerateEntityIdOnTheClient {
         this._generateId = generateId;
     }
 
-    private Field getIdentityProperty(Class<?> entityType) {
-        return _conventions.getIdentityProperty(entityType);
-    }
-
     /**
      * Attempts to get the document key from an instance
      * @param entity Entity to get id from
@@ -32,20 +26,14 @@ public class GenerateEntityIdOnTheClient {
         if (entity == null) {
             throw new IllegalArgumentException("Entity cannot be null");
         }
-        try {
-            Field identityProperty = getIdentityProperty(entity.getClass());
-            if (identityProperty != null) {
-                Object value = FieldUtils.readField(identityProperty, entity, true);
-                if (value instanceof String) {
-                    idHolder.value = (String)value;
-                    return true;
-                }
-            }
-            idHolder.value = null;
-            return false;
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e);
+        Object value = _conventions.getEntityModel(entity.getClass()).getIdentity(entity);
+        if (value instanceof String) {
+            idHolder.value = (String) value;
+            return true;
         }
+
+        idHolder.value = null;
+        return false;
     }
 
     /**
@@ -89,35 +77,17 @@ public class GenerateEntityIdOnTheClient {
     }
 
     private void trySetIdentityInternal(Object entity, String id, boolean isProjection) {
-        Class<?> entityType = entity.getClass();
-        Field identityProperty = _conventions.getIdentityProperty(entityType);
+        EntityModel model = _conventions.getEntityModel(entity.getClass());
 
-        if (identityProperty == null) {
+        if (!model.hasIdentityProperty()) {
             return;
         }
 
-        try {
-            if (isProjection && FieldUtils.readField(identityProperty, entity) != null) {
-                // identity property was already set
-                return;
-            }
-        } catch (IllegalAccessException e) {
-            throw new RavenException("Unable to read identity field: " + e.getMessage(), e);
+        if (isProjection && model.getIdentity(entity) != null) {
+            // identity property was already set
+            return;
         }
 
-        setPropertyOrField(identityProperty.getType(), entity, identityProperty, id);
-    }
-
-    private void setPropertyOrField(Class<?> propertyOrFieldType, Object entity, Field field, String id) {
-        try {
-            if (String.class.equals(propertyOrFieldType)) {
-                FieldUtils.writeField(field, entity, id, true);
-            } else {
-                throw new IllegalArgumentException("Cannot set identity value '" + id + "' on field " + propertyOrFieldType +
-                        " because field type is not string.");
-            }
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException(e);
-        }
+        model.setIdentity(entity, id);
     }
 }
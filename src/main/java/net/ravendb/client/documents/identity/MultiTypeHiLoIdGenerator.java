@@ -48,15 +48,14 @@ public class MultiTypeHiLoIdGenerator {
             return value.generateDocumentId(entity);
         }
 
+        // id generation might need to contact the server, so we don't do it under the lock
         synchronized (_generatorLock) {
             value = _idGeneratorsByTag.get(tag);
 
-            if (value != null) {
-                return value.generateDocumentId(entity);
+            if (value == null) {
+                value = createGeneratorFor(tag);
+                _idGeneratorsByTag.put(tag, value);
             }
-
-            value = createGeneratorFor(tag);
-            _idGeneratorsByTag.put(tag, value);
         }
 
         return value.generateDocumentId(entity);
@@ -93,12 +92,10 @@ public class MultiTypeHiLoIdGenerator {
 
         synchronized (_generatorLock) {
             value = _idGeneratorsByTag.get(collectionName);
-            if (value != null) {
-                return value.getNextId().getId();
+            if (value == null) {
+                value = createGeneratorFor(collectionName);
+                _idGeneratorsByTag.put(collectionName, value);
             }
-
-            value = createGeneratorFor(collectionName);
-            _idGeneratorsByTag.put(collectionName, value);
         }
 
         return value.getNextId().getId();
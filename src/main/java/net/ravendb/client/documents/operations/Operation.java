@@ -3,19 +3,31 @@ package net.ravendb.client.documents.operations;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import net.ravendb.client.documents.changes.IDatabaseChanges;
+import net.ravendb.client.documents.changes.IObserver;
+import net.ravendb.client.documents.changes.OperationStatusChange;
 import net.ravendb.client.documents.commands.KillOperationCommand;
 import net.ravendb.client.documents.conventions.DocumentConventions;
 import net.ravendb.client.exceptions.ExceptionDispatcher;
 import net.ravendb.client.extensions.JsonExtensions;
 import net.ravendb.client.http.RavenCommand;
 import net.ravendb.client.http.RequestExecutor;
+import net.ravendb.client.primitives.CleanCloseable;
+import net.ravendb.client.primitives.ExceptionsUtils;
 import net.ravendb.client.primitives.OperationCancelledException;
+import net.ravendb.client.primitives.TimerService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 public class Operation {
 
+    private static final long POLL_INTERVAL = 500;
+    private static final long CHANGES_FALLBACK_POLL_INTERVAL = 5000;
+
     private final RequestExecutor _requestExecutor;
+    private final Supplier<IDatabaseChanges> _changes;
     private final DocumentConventions _conventions;
     private final long _id;
     private String _nodeTag;
@@ -30,6 +42,7 @@ public class Operation {
 
     public Operation(RequestExecutor requestExecutor, Supplier<IDatabaseChanges> changes, DocumentConventions conventions, long id, String nodeTag) {
         _requestExecutor = requestExecutor;
+        _changes = changes;
         _conventions = conventions;
         _id = id;
         _nodeTag = nodeTag;
@@ -59,31 +72,126 @@ public class Operation {
     }
 
     public void waitForCompletion() {
-        while (true) {
-            ObjectNode status = fetchOperationsStatus();
-
-            String operationStatus = status.get("Status").asText();
-            switch (operationStatus) {
-                case "Completed":
-                    return ;
-                case "Canceled":
-                    throw new OperationCancelledException();
-                case "Faulted":
-                    JsonNode result = status.get("Result");
-                    OperationExceptionResult exceptionResult = JsonExtensions.getDefaultMapper().convertValue(result, OperationExceptionResult.class);
-                    ExceptionDispatcher.ExceptionSchema schema = new ExceptionDispatcher.ExceptionSchema();
-                    schema.setUrl(_requestExecutor.getUrl());
-                    schema.setError(exceptionResult.getError());
-                    schema.setMessage(exceptionResult.getMessage());
-                    schema.setType(exceptionResult.getType());
-                    throw ExceptionDispatcher.get(schema, exceptionResult.getStatusCode());
+        try {
+            waitForCompletionAsync().get();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw ExceptionsUtils.unwrapException(e);
+        }
+    }
+
+    /**
+     * Waits for operation completion without blocking the calling thread. Completion is detected using
+     * Changes API notifications, operation state is polled only as a fallback.
+     * @return future completed when operation completes
+     */
+    public CompletableFuture<Void> waitForCompletionAsync() {
+        CompletionWaiter waiter = new CompletionWaiter();
+
+        try {
+            _requestExecutor.getExecutorService().execute(() -> {
+                waiter.subscribeToChanges();
+
+                // operation might have completed before we subscribed
+                waiter.poll();
+            });
+        } catch (Exception e) {
+            waiter.result.completeExceptionally(e);
+        }
+
+        return waiter.result;
+    }
+
+    private boolean tryComplete(ObjectNode status, CompletableFuture<Void> result) {
+        String operationStatus = status.get("Status").asText();
+        switch (operationStatus) {
+            case "Completed":
+                result.complete(null);
+                return true;
+            case "Canceled":
+                result.completeExceptionally(new OperationCancelledException());
+                return true;
+            case "Faulted":
+                JsonNode resultNode = status.get("Result");
+                OperationExceptionResult exceptionResult = JsonExtensions.getDefaultMapper().convertValue(resultNode, OperationExceptionResult.class);
+                ExceptionDispatcher.ExceptionSchema schema = new ExceptionDispatcher.ExceptionSchema();
+                schema.setUrl(_requestExecutor.getUrl());
+                schema.setError(exceptionResult.getError());
+                schema.setMessage(exceptionResult.getMessage());
+                schema.setType(exceptionResult.getType());
+                result.completeExceptionally(ExceptionDispatcher.get(schema, exceptionResult.getStatusCode()));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private class CompletionWaiter implements IObserver<OperationStatusChange> {
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile boolean changesAvailable;
+        private CleanCloseable subscription;
+
+        void subscribeToChanges() {
+            if (_changes == null) {
+                return;
             }
 
             try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                IDatabaseChanges changes = _changes.get();
+                subscription = changes.forOperationId(_id).subscribe(this);
+                changes.ensureConnectedNow();
+                changesAvailable = true;
+
+                result.whenComplete((r, e) -> subscription.close());
+            } catch (Exception e) {
+                // changes are not available, we will poll for the operation state
+                if (subscription != null) {
+                    subscription.close();
+                }
+            }
+        }
+
+        void poll() {
+            if (result.isDone()) {
+                return;
             }
+
+            try {
+                if (tryComplete(fetchOperationsStatus(), result)) {
+                    return;
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            // with changes available we still poll occasionally in case notification was lost during reconnect
+            long delay = changesAvailable ? CHANGES_FALLBACK_POLL_INTERVAL : POLL_INTERVAL;
+            TimerService.service.schedule(() -> _requestExecutor.getExecutorService().execute(this::poll), delay, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void onNext(OperationStatusChange value) {
+            if (result.isDone() || value.getState() == null) {
+                return;
+            }
+
+            try {
+                tryComplete(value.getState(), result);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onError(Exception error) {
+            changesAvailable = false;
+        }
+
+        @Override
+        public void onCompleted() {
+            // empty
         }
     }
 
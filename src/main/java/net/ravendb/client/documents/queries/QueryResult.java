@@ -1,10 +1,18 @@
 package net.ravendb.client.documents.queries;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.documents.queries.timings.QueryTimings;
+import net.ravendb.client.extensions.JsonExtensions;
 
+import java.io.IOException;
+import java.util.Date;
 import java.util.HashMap;
 
+@JsonDeserialize(using = QueryResult.Deserializer.class)
 public class QueryResult extends GenericQueryResult<ArrayNode, ObjectNode> {
 
     /**
@@ -36,4 +44,97 @@ public class QueryResult extends GenericQueryResult<ArrayNode, ObjectNode> {
         queryResult.setCompareExchangeValueIncludes(getCompareExchangeValueIncludes());
         return queryResult;
     }
+
+    public static class Deserializer extends JsonExtensions.StreamingObjectDeserializer<QueryResult> {
+
+        public Deserializer() {
+            super(QueryResult.class);
+        }
+
+        @Override
+        protected QueryResult createInstance() {
+            return new QueryResult();
+        }
+
+        @Override
+        protected void readProperty(JsonParser p, DeserializationContext ctxt, QueryResult result, String property) throws IOException {
+            switch (property) {
+                case "Results":
+                    result.setResults(JsonExtensions.readArrayNode(p, ctxt));
+                    break;
+                case "Includes":
+                    result.setIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "TotalResults":
+                    result.setTotalResults(p.getValueAsLong());
+                    break;
+                case "CappedMaxResults":
+                    result.setCappedMaxResults(JsonExtensions.readLong(p));
+                    break;
+                case "SkippedResults":
+                    result.setSkippedResults(p.getValueAsLong());
+                    break;
+                case "ScannedResults":
+                    result.setScannedResults(JsonExtensions.readLong(p));
+                    break;
+                case "Highlightings":
+                    result.setHighlightings(JsonExtensions.readMap(p, ctxt, JsonExtensions::readStringArrayMap));
+                    break;
+                case "Explanations":
+                    result.setExplanations(JsonExtensions.readStringArrayMap(p, ctxt));
+                    break;
+                case "DurationInMs":
+                    result.setDurationInMs(p.getValueAsLong());
+                    break;
+                case "ResultSize":
+                    readResultSize(p, result);
+                    break;
+                case "CounterIncludes":
+                    result.setCounterIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "RevisionIncludes":
+                    result.setRevisionIncludes(JsonExtensions.readArrayNode(p, ctxt));
+                    break;
+                case "IncludedCounterNames":
+                    result.setIncludedCounterNames(JsonExtensions.readStringArrayMap(p, ctxt));
+                    break;
+                case "TimeSeriesIncludes":
+                    result.setTimeSeriesIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "CompareExchangeValueIncludes":
+                    result.setCompareExchangeValueIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "IncludedPaths":
+                    result.setIncludedPaths(JsonExtensions.readStringArray(p, ctxt));
+                    break;
+                case "IndexTimestamp":
+                    result.setIndexTimestamp(JsonExtensions.readValue(p, ctxt, Date.class));
+                    break;
+                case "IndexName":
+                    result.setIndexName(p.getValueAsString());
+                    break;
+                case "ResultEtag":
+                    result.setResultEtag(JsonExtensions.readLong(p));
+                    break;
+                case "LastQueryTime":
+                    result.setLastQueryTime(JsonExtensions.readValue(p, ctxt, Date.class));
+                    break;
+                case "NodeTag":
+                    result.setNodeTag(p.getValueAsString());
+                    break;
+                case "Timings":
+                    result.setTimings(JsonExtensions.readValue(p, ctxt, QueryTimings.class));
+                    break;
+                default:
+                    p.skipChildren();
+                    break;
+            }
+        }
+
+        @SuppressWarnings("deprecation")
+        private static void readResultSize(JsonParser p, QueryResult result) throws IOException {
+            // property is deprecated, but still filled in for callers which read it
+            result.setResultSize(p.getValueAsLong());
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package net.ravendb.client.documents.session;
+
+import com.google.common.base.Defaults;
+import net.ravendb.client.documents.DocumentStore;
+import net.ravendb.client.documents.commands.GetDocumentsCommand;
+import net.ravendb.client.documents.commands.HeadDocumentCommand;
+import net.ravendb.client.documents.commands.batches.SingleNodeBatchCommand;
+import net.ravendb.client.documents.session.operations.BatchOperation;
+import net.ravendb.client.documents.session.operations.LoadOperation;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Document session which talks to the server using {@link net.ravendb.client.http.RequestExecutor#executeAsync}.
+ */
+public class AsyncDocumentSession extends DocumentSession implements IAsyncDocumentSession {
+
+    /**
+     * Initializes new AsyncDocumentSession
+     * @param documentStore Parent document store
+     * @param id Identifier
+     * @param options SessionOptions
+     */
+    public AsyncDocumentSession(DocumentStore documentStore, UUID id, SessionOptions options) {
+        super(documentStore, id, options);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveChangesAsync() {
+        BatchOperation saveChangeOperation = new BatchOperation(this);
+
+        SingleNodeBatchCommand command = saveChangeOperation.createRequest();
+        if (command == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (noTracking) {
+            command.close();
+            throw new IllegalStateException("Cannot execute saveChanges when entity tracking is disabled in session.");
+        }
+
+        return _requestExecutor.executeAsync(command, sessionInfo)
+                .thenRun(() -> {
+                    updateSessionAfterSaveChanges(command.getResult());
+                    saveChangeOperation.setResult(command.getResult());
+                })
+                .whenComplete((result, e) -> command.close());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> loadAsync(Class<T> clazz, String id) {
+        if (StringUtils.isBlank(id)) {
+            return CompletableFuture.completedFuture(Defaults.defaultValue(clazz));
+        }
+
+        LoadOperation loadOperation = new LoadOperation(this);
+        loadOperation.byId(id);
+
+        return loadInternalAsync(loadOperation)
+                .thenApply(v -> loadOperation.getDocument(clazz));
+    }
+
+    @Override
+    public <TResult> CompletableFuture<Map<String, TResult>> loadAsync(Class<TResult> clazz, String... ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+
+        LoadOperation loadOperation = new LoadOperation(this);
+        loadOperation.byIds(ids);
+
+        return loadInternalAsync(loadOperation)
+                .thenApply(v -> loadOperation.getDocuments(clazz));
+    }
+
+    @Override
+    public <TResult> CompletableFuture<Map<String, TResult>> loadAsync(Class<TResult> clazz, Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids cannot be null");
+        }
+
+        return loadAsync(clazz, ids.toArray(new String[0]));
+    }
+
+    private CompletableFuture<Void> loadInternalAsync(LoadOperation loadOperation) {
+        GetDocumentsCommand command = loadOperation.createRequest();
+        if (command == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return _requestExecutor.executeAsync(command, sessionInfo)
+                .thenRun(() -> loadOperation.setResult(command.getResult()));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(String id) {
+        if (id == null) {
+            throw new IllegalArgumentException("id cannot be null");
+        }
+
+        if (_knownMissingIds.contains(id)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        if (documentsById.getValue(id) != null) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        HeadDocumentCommand command = new HeadDocumentCommand(id, null);
+
+        return _requestExecutor.executeAsync(command, sessionInfo)
+                .thenApply(v -> command.getResult() != null);
+    }
+}
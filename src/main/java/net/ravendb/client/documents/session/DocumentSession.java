@@ -14,6 +14,7 @@ import net.ravendb.client.documents.commands.batches.*;
 import net.ravendb.client.documents.commands.multiGet.GetRequest;
 import net.ravendb.client.documents.commands.multiGet.GetResponse;
 import net.ravendb.client.documents.commands.multiGet.MultiGetCommand;
+import net.ravendb.client.documents.conventions.DocumentConventions;
 import net.ravendb.client.documents.indexes.AbstractCommonApiForIndexes;
 import net.ravendb.client.documents.linq.IDocumentQueryGenerator;
 import net.ravendb.client.documents.operations.PatchRequest;
@@ -365,6 +366,21 @@ public class DocumentSession extends InMemoryDocumentSessionOperations
         return addLazyOperation((Class<Map<String, T>>)(Class<?>)Map.class, lazyOp, onEval);
     }
 
+    private void loadInChunks(LoadOperation operation) {
+        DocumentConventions.LoadChunkingConventions loadChunking = getConventions().loadChunking();
+
+        try (ChunkedLoadOperation chunkedLoad = operation.createChunkedRequest(loadChunking.getChunkSize(), loadChunking.getMaxConcurrency())) {
+            if (chunkedLoad == null) {
+                return;
+            }
+
+            ChunkedLoadOperation.Chunk chunk;
+            while ((chunk = chunkedLoad.nextChunk()) != null) {
+                operation.setChunkResult(chunk);
+            }
+        }
+    }
+
     @Override
     public <T> T load(Class<T> clazz, String id) {
         if (StringUtils.isBlank(id)) {
@@ -406,6 +422,12 @@ public class DocumentSession extends InMemoryDocumentSessionOperations
     private <T> void loadInternal(String[] ids, LoadOperation operation, OutputStream stream) {
         operation.byIds(ids);
 
+        DocumentConventions.LoadChunkingConventions loadChunking = getConventions().loadChunking();
+        if (stream == null && loadChunking.isEnabled() && operation.shouldLoadInChunks(loadChunking.getChunkSize())) {
+            loadInChunks(operation);
+            return;
+        }
+
         GetDocumentsCommand command = operation.createRequest();
         if (command != null) {
             _requestExecutor.execute(command, sessionInfo);
@@ -1033,6 +1055,24 @@ public class DocumentSession extends InMemoryDocumentSessionOperations
         return new StreamIterator<>(clazz, result, null, false, null);
     }
 
+    @Override
+    public <T> CloseableIterator<StreamResult<T>> streamByIds(Class<T> clazz, Collection<String> ids) {
+        Set<String> distinct = new TreeSet<>(String::compareToIgnoreCase);
+        for (String id : ids) {
+            if (!StringUtils.isBlank(id)) {
+                distinct.add(id);
+            }
+        }
+
+        incrementRequestCount();
+
+        DocumentConventions.LoadChunkingConventions loadChunking = getConventions().loadChunking();
+        ChunkedLoadOperation chunkedLoad = new ChunkedLoadOperation(this, distinct.toArray(new String[0]),
+                loadChunking.getChunkSize(), loadChunking.getMaxConcurrency());
+
+        return new StreamIterator<>(clazz, chunkedLoad.documents(), null, false, null);
+    }
+
     private class StreamIterator<T> implements CloseableIterator<StreamResult<T>> {
 
         private final Class<T> _clazz;
@@ -1,5 +1,10 @@
 package net.ravendb.client.documents.session;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -10,6 +15,7 @@ import net.ravendb.client.primitives.Reference;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 public class EntityToJson {
@@ -100,6 +106,122 @@ public class EntityToJson {
         return jsonNode;
     }
 
+    /**
+     * Serializes entity straight into generator, without building intermediate json tree.
+     * Metadata is appended to root object and identity property is skipped while writing.
+     * @param generator Target generator
+     * @param entity Entity to write
+     * @param conventions Conventions
+     * @param documentInfo Document info holding metadata
+     * @param removeIdentityProperty Skip identity property
+     * @throws IOException if write fails
+     */
+    public static void writeEntityToJson(JsonGenerator generator, Object entity, DocumentConventions conventions,
+                                         DocumentInfo documentInfo, boolean removeIdentityProperty) throws IOException {
+        if (entity instanceof JsonNode || entity instanceof Map) {
+            // entity might already contain metadata - let tree based conversion handle it
+            generator.writeTree(convertEntityToJson(entity, conventions, documentInfo, removeIdentityProperty));
+            return;
+        }
+
+        ObjectMapper mapper = conventions.getEntityMapper();
+
+        JsonGenerator target = generator;
+
+        if (removeIdentityProperty) {
+            Field identityProperty = conventions.getIdentityProperty(entity.getClass());
+            if (identityProperty != null) {
+                target = new FilteringGeneratorDelegate(target,
+                        new SkipRootPropertyFilter(identityProperty.getName()), TokenFilter.Inclusion.INCLUDE_NON_NULL, true);
+            }
+        }
+
+        if (hasMetadata(documentInfo)) {
+            target = new MetadataAppendingGenerator(target, generator, mapper, documentInfo);
+        }
+
+        mapper.writeValue(target, entity);
+    }
+
+    private static boolean hasMetadata(DocumentInfo documentInfo) {
+        if (documentInfo == null) {
+            return false;
+        }
+
+        return (documentInfo.getMetadata() != null && !documentInfo.getMetadata().isEmpty())
+                || documentInfo.getMetadataInstance() != null
+                || documentInfo.getCollection() != null;
+    }
+
+    private static void writeMetadata(ObjectMapper mapper, JsonGenerator generator, DocumentInfo documentInfo) throws IOException {
+        generator.writeFieldName(Constants.Documents.Metadata.KEY);
+        generator.writeStartObject();
+
+        String collection = documentInfo.getCollection();
+
+        if (documentInfo.getMetadata() != null && !documentInfo.getMetadata().isEmpty()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = documentInfo.getMetadata().fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (collection != null && Constants.Documents.Metadata.COLLECTION.equals(field.getKey())) {
+                    continue;
+                }
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        } else if (documentInfo.getMetadataInstance() != null) {
+            for (Map.Entry<String, Object> entry : documentInfo.getMetadataInstance().entrySet()) {
+                if (collection != null && Constants.Documents.Metadata.COLLECTION.equals(entry.getKey())) {
+                    continue;
+                }
+                generator.writeFieldName(entry.getKey());
+                mapper.writeValue(generator, entry.getValue());
+            }
+        }
+
+        if (collection != null) {
+            generator.writeStringField(Constants.Documents.Metadata.COLLECTION, collection);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private static class SkipRootPropertyFilter extends TokenFilter {
+        private final String _propertyName;
+
+        SkipRootPropertyFilter(String propertyName) {
+            _propertyName = propertyName;
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            return _propertyName.equals(name) ? null : TokenFilter.INCLUDE_ALL;
+        }
+    }
+
+    private static class MetadataAppendingGenerator extends JsonGeneratorDelegate {
+        private final JsonGenerator _target;
+        private final ObjectMapper _mapper;
+        private final DocumentInfo _documentInfo;
+
+        MetadataAppendingGenerator(JsonGenerator delegate, JsonGenerator target, ObjectMapper mapper, DocumentInfo documentInfo) {
+            super(delegate, false);
+            _target = target;
+            _mapper = mapper;
+            _documentInfo = documentInfo;
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            JsonStreamContext context = _target.getOutputContext();
+            if (context.inObject() && context.getParent() != null && context.getParent().inRoot()) {
+                writeMetadata(_mapper, _target, _documentInfo);
+            }
+
+            super.writeEndObject();
+        }
+    }
+
     private static void writeMetadata(ObjectMapper mapper, ObjectNode jsonNode, DocumentInfo documentInfo) {
         if (documentInfo == null) {
             return;
@@ -171,6 +293,10 @@ public class EntityToJson {
                 _session.getGenerateEntityIdOnTheClient().trySetIdentity(entity, id, isProjection);
             }
 
+            if (trackEntity) {
+                acceptChanges(entity);
+            }
+
             return entity;
         } catch (Exception e) {
             throw new IllegalStateException("Could not convert document " + id + " to entity of type " + entityType.getName(), e);
@@ -185,6 +311,14 @@ public class EntityToJson {
         populateEntity(entity, document, _session.getConventions().getEntityMapper());
 
         _session.getGenerateEntityIdOnTheClient().trySetIdentity(entity, id);
+
+        acceptChanges(entity);
+    }
+
+    static void acceptChanges(Object entity) {
+        if (entity instanceof IChangeTrackingEntity) {
+            ((IChangeTrackingEntity) entity).acceptChanges();
+        }
     }
 
     public static void populateEntity(Object entity, ObjectNode document, ObjectMapper objectMapper) {
@@ -287,6 +287,17 @@ public interface IAdvancedSessionOperations extends IAdvancedDocumentSessionOper
      */
     <T> CloseableIterator<StreamResult<T>> stream(Class<T> clazz, String startsWith);
 
+    /**
+     * Loads documents with given ids in chunks (see DocumentConventions.loadChunking), requested concurrently,
+     * and returns them as soon as their chunk is loaded. Missing documents are skipped and order of results is not preserved.
+     * Does NOT track the entities in the session, and will not includes changes there when saveChanges() is called
+     * @param <T> Result class
+     * @param clazz Entity class
+     * @param ids Ids of documents to load
+     * @return results iterator
+     */
+    <T> CloseableIterator<StreamResult<T>> streamByIds(Class<T> clazz, Collection<String> ids);
+
     /**
      * Stream the results of documents search to the client, converting them to CLR types along the way.
      * Does NOT track the entities in the session, and will not includes changes there when saveChanges() is called
@@ -0,0 +1,107 @@
+package net.ravendb.client.documents.session;
+
+import net.ravendb.client.primitives.CleanCloseable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface for asynchronous document session.
+ *
+ * Operations which contact the server return CompletableFuture and don't block the calling thread.
+ * Session is not thread safe - wait for returned future before calling next operation on the same session.
+ */
+public interface IAsyncDocumentSession extends CleanCloseable {
+
+    /**
+     * Get the accessor for advanced operations
+     *
+     * Those operations are rarely needed, and have been moved to a separate
+     * property to avoid cluttering the API
+     * @return Advanced session operations
+     */
+    IAdvancedSessionOperations advanced();
+
+    /**
+     * Marks the specified entity for deletion. The entity will be deleted when saveChangesAsync is called.
+     * @param <T> entity class
+     * @param entity instance of entity to delete
+     */
+    <T> void delete(T entity);
+
+    /**
+     * Marks the specified entity for deletion. The entity will be deleted when saveChangesAsync is called.
+     * @param id entity id
+     */
+    void delete(String id);
+
+    /**
+     * Marks the specified entity for deletion. The entity will be deleted when saveChangesAsync is called.
+     * @param id entity Id
+     * @param expectedChangeVector Expected change vector of a document to delete.
+     */
+    void delete(String id, String expectedChangeVector);
+
+    /**
+     * Stores entity in session with given id and forces concurrency check with given change-vector.
+     * @param entity Entity to store
+     * @param changeVector Change vector
+     * @param id Document id
+     */
+    void store(Object entity, String changeVector, String id);
+
+    /**
+     * Stores entity in session, extracts Id from entity using Conventions or generates new one if it is not available.
+     * Forces concurrency check if the Id is not available during extraction.
+     * @param entity Entity to store
+     */
+    void store(Object entity);
+
+    /**
+     * Stores the specified dynamic entity, under the specified id.
+     * @param entity entity to store
+     * @param id Id to store this entity under. If other entity exists with the same id it will be overwritten.
+     */
+    void store(Object entity, String id);
+
+    /**
+     * Saves all the pending changes to the server.
+     * @return future completed when changes were saved
+     */
+    CompletableFuture<Void> saveChangesAsync();
+
+    /**
+     *  Loads the specified entity with the specified id.
+     *  @param <T> entity class
+     *  @param clazz Object class
+     *  @param id Identifier of a entity that will be loaded.
+     *  @return future with loaded entity
+     */
+    <T> CompletableFuture<T> loadAsync(Class<T> clazz, String id);
+
+    /**
+     *  Loads the specified entities with the specified ids.
+     *  @param <TResult> result class
+     *  @param clazz result class
+     *  @param ids Document ids to load
+     *  @return future with map: id to loaded document
+     */
+    <TResult> CompletableFuture<Map<String, TResult>> loadAsync(Class<TResult> clazz, String... ids);
+
+    /**
+     *  Loads the specified entities with the specified ids.
+     *  @param <TResult> result class
+     *  @param clazz result class
+     *  @param ids Document ids to load
+     *  @return future with map: id to loaded document
+     */
+    <TResult> CompletableFuture<Map<String, TResult>> loadAsync(Class<TResult> clazz, Collection<String> ids);
+
+    /**
+     * Check if document exists without loading it
+     * @param id document id to check
+     * @return future with true if document exists
+     */
+    CompletableFuture<Boolean> existsAsync(String id);
+}
@@ -0,0 +1,18 @@
+package net.ravendb.client.documents.session;
+
+/**
+ * Entity which tracks its own modifications. When such entity reports no changes,
+ * session skips converting it to json and comparing it with the original document on SaveChanges.
+ */
+public interface IChangeTrackingEntity {
+
+    /**
+     * @return true if entity was modified since it was loaded or last saved
+     */
+    boolean hasChanges();
+
+    /**
+     * Called by the session once entity state is in sync with the server.
+     */
+    void acceptChanges();
+}
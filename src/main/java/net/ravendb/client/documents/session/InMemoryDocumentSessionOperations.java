@@ -15,6 +15,7 @@ import net.ravendb.client.documents.IdTypeAndName;
 import net.ravendb.client.documents.commands.GetDocumentsCommand;
 import net.ravendb.client.documents.commands.batches.*;
 import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.documents.conventions.EntityModel;
 import net.ravendb.client.documents.conventions.IShouldIgnoreEntityChanges;
 import net.ravendb.client.documents.identity.GenerateEntityIdOnTheClient;
 import net.ravendb.client.documents.operations.OperationExecutor;
@@ -169,7 +170,7 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
     }
 
     //Entities whose id we already know do not exists, because they are a missing include, or a missing load, etc.
-    protected final Set<String> _knownMissingIds = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    protected final Set<String> _knownMissingIds = CaseInsensitiveHashMap.newSet();
 
     private Map<String, Object> externalState;
 
@@ -192,7 +193,7 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
     /**
      * Translate between an ID and its associated entity
      */
-    public final Map<String, DocumentInfo> includedDocumentsById = new TreeMap<>(String::compareToIgnoreCase);
+    public final Map<String, DocumentInfo> includedDocumentsById = new CaseInsensitiveHashMap<>();
 
     /**
      * Translate between an CV and its associated entity
@@ -357,7 +358,7 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
 
     public final boolean noTracking;
 
-    public Map<String, ForceRevisionStrategy> idsForCreatingForcedRevisions = new TreeMap<>(String::compareToIgnoreCase);
+    public Map<String, ForceRevisionStrategy> idsForCreatingForcedRevisions = new CaseInsensitiveHashMap<>();
 
     public int getDeferredCommandsCount() {
         return deferredCommands.size();
@@ -863,7 +864,8 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
         // to detect if they generate duplicates.
         assertNoNonUniqueInstance(entity, id);
 
-        String collectionName = _requestExecutor.getConventions().getCollectionName(entity);
+        EntityModel entityModel = _requestExecutor.getConventions().getEntityModel(entity.getClass());
+        String collectionName = entityModel.getCollectionName();
 
         ObjectMapper mapper = JsonExtensions.getDefaultMapper();
         ObjectNode metadata = mapper.createObjectNode();
@@ -872,7 +874,7 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
             metadata.set(Constants.Documents.Metadata.COLLECTION, mapper.convertValue(collectionName, JsonNode.class));
         }
 
-        String javaType = _requestExecutor.getConventions().getJavaClassName(entity.getClass());
+        String javaType = entityModel.getJavaClassName();
         if (javaType != null) {
             metadata.set(Constants.Documents.Metadata.RAVEN_JAVA_TYPE, mapper.convertValue(javaType, TextNode.class));
         }
@@ -1139,6 +1141,10 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
 
                 boolean dirtyMetadata = updateMetadataModifications(entity.getValue().getMetadataInstance(), entity.getValue().getMetadata());
 
+                if (!dirtyMetadata && isUnchangedTrackingEntity(entity.getKey(), entity.getValue())) {
+                    continue;
+                }
+
                 ObjectNode document = entityToJson.convertEntityToJson(entity.getKey(), entity.getValue());
 
                 if ((!entityChanged(document, entity.getValue(), null)) && !dirtyMetadata) {
@@ -1222,6 +1228,32 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
                 " being opened or default database can be defined using 'DocumentStore.setDatabase()' method");
     }
 
+    private static boolean isUnchangedTrackingEntity(Object entity, DocumentInfo documentInfo) {
+        return entity instanceof IChangeTrackingEntity
+                && !documentInfo.isNewDocument()
+                && documentInfo.getDocument() != null
+                && !((IChangeTrackingEntity) entity).hasChanges()
+                && !isMetadataModified(documentInfo.getMetadataInstance());
+    }
+
+    private static boolean isMetadataModified(IMetadataDictionary metadataDictionary) {
+        if (metadataDictionary == null) {
+            return false;
+        }
+
+        if (metadataDictionary.isDirty()) {
+            return true;
+        }
+
+        for (Object value : metadataDictionary.values()) {
+            if (value == null || value instanceof MetadataAsDictionary && ((MetadataAsDictionary) value).isDirty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     protected boolean entityChanged(ObjectNode newObj, DocumentInfo documentInfo, Map<String, List<DocumentsChanges>> changes) {
         return JsonOperation.entityChanged(newObj, documentInfo, changes);
     }
@@ -1292,6 +1324,10 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
      */
     public boolean hasChanges() {
         for (DocumentsByEntityHolder.DocumentsByEntityEnumeratorResult entity : documentsByEntity) {
+            if (isUnchangedTrackingEntity(entity.getKey(), entity.getValue())) {
+                continue;
+            }
+
             ObjectNode document = entityToJson.convertEntityToJson(entity.getKey(), entity.getValue());
             if (entityChanged(document, entity.getValue(), null)) {
                 return true;
@@ -1314,6 +1350,10 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
             return false;
         }
 
+        if (isUnchangedTrackingEntity(entity, documentInfo)) {
+            return false;
+        }
+
         ObjectNode document = entityToJson.convertEntityToJson(entity, documentInfo);
         return entityChanged(document, documentInfo, null);
     }
@@ -2294,6 +2334,8 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
             throw new RuntimeException("Unable to refresh entity: " + e.getMessage(), e);
         }
 
+        EntityToJson.acceptChanges(entity);
+
         DocumentInfo documentInfoById = documentsById.getValue(documentInfo.getId());
 
         if (documentInfoById != null) {
@@ -2469,6 +2511,8 @@ public abstract class InMemoryDocumentSessionOperations implements CleanCloseabl
                     ObjectNode document = documentInfoObjectNodeTuple.second;
                     info.setNewDocument(false);
                     info.setDocument(document);
+
+                    EntityToJson.acceptChanges(info.getEntity());
                 }
 
                 if (_clearDeletedEntities) {
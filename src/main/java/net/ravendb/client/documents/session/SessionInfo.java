@@ -99,6 +99,9 @@ public class SessionInfo {
             case FASTEST_NODE:
                 result = requestExecutor.getFastestNode();
                 break;
+            case LEAST_LOADED:
+                result = requestExecutor.getLeastLoadedNode();
+                break;
             default:
                 throw new IllegalArgumentException(requestExecutor.getConventions().getReadBalanceBehavior().toString());
         }
@@ -0,0 +1,177 @@
+package net.ravendb.client.documents.session.operations;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.documents.CloseableIterator;
+import net.ravendb.client.documents.commands.GetDocumentsCommand;
+import net.ravendb.client.documents.commands.GetDocumentsResult;
+import net.ravendb.client.documents.session.InMemoryDocumentSessionOperations;
+import net.ravendb.client.primitives.CleanCloseable;
+import net.ravendb.client.primitives.ExceptionsUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Loads large number of documents by splitting ids into chunks, which are requested concurrently (up to max concurrency).
+ * Chunks are returned in completion order, so caller can process loaded documents while remaining chunks are still being loaded.
+ */
+public class ChunkedLoadOperation implements CleanCloseable {
+
+    private static final Log logger = LogFactory.getLog(ChunkedLoadOperation.class);
+
+    private final InMemoryDocumentSessionOperations _session;
+    private final Iterator<String[]> _pendingChunks;
+    private final int _maxConcurrency;
+    private final BlockingQueue<Chunk> _completedChunks = new LinkedBlockingQueue<>();
+
+    private int _chunksInFlight;
+    private boolean _closed;
+
+    public ChunkedLoadOperation(InMemoryDocumentSessionOperations session, String[] ids, int chunkSize, int maxConcurrency) {
+        _session = session;
+        _maxConcurrency = maxConcurrency;
+
+        List<String[]> chunks = new ArrayList<>();
+        for (int start = 0; start < ids.length; start += chunkSize) {
+            chunks.add(Arrays.copyOfRange(ids, start, Math.min(start + chunkSize, ids.length)));
+        }
+
+        _pendingChunks = chunks.iterator();
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Requesting " + ids.length + " ids in " + chunks.size() + " chunks from " + session.storeIdentifier());
+        }
+    }
+
+    /**
+     * Waits for the next loaded chunk.
+     * @return next loaded chunk (in completion order) or null when all chunks were loaded
+     */
+    public Chunk nextChunk() {
+        startChunks();
+
+        if (_chunksInFlight == 0) {
+            return null;
+        }
+
+        Chunk chunk;
+        try {
+            chunk = _completedChunks.take();
+        } catch (InterruptedException e) {
+            throw ExceptionsUtils.unwrapException(e);
+        }
+
+        _chunksInFlight--;
+
+        if (chunk.error != null) {
+            close();
+            Throwable error = chunk.error instanceof CompletionException && chunk.error.getCause() != null ? chunk.error.getCause() : chunk.error;
+            throw ExceptionsUtils.unwrapException(error);
+        }
+
+        // keep requests in flight while caller processes this chunk
+        startChunks();
+
+        return chunk;
+    }
+
+    private void startChunks() {
+        while (!_closed && _chunksInFlight < _maxConcurrency && _pendingChunks.hasNext()) {
+            String[] ids = _pendingChunks.next();
+
+            GetDocumentsCommand command = new GetDocumentsCommand(_session.getConventions(), ids, null, false);
+            command.setTransactionMode(_session.getTransactionMode());
+            command.setDocumentCache(_session.getRequestExecutor().getDocumentCache());
+
+            _chunksInFlight++;
+
+            _session.getRequestExecutor().executeAsync(command, _session.getSessionInfo())
+                    .whenComplete((r, e) -> _completedChunks.add(new Chunk(ids, e == null ? command.getResult() : null, e)));
+        }
+    }
+
+    /**
+     * @return iterator over loaded documents (missing documents are skipped), in chunk completion order
+     */
+    public CloseableIterator<ObjectNode> documents() {
+        return new DocumentsIterator();
+    }
+
+    /**
+     * Stops sending remaining chunks. Requests already sent are completed in background and their results are ignored.
+     */
+    @Override
+    public void close() {
+        _closed = true;
+    }
+
+    public static class Chunk {
+        private final String[] ids;
+        private final GetDocumentsResult result;
+        private final Throwable error;
+
+        Chunk(String[] ids, GetDocumentsResult result, Throwable error) {
+            this.ids = ids;
+            this.result = result;
+            this.error = error;
+        }
+
+        public String[] getIds() {
+            return ids;
+        }
+
+        public GetDocumentsResult getResult() {
+            return result;
+        }
+    }
+
+    private class DocumentsIterator implements CloseableIterator<ObjectNode> {
+        private Iterator<JsonNode> _current = Collections.emptyIterator();
+        private ObjectNode _next;
+
+        @Override
+        public boolean hasNext() {
+            while (_next == null) {
+                if (_current.hasNext()) {
+                    JsonNode document = _current.next();
+                    if (document instanceof ObjectNode) {
+                        _next = (ObjectNode) document;
+                    }
+                    continue;
+                }
+
+                Chunk chunk = _closed ? null : nextChunk();
+                if (chunk == null) {
+                    return false;
+                }
+
+                _current = chunk.result != null && chunk.result.getResults() != null
+                        ? chunk.result.getResults().iterator()
+                        : Collections.emptyIterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public ObjectNode next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ObjectNode next = _next;
+            _next = null;
+            return next;
+        }
+
+        @Override
+        public void close() {
+            ChunkedLoadOperation.this.close();
+        }
+    }
+}
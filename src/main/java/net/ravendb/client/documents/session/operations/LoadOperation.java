@@ -10,6 +10,7 @@ import net.ravendb.client.documents.session.ClusterTransactionOperationsBase;
 import net.ravendb.client.documents.session.DocumentInfo;
 import net.ravendb.client.documents.session.InMemoryDocumentSessionOperations;
 import net.ravendb.client.documents.session.TransactionMode;
+import net.ravendb.client.extensions.JsonExtensions;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -53,10 +54,33 @@ public class LoadOperation {
                 : new GetDocumentsCommand(_session.getConventions(), _ids, _includes, _countersToInclude, _revisionsToIncludeByChangeVector, _revisionsToIncludeByDateTimeBefore, _timeSeriesToInclude, _compareExchangeValuesToInclude, false);
 
         cmd.setTransactionMode(_session.getTransactionMode());
+        cmd.setDocumentCache(_session.getRequestExecutor().getDocumentCache());
 
         return cmd;
     }
 
+    /**
+     * @param chunkSize max number of ids per request
+     * @return true if ids should be requested in chunks: there are more ids than chunk size and nothing is included
+     */
+    public boolean shouldLoadInChunks(int chunkSize) {
+        return _ids != null && _ids.length > chunkSize
+                && _includes == null && _countersToInclude == null && !_includeAllCounters
+                && _revisionsToIncludeByChangeVector == null && _revisionsToIncludeByDateTimeBefore == null
+                && _compareExchangeValuesToInclude == null && _timeSeriesToInclude == null;
+    }
+
+    public ChunkedLoadOperation createChunkedRequest(int chunkSize, int maxConcurrency) {
+        if (_session.checkIfIdAlreadyIncluded(_ids, null)) {
+            return null;
+        }
+
+        // all chunks count as a single request
+        _session.incrementRequestCount();
+
+        return new ChunkedLoadOperation(_session, _ids, chunkSize, maxConcurrency);
+    }
+
     public LoadOperation byId(String id) {
         if (StringUtils.isBlank(id)) {
             return this;
@@ -233,6 +257,55 @@ public class LoadOperation {
         return finalResults;
 
     }
+
+    /**
+     * Registers documents loaded by single chunk of chunked request.
+     * @param chunk loaded chunk
+     */
+    public void setChunkResult(ChunkedLoadOperation.Chunk chunk) {
+        _resultsSet = true;
+        GetDocumentsResult result = chunk.getResult();
+
+        if (_session.noTracking) {
+            if (_results == null) {
+                _results = new GetDocumentsResult();
+                _results.setResults(JsonExtensions.getDefaultMapper().createArrayNode());
+            }
+
+            if (result != null && result.getResults() != null) {
+                _results.getResults().addAll(result.getResults());
+            }
+            return;
+        }
+
+        if (result == null) {
+            _session.registerMissing(chunk.getIds());
+            return;
+        }
+
+        boolean includingMissingAtomicGuards = _session.getTransactionMode() == TransactionMode.CLUSTER_WIDE;
+        if (includingMissingAtomicGuards) {
+            ClusterTransactionOperationsBase clusterSession = _session.getClusterSession();
+            clusterSession.registerCompareExchangeIncludes(result.getCompareExchangeValueIncludes(), true);
+        }
+
+        for (JsonNode document : result.getResults()) {
+            if (document == null || document.isNull()) {
+                continue;
+            }
+
+            DocumentInfo newDocumentInfo = DocumentInfo.getNewDocumentInfo((ObjectNode) document);
+            _session.documentsById.add(newDocumentInfo);
+        }
+
+        for (String id : chunk.getIds()) {
+            DocumentInfo value = _session.documentsById.getValue(id);
+            if (value == null) {
+                _session.registerMissing(id);
+            }
+        }
+    }
+
     public void setResult(GetDocumentsResult result) {
         _resultsSet = true;
 
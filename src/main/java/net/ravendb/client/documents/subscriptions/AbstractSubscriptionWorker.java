@@ -34,9 +34,9 @@ import java.net.Socket;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -513,6 +513,11 @@ public abstract class AbstractSubscriptionWorker<TBatch extends SubscriptionBatc
     }
 
     private void processSubscriptionInternal(Socket tcpClientCopy) throws Exception {
+        if (_options.getPrefetchDepth() > 0) {
+            processSubscriptionWithPrefetch(tcpClientCopy);
+            return;
+        }
+
         CompletableFuture<Void> notifiedSubscriber = CompletableFuture.completedFuture(null);
 
         try {
@@ -522,17 +527,7 @@ public abstract class AbstractSubscriptionWorker<TBatch extends SubscriptionBatc
                 prepareBatch(tcpClientCopy, batch, notifiedSubscriber);
 
                 notifiedSubscriber = CompletableFuture.runAsync(() -> {
-                    try {
-                        _subscriber.accept(batch);
-                    } catch (Exception ex) {
-                        if (_logger.isDebugEnabled()) {
-                            _logger.debug("Subscription " + _options.getSubscriptionName() + ". Subscriber threw an exception on document batch", ex);
-                        }
-
-                        if (!_options.isIgnoreSubscriberErrors()) {
-                            throw new SubscriberErrorException("Subscriber threw an exception in subscription " + _options.getSubscriptionName(), ex);
-                        }
-                    }
+                    notifySubscriber(batch);
 
                     try {
                         if (tcpClientCopy != null) {
@@ -554,12 +549,131 @@ public abstract class AbstractSubscriptionWorker<TBatch extends SubscriptionBatc
         }
     }
 
+    private void processSubscriptionWithPrefetch(Socket tcpClientCopy) throws Exception {
+        BlockingQueue<PrefetchedBatch> bufferedBatches = new ArrayBlockingQueue<>(_options.getPrefetchDepth());
+        AtomicBoolean readerDone = new AtomicBoolean();
+
+        CompletableFuture<Void> subscriberTask = CompletableFuture.runAsync(() -> {
+            try {
+                // server already considers buffered batches as acknowledged, so we process all of them, even after cancellation
+                while (true) {
+                    PrefetchedBatch prefetched = bufferedBatches.poll(100, TimeUnit.MILLISECONDS);
+                    if (prefetched == null) {
+                        if (readerDone.get() && bufferedBatches.isEmpty()) {
+                            return;
+                        }
+
+                        continue;
+                    }
+
+                    notifySubscriber(prefetched.batch);
+                    prefetched.stepCompleted();
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }, _executorService);
+
+        subscriberTask.whenComplete((result, error) -> {
+            if (error != null) {
+                // reader might be blocked on the socket, closing it lets us stop right away
+                IOUtils.closeQuietly(tcpClientCopy, null);
+            }
+        });
+
+        try {
+            PrefetchedBatch acknowledgedBatch = null;
+
+            while (!_processingCts.getToken().isCancellationRequested()) {
+                TBatch batch = createEmptyBatch();
+                BatchFromServer incomingBatch = readSingleSubscriptionBatchFromServer(tcpClientCopy, batch,
+                        acknowledgedBatch != null ? acknowledgedBatch::stepCompleted : null);
+
+                _processingCts.getToken().throwIfCancellationRequested();
+                initializeBatch(batch, incomingBatch);
+
+                PrefetchedBatch prefetched = new PrefetchedBatch(batch);
+                while (!bufferedBatches.offer(prefetched, 100, TimeUnit.MILLISECONDS)) {
+                    _processingCts.getToken().throwIfCancellationRequested();
+                    throwIfSubscriberFailed(subscriberTask);
+                }
+
+                throwIfSubscriberFailed(subscriberTask);
+
+                sendAck(batch, tcpClientCopy);
+                acknowledgedBatch = prefetched;
+            }
+        } catch (Exception e) {
+            try {
+                waitForSubscriber(subscriberTask, readerDone);
+            } catch (ExecutionException subscriberError) {
+                // reading fails once the subscriber closed the connection, so its error is the actual cause
+                subscriberError.addSuppressed(e);
+                throw subscriberError;
+            }
+
+            throw e;
+        }
+
+        waitForSubscriber(subscriberTask, readerDone);
+    }
+
+    private static void waitForSubscriber(CompletableFuture<Void> subscriberTask, AtomicBoolean readerDone) throws InterruptedException, ExecutionException {
+        readerDone.set(true);
+
+        // let the subscriber drain already acknowledged batches before we reconnect
+        subscriberTask.get();
+    }
+
+    /**
+     * Batch buffered for the subscriber. After acknowledgment event is raised once the subscriber processed the batch
+     * and the server confirmed its acknowledgment, whichever comes last.
+     */
+    private class PrefetchedBatch {
+        private final TBatch batch;
+        private final AtomicInteger pendingSteps = new AtomicInteger(2);
+
+        PrefetchedBatch(TBatch batch) {
+            this.batch = batch;
+        }
+
+        void stepCompleted() {
+            if (pendingSteps.decrementAndGet() == 0) {
+                EventHelper.invoke(afterAcknowledgment, batch);
+            }
+        }
+    }
+
+    private static void throwIfSubscriberFailed(CompletableFuture<Void> subscriberTask) throws Exception {
+        if (subscriberTask.isCompletedExceptionally()) {
+            subscriberTask.get();
+        }
+    }
+
+    private void notifySubscriber(TBatch batch) {
+        long start = System.nanoTime();
+        try {
+            _subscriber.accept(batch);
+        } catch (Exception ex) {
+            if (_logger.isDebugEnabled()) {
+                _logger.debug("Subscription " + _options.getSubscriptionName() + ". Subscriber threw an exception on document batch", ex);
+            }
+
+            if (!_options.isIgnoreSubscriberErrors()) {
+                throw new SubscriberErrorException("Subscriber threw an exception in subscription " + _options.getSubscriptionName(), ex);
+            }
+        } finally {
+            getRequestExecutor().getConventions().getMetricsRegistry()
+                    .onSubscriptionBatchProcessed(_options.getSubscriptionName(), batch.getNumberOfItemsInBatch(), System.nanoTime() - start);
+        }
+    }
+
     private BatchFromServer prepareBatch(Socket tcpClientCopy, TBatch batch, CompletableFuture<Void> notifiedSubscriber) throws Exception {
         // start reading next batch from server on 1'st thread (can be before client started processing)
         CompletableFuture<BatchFromServer> readFromServer =
                 CompletableFuture.supplyAsync(() -> {
                     try {
-                        return readSingleSubscriptionBatchFromServer(tcpClientCopy, batch);
+                        return readSingleSubscriptionBatchFromServer(tcpClientCopy, batch, () -> EventHelper.invoke(afterAcknowledgment, batch));
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     }
@@ -581,12 +695,17 @@ public abstract class AbstractSubscriptionWorker<TBatch extends SubscriptionBatc
         BatchFromServer incomingBatch = readFromServer.get();
 
         _processingCts.getToken().throwIfCancellationRequested();
-        batch.initialize(incomingBatch);
+        initializeBatch(batch, incomingBatch);
 
         return incomingBatch;
     }
 
-    private BatchFromServer readSingleSubscriptionBatchFromServer(Socket socket, TBatch batch) throws IOException {
+    private void initializeBatch(TBatch batch, BatchFromServer incomingBatch) {
+        batch.initialize(incomingBatch);
+        batch.deserializeResults(_options.getDeserializationParallelism(), _executorService);
+    }
+
+    private BatchFromServer readSingleSubscriptionBatchFromServer(Socket socket, TBatch batch, Runnable onAcknowledgmentConfirmed) throws IOException {
         List<SubscriptionConnectionServerMessage> incomingBatch = new ArrayList<>();
         List<ObjectNode> includes = new ArrayList<>();
         List<BatchFromServer.CounterIncludeItem> counterIncludes = new ArrayList<>();
@@ -615,7 +734,9 @@ public abstract class AbstractSubscriptionWorker<TBatch extends SubscriptionBatc
                     endOfBatch = true;
                     break;
                 case CONFIRM:
-                    EventHelper.invoke(afterAcknowledgment, batch);
+                    if (onAcknowledgmentConfirmed != null) {
+                        onAcknowledgmentConfirmed.run();
+                    }
 
                     incomingBatch.clear();
                     batch.getItems().clear();
@@ -657,8 +778,12 @@ public abstract class AbstractSubscriptionWorker<TBatch extends SubscriptionBatc
             return null;
         }
 
-        TreeNode response = _parser.readValueAsTree();
-        return JsonExtensions.getDefaultMapper().treeToValue(response, SubscriptionConnectionServerMessage.class);
+        if (_parser.nextToken() == null) {
+            return null;
+        }
+
+        // decode message straight from the stream, without intermediate tree
+        return JsonExtensions.getDefaultMapper().readValue(_parser, SubscriptionConnectionServerMessage.class);
     }
 
     private void sendAck(TBatch batch, Socket networkStream) throws IOException {
@@ -12,6 +12,8 @@ import org.apache.commons.logging.Log;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 public abstract class SubscriptionBatchBase<T> {
 
@@ -19,6 +21,8 @@ public abstract class SubscriptionBatchBase<T> {
      * Represents a single item in a subscription batch results. This class should be used only inside the subscription's Run delegate, using it outside this scope might cause unexpected behavior.
      */
     public static class Item<T> {
+        private SubscriptionBatchBase<T> _batch;
+        private volatile boolean _resultInitialized;
         private T _result;
         private String exceptionMessage;
         private String id;
@@ -50,15 +54,34 @@ public abstract class SubscriptionBatchBase<T> {
             return revision;
         }
 
+        /**
+         * Entity is deserialized from raw result on first access.
+         * @return entity
+         */
         public T getResult() {
             if (exceptionMessage != null) {
                 throwItemProcessException();
             }
+
+            if (!_resultInitialized) {
+                initializeResult();
+            }
+
             return _result;
         }
 
         void setResult(T result) {
             _result = result;
+            _resultInitialized = true;
+        }
+
+        private synchronized void initializeResult() {
+            if (_resultInitialized) {
+                return;
+            }
+
+            _result = _batch.convertResult(this);
+            _resultInitialized = true;
         }
 
         private ObjectNode rawResult;
@@ -168,41 +191,13 @@ public abstract class SubscriptionBatchBase<T> {
                 _logger.debug("Got " + id + " (change vector: [" + changeVector + "], size: " + curDoc.size() + ")");
             }
 
-            T instance = null;
-
-            if (item.getException() == null) {
-                if (ObjectNode.class.equals(_clazz)) {
-                    instance = (T) curDoc;
-                } else {
-                    if (_revisions) {
-                        // parse outer object manually as Previous/Current has PascalCase
-                        JsonNode previous = curDoc.get("Previous");
-                        JsonNode current = curDoc.get("Current");
-                        Revision<T> revision = new Revision<>();
-                        if (current != null && !current.isNull()) {
-                            revision.setCurrent((T) EntityToJson.convertToEntity(_clazz, id, (ObjectNode) current, _requestExecutor.getConventions()));
-                        }
-                        if (previous != null && !previous.isNull()) {
-                            revision.setPrevious((T) EntityToJson.convertToEntity(_clazz, id, (ObjectNode) previous, _requestExecutor.getConventions()));
-                        }
-                        instance = (T) revision;
-                    } else {
-                        instance = (T) EntityToJson.convertToEntity(_clazz, id, curDoc, _requestExecutor.getConventions());
-                    }
-                }
-
-                if (StringUtils.isNotEmpty(id)) {
-                    ensureDocumentId(instance, id);
-                }
-            }
-
-            Item itemToAdd = new Item();
+            Item<T> itemToAdd = new Item<>();
+            itemToAdd._batch = this;
             itemToAdd.changeVector = changeVector;
             itemToAdd.id = id;
             itemToAdd.rawResult = curDoc;
             itemToAdd.rawMetadata = metadata;
             itemToAdd._metadata = new MetadataAsDictionary(metadata);
-            itemToAdd._result = instance;
             itemToAdd.exceptionMessage = item.getException();
             itemToAdd.projection = projection;
             itemToAdd.revision = _revisions;
@@ -211,6 +206,82 @@ public abstract class SubscriptionBatchBase<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private T convertResult(Item<T> item) {
+        ObjectNode curDoc = item.rawResult;
+        String id = item.id;
+
+        T instance;
+
+        if (ObjectNode.class.equals(_clazz)) {
+            instance = (T) curDoc;
+        } else {
+            if (_revisions) {
+                // parse outer object manually as Previous/Current has PascalCase
+                JsonNode previous = curDoc.get("Previous");
+                JsonNode current = curDoc.get("Current");
+                Revision<T> revision = new Revision<>();
+                if (current != null && !current.isNull()) {
+                    revision.setCurrent((T) EntityToJson.convertToEntity(_clazz, id, (ObjectNode) current, _requestExecutor.getConventions()));
+                }
+                if (previous != null && !previous.isNull()) {
+                    revision.setPrevious((T) EntityToJson.convertToEntity(_clazz, id, (ObjectNode) previous, _requestExecutor.getConventions()));
+                }
+                instance = (T) revision;
+            } else {
+                instance = (T) EntityToJson.convertToEntity(_clazz, id, curDoc, _requestExecutor.getConventions());
+            }
+        }
+
+        if (StringUtils.isNotEmpty(id)) {
+            ensureDocumentId(instance, id);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Deserializes results of all items up front, splitting the work into at most 'parallelism' parts
+     * executed concurrently. Conversion errors are not thrown here - they are thrown when given item result is accessed.
+     */
+    void deserializeResults(int parallelism, ExecutorService executorService) {
+        int count = _items.size();
+        if (parallelism <= 1 || count < 2 || ObjectNode.class.equals(_clazz)) {
+            return;
+        }
+
+        int chunkSize = (count + parallelism - 1) / parallelism;
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int start = chunkSize; start < count; start += chunkSize) {
+            int from = start;
+            int to = Math.min(count, start + chunkSize);
+            tasks.add(CompletableFuture.runAsync(() -> deserializeResults(from, to), executorService));
+        }
+
+        // current thread handles the first chunk
+        deserializeResults(0, Math.min(count, chunkSize));
+
+        for (CompletableFuture<Void> task : tasks) {
+            task.join();
+        }
+    }
+
+    private void deserializeResults(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Item<T> item = _items.get(i);
+            if (item.exceptionMessage != null) {
+                continue;
+            }
+
+            try {
+                item.getResult();
+            } catch (RuntimeException e) {
+                // will be thrown again when subscriber access the result
+            }
+        }
+    }
+
     private static void throwRequired(String name) {
         throw new IllegalStateException("Document must have a " + name);
     }
@@ -1,10 +1,16 @@
 package net.ravendb.client.documents.subscriptions;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.extensions.JsonExtensions;
 import net.ravendb.client.primitives.UseSharpEnum;
 
+import java.io.IOException;
 import java.util.Map;
 
+@JsonDeserialize(using = SubscriptionConnectionServerMessage.Deserializer.class)
 class SubscriptionConnectionServerMessage {
 
     @UseSharpEnum
@@ -154,4 +160,52 @@ class SubscriptionConnectionServerMessage {
     public void setMessage(String message) {
         this.message = message;
     }
+
+    public static class Deserializer extends JsonExtensions.StreamingObjectDeserializer<SubscriptionConnectionServerMessage> {
+
+        public Deserializer() {
+            super(SubscriptionConnectionServerMessage.class);
+        }
+
+        @Override
+        protected SubscriptionConnectionServerMessage createInstance() {
+            return new SubscriptionConnectionServerMessage();
+        }
+
+        @Override
+        protected void readProperty(JsonParser p, DeserializationContext ctxt, SubscriptionConnectionServerMessage message, String property) throws IOException {
+            switch (property) {
+                case "Type":
+                    message.setType(JsonExtensions.readValue(p, ctxt, MessageType.class));
+                    break;
+                case "Status":
+                    message.setStatus(JsonExtensions.readValue(p, ctxt, ConnectionStatus.class));
+                    break;
+                case "Data":
+                    message.setData(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "Includes":
+                    message.setIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "CounterIncludes":
+                    message.setCounterIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "IncludedCounterNames":
+                    message.setIncludedCounterNames(JsonExtensions.readStringArrayMap(p, ctxt));
+                    break;
+                case "TimeSeriesIncludes":
+                    message.setTimeSeriesIncludes(JsonExtensions.readObjectNode(p, ctxt));
+                    break;
+                case "Exception":
+                    message.setException(p.getValueAsString());
+                    break;
+                case "Message":
+                    message.setMessage(p.getValueAsString());
+                    break;
+                default:
+                    p.skipChildren();
+                    break;
+            }
+        }
+    }
 }
@@ -20,6 +20,8 @@ public class SubscriptionWorkerOptions {
     private boolean closeWhenNoDocsLeft;
     private int receiveBufferSize;
     private int sendBufferSize;
+    private int prefetchDepth;
+    private int deserializationParallelism;
 
     private String workerId;
 
@@ -175,6 +177,49 @@ public class SubscriptionWorkerOptions {
         this.sendBufferSize = sendBufferSize;
     }
 
+    /**
+     * @return Number of batches buffered ahead of the subscriber. Default: 0
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * Number of batches buffered ahead of the subscriber. With 0 (default) next batch is read while the
+     * subscriber processes current one, and it is acknowledged only after the subscriber is done.
+     * Server sends next batch only after previous one was acknowledged, so buffering more batches requires
+     * acknowledging them as soon as they are buffered. When the worker stops, buffered batches are still passed
+     * to the subscriber, but documents from batches which were not processed (i.e. when the subscriber fails)
+     * won't be resent. After acknowledgment event is raised only once the subscriber processed the batch.
+     * @param prefetchDepth Number of batches buffered ahead of the subscriber
+     */
+    public void setPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("PrefetchDepth cannot be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    /**
+     * @return Maximum number of threads used to deserialize items of a batch up front. Default: 0
+     */
+    public int getDeserializationParallelism() {
+        return deserializationParallelism;
+    }
+
+    /**
+     * Maximum number of threads used to deserialize items of a batch before the subscriber is invoked.
+     * With 0 or 1 (default) items are deserialized lazily, on first access to item result, by the subscriber thread.
+     * Useful for large batches of documents which are expensive to deserialize.
+     * @param deserializationParallelism Maximum number of threads used to deserialize items of a batch up front
+     */
+    public void setDeserializationParallelism(int deserializationParallelism) {
+        if (deserializationParallelism < 0) {
+            throw new IllegalArgumentException("DeserializationParallelism cannot be negative");
+        }
+        this.deserializationParallelism = deserializationParallelism;
+    }
+
     public String getWorkerId() {
         return workerId;
     }
@@ -3,10 +3,13 @@ package net.ravendb.client.extensions;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
 import net.ravendb.client.Constants;
@@ -23,17 +26,66 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 
 public class JsonExtensions {
 
     private static volatile ObjectMapper _defaultMapper;
 
+    private static final Class<?> BYTECODE_ACCELERATOR_MODULE = findBytecodeAcceleratorModule();
+
+    private static Class<?> findBytecodeAcceleratorModule() {
+        List<String> candidates = new ArrayList<>();
+
+        // blackbird relies on MethodHandles.privateLookupIn (JDK 9+), afterburner works on any runtime
+        if (Arrays.stream(MethodHandles.class.getMethods()).anyMatch(m -> "privateLookupIn".equals(m.getName()))) {
+            candidates.add("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
+        }
+        candidates.add("com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+
+        for (String candidate : candidates) {
+            try {
+                Class<?> moduleClass = Class.forName(candidate);
+                if (com.fasterxml.jackson.databind.Module.class.isAssignableFrom(moduleClass)) {
+                    return moduleClass;
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                // not on classpath
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return true if jackson-module-blackbird or jackson-module-afterburner is available on classpath
+     */
+    public static boolean isBytecodeAccelerationSupported() {
+        return BYTECODE_ACCELERATOR_MODULE != null;
+    }
+
+    /**
+     * Registers module which replaces reflective property access with generated code (Blackbird or Afterburner).
+     * @param mapper mapper to register module on
+     * @throws UnsupportedOperationException if none of the modules is available on classpath
+     */
+    public static void registerBytecodeAccelerator(ObjectMapper mapper) {
+        if (BYTECODE_ACCELERATOR_MODULE == null) {
+            throw new UnsupportedOperationException("Bytecode acceleration requires com.fasterxml.jackson.module:jackson-module-blackbird " +
+                    "or com.fasterxml.jackson.module:jackson-module-afterburner on classpath");
+        }
+
+        try {
+            mapper.registerModule((com.fasterxml.jackson.databind.Module) BYTECODE_ACCELERATOR_MODULE.getConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create " + BYTECODE_ACCELERATOR_MODULE.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
     public static ObjectMapper getDefaultMapper() {
         if (_defaultMapper == null) {
             synchronized (JsonExtensions.class) {
@@ -146,6 +198,123 @@ public class JsonExtensions {
         }
     }
 
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        T read(JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
+    /**
+     * Base for hand-written deserializers of protocol objects, which are read property by property
+     * straight from the parser instead of going through bean introspection.
+     * @param <T> deserialized type
+     */
+    public abstract static class StreamingObjectDeserializer<T> extends StdDeserializer<T> {
+
+        protected StreamingObjectDeserializer(Class<T> type) {
+            super(type);
+        }
+
+        protected abstract T createInstance();
+
+        /**
+         * Reads value of the property, parser is positioned at the value. Unknown properties must be skipped.
+         */
+        protected abstract void readProperty(JsonParser p, DeserializationContext ctxt, T instance, String property) throws IOException;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            }
+
+            if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+
+            T instance = createInstance();
+
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String property = p.currentName();
+                p.nextToken();
+                readProperty(p, ctxt, instance, property);
+            }
+
+            return instance;
+        }
+    }
+
+    public static ObjectNode readObjectNode(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readNode(p, ctxt, ObjectNode.class);
+    }
+
+    public static ArrayNode readArrayNode(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readNode(p, ctxt, ArrayNode.class);
+    }
+
+    private static <T extends JsonNode> T readNode(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        JsonNode node = ctxt.readTree(p);
+        if (!type.isInstance(node)) {
+            return ctxt.reportInputMismatch(type, "Expected %s but was %s", type.getSimpleName(), node.getNodeType());
+        }
+
+        return type.cast(node);
+    }
+
+    public static Long readLong(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : p.getValueAsLong();
+    }
+
+    public static <T> T readValue(JsonParser p, DeserializationContext ctxt, Class<T> type) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, type);
+    }
+
+    public static String[] readStringArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            return (String[]) ctxt.handleUnexpectedToken(String[].class, p);
+        }
+
+        List<String> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(p.currentToken() == JsonToken.VALUE_NULL ? null : p.getValueAsString());
+        }
+
+        return values.toArray(new String[0]);
+    }
+
+    public static Map<String, String[]> readStringArrayMap(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return readMap(p, ctxt, JsonExtensions::readStringArray);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Map<String, T> readMap(JsonParser p, DeserializationContext ctxt, ValueReader<T> valueReader) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return (Map<String, T>) ctxt.handleUnexpectedToken(Map.class, p);
+        }
+
+        Map<String, T> map = new LinkedHashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String key = p.currentName();
+            p.nextToken();
+            map.put(key, valueReader.read(p, ctxt));
+        }
+
+        return map;
+    }
+
     public static ObjectMapper createDefaultJsonSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.setPropertyNamingStrategy(new DotNetNamingStrategy());
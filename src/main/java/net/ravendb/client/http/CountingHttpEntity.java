@@ -0,0 +1,112 @@
+package net.ravendb.client.http;
+
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Response entity which counts bytes read from its content. Number of bytes read is reported once -
+ * when content was read till the end or when the entity (or its content stream) was closed.
+ * Both blocking and async transport wrap responses with it, so response sizes are measured the same way
+ * regardless of chunked transfer or content decoding.
+ */
+class CountingHttpEntity extends HttpEntityWrapper {
+
+    private final LongConsumer _onContentConsumed;
+    private final AtomicLong _bytesRead = new AtomicLong();
+    private final AtomicBoolean _reported = new AtomicBoolean();
+
+    CountingHttpEntity(HttpEntity wrappedEntity, LongConsumer onContentConsumed) {
+        super(wrappedEntity);
+        _onContentConsumed = onContentConsumed;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        InputStream content = super.getContent();
+        return content != null ? new CountingInputStream(content) : null;
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        // wrapped entity would write its content directly, bypassing the counting stream
+        try (InputStream content = getContent()) {
+            if (content == null) {
+                return;
+            }
+
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                outStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            report();
+        }
+    }
+
+    private void report() {
+        if (_reported.compareAndSet(false, true)) {
+            _onContentConsumed.accept(_bytesRead.get());
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b == -1) {
+                report();
+            } else {
+                _bytesRead.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read == -1) {
+                report();
+            } else {
+                _bytesRead.addAndGet(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            _bytesRead.addAndGet(skipped);
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                report();
+            }
+        }
+    }
+}
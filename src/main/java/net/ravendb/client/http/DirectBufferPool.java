@@ -0,0 +1,89 @@
+package net.ravendb.client.http;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of fixed size direct memory blocks used by {@link HttpCacheStorage#OFF_HEAP} cache storage.
+ * Direct memory is allocated in slabs and blocks go back to the pool when cached item is removed,
+ * so it is reused instead of waiting for GC to release it.
+ */
+class DirectBufferPool {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private static final int BLOCKS_PER_SLAB = 1024;
+
+    private final ConcurrentLinkedQueue<ByteBuffer> _freeBlocks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong _allocatedBytes = new AtomicLong();
+
+    static int blocksFor(int size) {
+        return (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    /**
+     * @return Number of bytes of direct memory allocated by the pool
+     */
+    long getAllocatedBytes() {
+        return _allocatedBytes.get();
+    }
+
+    ByteBuffer[] write(byte[] payload) {
+        ByteBuffer[] blocks = new ByteBuffer[blocksFor(payload.length)];
+
+        for (int i = 0; i < blocks.length; i++) {
+            ByteBuffer block = takeBlock();
+            int offset = i * BLOCK_SIZE;
+            block.put(payload, offset, Math.min(BLOCK_SIZE, payload.length - offset));
+            blocks[i] = block;
+        }
+
+        return blocks;
+    }
+
+    static void read(ByteBuffer[] blocks, byte[] target) {
+        for (int i = 0; i < blocks.length; i++) {
+            int offset = i * BLOCK_SIZE;
+
+            ByteBuffer block = blocks[i].duplicate();
+            ((Buffer) block).clear();
+            block.get(target, offset, Math.min(BLOCK_SIZE, target.length - offset));
+        }
+    }
+
+    void release(ByteBuffer[] blocks) {
+        for (ByteBuffer block : blocks) {
+            ((Buffer) block).clear();
+            _freeBlocks.add(block);
+        }
+    }
+
+    private ByteBuffer takeBlock() {
+        while (true) {
+            ByteBuffer block = _freeBlocks.poll();
+            if (block != null) {
+                return block;
+            }
+
+            allocateSlab();
+        }
+    }
+
+    private synchronized void allocateSlab() {
+        if (!_freeBlocks.isEmpty()) {
+            return;
+        }
+
+        ByteBuffer slab = ByteBuffer.allocateDirect(BLOCK_SIZE * BLOCKS_PER_SLAB);
+        for (int i = 0; i < BLOCKS_PER_SLAB; i++) {
+            // cast keeps Buffer method signatures when running on Java 8
+            ((Buffer) slab).limit((i + 1) * BLOCK_SIZE);
+            ((Buffer) slab).position(i * BLOCK_SIZE);
+            _freeBlocks.add(slab.slice());
+        }
+
+        _allocatedBytes.addAndGet(slab.capacity());
+    }
+}
@@ -0,0 +1,205 @@
+package net.ravendb.client.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import net.ravendb.client.Constants;
+import net.ravendb.client.primitives.CleanCloseable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps parsed documents loaded by id, so responses served from HTTP cache (304 or aggressive caching)
+ * don't have to be parsed again. Items are shared between sessions, so callers get copies of stored documents.
+ *
+ * Documents are kept by id together with their change vector, one version per id. For each response
+ * the cache remembers change vectors of returned documents, so the same document is reused by all
+ * responses it was part of (i.e. single and multi id loads) and is never served when it changed since.
+ */
+public class DocumentCache implements CleanCloseable {
+
+    private final Cache<String, DocumentCacheItem> items;
+    private final Cache<String, String[]> responses;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maxNumberOfDocuments maximum number of documents to keep, least recently used are evicted first
+     */
+    public DocumentCache(int maxNumberOfDocuments) {
+        if (maxNumberOfDocuments <= 0) {
+            throw new IllegalArgumentException("MaxNumberOfDocuments must be positive");
+        }
+
+        items = CacheBuilder.newBuilder()
+                .maximumSize(maxNumberOfDocuments)
+                .removalListener(this::onItemRemoved)
+                .build();
+
+        responses = CacheBuilder.newBuilder()
+                .maximumSize(maxNumberOfDocuments)
+                .build();
+    }
+
+    private void onItemRemoved(RemovalNotification<String, DocumentCacheItem> notification) {
+        if (notification.getCause() == RemovalCause.SIZE) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return Number of lookups which found all documents of the response in cache
+     */
+    public long getNumberOfHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return Number of lookups which didn't find all documents of the response in cache
+     */
+    public long getNumberOfMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return Number of documents removed from cache due to size limit
+     */
+    public long getNumberOfEvictions() {
+        return evictions.get();
+    }
+
+    public long getNumberOfItems() {
+        return items.size();
+    }
+
+    /**
+     * Stores documents of the response. Document is copied only when its change vector differs from the cached one.
+     * @param responseEtag Etag of the response documents came from
+     * @param ids Requested ids, in the order of results
+     * @param results Returned documents, null (or json null) when document doesn't exist
+     */
+    public void set(String responseEtag, List<String> ids, ArrayNode results) {
+        if (responseEtag == null || ids == null || results == null || ids.size() != results.size()) {
+            return;
+        }
+
+        String[] changeVectors = new String[ids.size()];
+
+        for (int i = 0; i < changeVectors.length; i++) {
+            JsonNode document = results.get(i);
+            if (document instanceof ObjectNode) {
+                changeVectors[i] = getChangeVector((ObjectNode) document);
+                if (changeVectors[i] == null) {
+                    // document can't be validated later on
+                    return;
+                }
+            }
+        }
+
+        for (int i = 0; i < changeVectors.length; i++) {
+            String key = key(ids.get(i));
+
+            DocumentCacheItem item = items.getIfPresent(key);
+            if (item != null && item.matches(changeVectors[i])) {
+                continue;
+            }
+
+            JsonNode document = results.get(i);
+            items.put(key, new DocumentCacheItem(document instanceof ObjectNode ? ((ObjectNode) document).deepCopy() : null, changeVectors[i]));
+        }
+
+        responses.put(responseEtag, changeVectors);
+    }
+
+    /**
+     * @param responseEtag Etag of the response which was validated by HTTP cache
+     * @param ids Requested ids, in the order of results
+     * @return Copies of cached documents (json null for missing ones) or null when any of them isn't cached in the version returned by the response
+     */
+    public ArrayNode get(String responseEtag, List<String> ids) {
+        String[] changeVectors = responseEtag != null && ids != null ? responses.getIfPresent(responseEtag) : null;
+        if (changeVectors == null || changeVectors.length != ids.size()) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        ArrayNode results = JsonNodeFactory.instance.arrayNode(ids.size());
+
+        for (int i = 0; i < changeVectors.length; i++) {
+            DocumentCacheItem item = items.getIfPresent(key(ids.get(i)));
+            if (item == null || !item.matches(changeVectors[i])) {
+                misses.incrementAndGet();
+                return null;
+            }
+
+            if (item.isMissing()) {
+                results.addNull();
+            } else {
+                results.add(item.getDocument());
+            }
+        }
+
+        hits.incrementAndGet();
+        return results;
+    }
+
+    /**
+     * Removes document from cache, i.e. when it was modified.
+     * @param id Document id
+     */
+    public void invalidate(String id) {
+        if (id != null) {
+            items.invalidate(key(id));
+        }
+    }
+
+    public void clear() {
+        items.invalidateAll();
+        responses.invalidateAll();
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private static String key(String id) {
+        return id.toLowerCase();
+    }
+
+    private static String getChangeVector(ObjectNode document) {
+        JsonNode changeVector = document.path(Constants.Documents.Metadata.KEY).get(Constants.Documents.Metadata.CHANGE_VECTOR);
+        return changeVector != null && changeVector.isTextual() ? changeVector.asText() : null;
+    }
+
+    private static class DocumentCacheItem {
+        private final ObjectNode document;
+        private final String changeVector;
+
+        DocumentCacheItem(ObjectNode document, String changeVector) {
+            this.document = document;
+            this.changeVector = changeVector;
+        }
+
+        boolean isMissing() {
+            return document == null;
+        }
+
+        boolean matches(String changeVector) {
+            return Objects.equals(this.changeVector, changeVector);
+        }
+
+        ObjectNode getDocument() {
+            return document.deepCopy();
+        }
+    }
+}
@@ -1,29 +1,112 @@
 package net.ravendb.client.http;
 
+import com.github.luben.zstd.Zstd;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import net.ravendb.client.primitives.CleanCloseable;
 import net.ravendb.client.primitives.Reference;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class HttpCache implements CleanCloseable {
 
     public static final String NOT_FOUND_RESPONSE = "404 Response";
 
+    private static final int ITEM_OVERHEAD = 20;
+
+    private static final int COMPRESSION_LEVEL = 1;
+
     private Cache<String, HttpCacheItem> items;
 
+    private final HttpCacheStorage storage;
+
+    private final DirectBufferPool directBufferPool;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong totalSize = new AtomicLong();
+
+    private final ConcurrentMap<String, Set<HttpCacheItem>> itemsByDependency = new ConcurrentHashMap<>();
+
     public HttpCache(int size) {
+        this(size, HttpCacheStorage.HEAP);
+    }
+
+    public HttpCache(int size, HttpCacheStorage storage) {
+        this.storage = storage;
+        this.directBufferPool = storage == HttpCacheStorage.OFF_HEAP ? new DirectBufferPool() : null;
+
         items = CacheBuilder.newBuilder()
-                .softValues()
                 .maximumWeight(size)
-                .weigher((String k, HttpCacheItem v) -> v.payload != null ?  v.payload.length() + 20 : 20)
+                .weigher((String k, HttpCacheItem v) -> v.payloadSize + ITEM_OVERHEAD)
+                .removalListener(this::onItemRemoved)
                 .build();
     }
 
+    private void onItemRemoved(RemovalNotification<String, HttpCacheItem> notification) {
+        HttpCacheItem item = notification.getValue();
+        if (item != null) {
+            totalSize.addAndGet(-(item.payloadSize + ITEM_OVERHEAD));
+            untrackDependencies(item);
+            releasePayload(item);
+        }
+
+        if (notification.getCause() == RemovalCause.SIZE) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    public HttpCacheStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * @return Number of lookups which found an item in cache
+     */
+    public long getNumberOfHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return Number of lookups which didn't find an item in cache
+     */
+    public long getNumberOfMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return Number of items removed from cache due to size budget
+     */
+    public long getNumberOfEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return Approximate number of bytes used by cached items
+     */
+    public long getTotalSize() {
+        return totalSize.get();
+    }
+
+    /**
+     * @return Number of bytes of direct memory allocated for {@link HttpCacheStorage#OFF_HEAP} storage, it is reused as items are replaced
+     */
+    public long getAllocatedDirectMemory() {
+        return directBufferPool != null ? directBufferPool.getAllocatedBytes() : 0;
+    }
+
     @Override
     public void close() {
         items.invalidateAll();
@@ -34,47 +117,247 @@ public class HttpCache implements CleanCloseable {
         items.invalidateAll();
     }
 
+    /**
+     * Bumped on every change notification. Items with unknown dependencies are
+     * considered as possibly modified when this value changes.
+     */
     public final AtomicInteger generation = new AtomicInteger();
 
+    /**
+     * Bumped only when we can't tell which items were affected by a change,
+     * so items with known dependencies have to be considered as possibly modified as well.
+     */
+    private final AtomicInteger fullInvalidationGeneration = new AtomicInteger();
+
+    /**
+     * Marks all cached items as possibly modified.
+     */
+    public void invalidateAll() {
+        fullInvalidationGeneration.incrementAndGet();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Marks items depending on given document as possibly modified.
+     * Items with unknown dependencies are marked as well.
+     * @param id Document id
+     */
+    public void invalidateDocument(String id) {
+        generation.incrementAndGet();
+
+        if (id != null) {
+            invalidateDependency(HttpCacheDependencies.documentKey(id));
+        }
+    }
+
+    /**
+     * Marks items which might depend on an index as possibly modified. Only items with unknown
+     * dependencies (i.e. query results) are affected, since documents loaded by id don't depend on indexes.
+     */
+    public void invalidateIndex() {
+        generation.incrementAndGet();
+    }
+
+    private void invalidateDependency(String key) {
+        Set<HttpCacheItem> dependentItems = itemsByDependency.get(key);
+        if (dependentItems == null) {
+            return;
+        }
+
+        for (HttpCacheItem item : dependentItems) {
+            item.dependenciesGeneration.incrementAndGet();
+        }
+    }
+
+    private void trackDependencies(HttpCacheItem item) {
+        if (item.dependencies == null) {
+            return;
+        }
+
+        for (String key : item.dependencies) {
+            // add under the map lock, so untrackDependencies can't drop the set we are adding to
+            itemsByDependency.compute(key, (k, dependentItems) -> {
+                if (dependentItems == null) {
+                    dependentItems = ConcurrentHashMap.newKeySet();
+                }
+                dependentItems.add(item);
+                return dependentItems;
+            });
+        }
+    }
+
+    private void untrackDependencies(HttpCacheItem item) {
+        if (item.dependencies == null) {
+            return;
+        }
+
+        for (String key : item.dependencies) {
+            itemsByDependency.computeIfPresent(key, (k, dependentItems) -> {
+                dependentItems.remove(item);
+                return dependentItems.isEmpty() ? null : dependentItems;
+            });
+        }
+    }
+
+    int getCurrentGeneration(HttpCacheItem item) {
+        if (item.dependencies == null) {
+            return generation.get();
+        }
+
+        // both counters only grow, so the sum changes whenever any of them changes
+        return fullInvalidationGeneration.get() + item.dependenciesGeneration.get();
+    }
+
     public long getNumberOfItems() {
         return items.size();
     }
 
+    /**
+     * @param url Request url
+     * @return true if there is cached response for the url, doesn't count as cache hit or miss
+     */
+    public boolean contains(String url) {
+        return items.getIfPresent(url) != null;
+    }
+
     public void set(String url, String changeVector, String result) {
+        set(url, changeVector, result, null);
+    }
+
+    public void set(String url, String changeVector, String result, HttpCacheDependencies dependencies) {
+        set(url, changeVector, result != null ? result.getBytes(StandardCharsets.UTF_8) : null, dependencies);
+    }
+
+    /**
+     * Stores raw UTF-8 encoded response in cache.
+     * @param url Request url
+     * @param changeVector Change vector of the response
+     * @param result UTF-8 encoded response
+     * @param dependencies Dependencies of the response or null when unknown
+     */
+    public void set(String url, String changeVector, byte[] result, HttpCacheDependencies dependencies) {
         HttpCacheItem httpCacheItem = new HttpCacheItem();
         httpCacheItem.changeVector = changeVector;
-        httpCacheItem.payload = result;
+        storePayload(httpCacheItem, result);
         httpCacheItem.cache = this;
-        httpCacheItem.generation = generation.get();
+        httpCacheItem.dependencies = dependencies != null ? dependencies.getKeys() : null;
+        httpCacheItem.generation = getCurrentGeneration(httpCacheItem);
+
+        put(url, httpCacheItem);
+    }
 
-        items.put(url, httpCacheItem);
+    private void put(String url, HttpCacheItem item) {
+        totalSize.addAndGet(item.payloadSize + ITEM_OVERHEAD);
+        trackDependencies(item);
+        items.put(url, item);
+    }
+
+    private void storePayload(HttpCacheItem item, byte[] payload) {
+        if (payload == null) {
+            return;
+        }
+
+        switch (storage) {
+            case HEAP:
+                item.payload = payload;
+                item.payloadSize = payload.length;
+                break;
+            case COMPRESSED_HEAP:
+                item.payload = Zstd.compress(payload, COMPRESSION_LEVEL);
+                item.payloadSize = item.payload.length;
+                item.responseSize = payload.length;
+                break;
+            case OFF_HEAP:
+                item.offHeapPayload = directBufferPool.write(payload);
+                // whole blocks are taken from the pool, so they are what counts against the cache size
+                item.payloadSize = item.offHeapPayload.length * DirectBufferPool.BLOCK_SIZE;
+                item.responseSize = payload.length;
+                break;
+            default:
+                throw new IllegalStateException("Unsupported cache storage: " + storage);
+        }
+    }
+
+    private byte[] readPayload(HttpCacheItem item) {
+        switch (storage) {
+            case HEAP:
+                return item.payload;
+            case COMPRESSED_HEAP:
+                if (item.payload == null) {
+                    return null;
+                }
+                return Zstd.decompress(item.payload, item.responseSize);
+            case OFF_HEAP:
+                synchronized (item) {
+                    if (item.offHeapPayload == null) {
+                        return null;
+                    }
+                    byte[] payload = new byte[item.responseSize];
+                    DirectBufferPool.read(item.offHeapPayload, payload);
+                    return payload;
+                }
+            default:
+                throw new IllegalStateException("Unsupported cache storage: " + storage);
+        }
+    }
+
+    private void releasePayload(HttpCacheItem item) {
+        if (directBufferPool == null) {
+            return;
+        }
+
+        ByteBuffer[] blocks;
+        synchronized (item) {
+            blocks = item.offHeapPayload;
+            item.offHeapPayload = null;
+        }
+
+        if (blocks != null) {
+            directBufferPool.release(blocks);
+        }
     }
 
     public ReleaseCacheItem get(String url, Reference<String> changeVectorRef, Reference<String> responseRef) {
         HttpCacheItem item = items.getIfPresent(url);
+        byte[] payload = item != null ? readPayload(item) : null;
+
+        // off-heap payload is gone when item was removed (and its memory returned to the pool) while we were reading it
+        if (item != null && payload == null && item.payloadSize > 0) {
+            item = null;
+        }
+
         if (item != null) {
+            hits.incrementAndGet();
+
             changeVectorRef.value = item.changeVector;
-            responseRef.value = item.payload;
+            responseRef.value = payload != null ? new String(payload, StandardCharsets.UTF_8) : null;
 
             return new ReleaseCacheItem(item);
         }
 
+        misses.incrementAndGet();
+
         changeVectorRef.value = null;
         responseRef.value = null;
         return new ReleaseCacheItem();
     }
 
     public void setNotFound(String url, boolean aggressivelyCached) {
+        setNotFound(url, aggressivelyCached, null);
+    }
+
+    public void setNotFound(String url, boolean aggressivelyCached, HttpCacheDependencies dependencies) {
         HttpCacheItem httpCacheItem = new HttpCacheItem();
         httpCacheItem.changeVector = NOT_FOUND_RESPONSE;
         httpCacheItem.cache = this;
-        httpCacheItem.generation = generation.get();
+        httpCacheItem.dependencies = dependencies != null ? dependencies.getKeys() : null;
+        httpCacheItem.generation = getCurrentGeneration(httpCacheItem);
 
         httpCacheItem.flags = aggressivelyCached
                 ? EnumSet.of(ItemFlags.AGGRESSIVELY_CACHED, ItemFlags.NOT_FOUND)
                 : EnumSet.of(ItemFlags.NOT_FOUND);
 
-        items.put(url, httpCacheItem);
+        put(url, httpCacheItem);
     }
 
     public static class ReleaseCacheItem implements CleanCloseable {
@@ -88,7 +371,7 @@ public class HttpCache implements CleanCloseable {
 
         public ReleaseCacheItem(HttpCacheItem item) {
             this.item = item;
-            this._cacheGeneration = item.cache.generation.get();
+            this._cacheGeneration = item.cache.getCurrentGeneration(item);
         }
 
         public void notModified() {
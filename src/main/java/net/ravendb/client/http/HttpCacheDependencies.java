@@ -0,0 +1,32 @@
+package net.ravendb.client.http;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Describes which documents a cached response depends on.
+ * Used to invalidate only affected aggressively cached responses when change notification arrives.
+ */
+public class HttpCacheDependencies {
+
+    private static final String DOCUMENT_PREFIX = "doc:";
+
+    private final Set<String> _keys = new HashSet<>();
+
+    public HttpCacheDependencies addDocument(String id) {
+        if (id != null) {
+            _keys.add(documentKey(id));
+        }
+        return this;
+    }
+
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(_keys);
+    }
+
+    static String documentKey(String id) {
+        return DOCUMENT_PREFIX + id.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,15 +1,23 @@
 package net.ravendb.client.http;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class HttpCacheItem {
 
     public String changeVector;
-    public String payload;
+    public byte[] payload;
+    public ByteBuffer[] offHeapPayload;
+    public int payloadSize;
+    public int responseSize;
     public LocalDateTime lastServerUpdate;
     public int generation;
     public EnumSet<ItemFlags> flags = EnumSet.of(ItemFlags.NONE);
+    public Set<String> dependencies;
+    public final AtomicInteger dependenciesGeneration = new AtomicInteger();
 
     public HttpCache cache;
 
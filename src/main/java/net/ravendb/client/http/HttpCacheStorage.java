@@ -0,0 +1,23 @@
+package net.ravendb.client.http;
+
+/**
+ * Defines how HttpCache keeps cached responses in memory.
+ * In all modes eviction is size-based (least recently used first) and the budget
+ * is expressed in bytes of stored payload.
+ */
+public enum HttpCacheStorage {
+    /**
+     * Responses are kept as raw UTF-8 byte arrays on the java heap.
+     */
+    HEAP,
+    /**
+     * Responses are kept as zstd compressed byte arrays on the java heap.
+     * Trades CPU on each cache hit for a smaller memory footprint.
+     */
+    COMPRESSED_HEAP,
+    /**
+     * Responses are kept as raw UTF-8 bytes in direct (off-heap) buffers,
+     * which keeps large caches out of the garbage collector's way.
+     */
+    OFF_HEAP
+}
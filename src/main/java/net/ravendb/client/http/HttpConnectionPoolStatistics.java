@@ -0,0 +1,54 @@
+package net.ravendb.client.http;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of http connection pool usage: leased, pending (waiting for connection), available and max connections.
+ */
+public class HttpConnectionPoolStatistics {
+
+    private final PoolStats total;
+    private final Map<String, PoolStats> routes;
+
+    public HttpConnectionPoolStatistics(PoolStats total, Map<String, PoolStats> routes) {
+        this.total = total;
+        this.routes = routes;
+    }
+
+    /**
+     * @return statistics of the whole pool
+     */
+    public PoolStats getTotal() {
+        return total;
+    }
+
+    /**
+     * @return statistics per route (node url)
+     */
+    public Map<String, PoolStats> getRoutes() {
+        return routes;
+    }
+
+    static HttpConnectionPoolStatistics empty() {
+        return new HttpConnectionPoolStatistics(new PoolStats(0, 0, 0, 0), Collections.emptyMap());
+    }
+
+    static HttpConnectionPoolStatistics from(ConnPoolControl<HttpRoute> pool) {
+        if (pool == null) {
+            return empty();
+        }
+
+        Map<String, PoolStats> routes = new HashMap<>();
+        for (HttpRoute route : pool.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), pool.getStats(route));
+        }
+
+        return new HttpConnectionPoolStatistics(pool.getTotalStats(), routes);
+    }
+}
@@ -0,0 +1,68 @@
+package net.ravendb.client.http;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps a window of most recent request latencies and computes percentiles over it.
+ * Percentiles are recomputed once in a while (not on every request) to keep recording cheap.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final AtomicLongArray _samples;
+    private final AtomicLong _count = new AtomicLong();
+    private final double _percentile;
+    private volatile long _percentileValue = -1;
+
+    /**
+     * @param capacity number of most recent samples to keep
+     * @param percentile percentile to compute (0-100)
+     */
+    public LatencyTracker(int capacity, double percentile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100] range");
+        }
+
+        _samples = new AtomicLongArray(capacity);
+        _percentile = percentile;
+    }
+
+    public void record(long latencyInNanos) {
+        long count = _count.getAndIncrement();
+        _samples.set((int) (count % _samples.length()), latencyInNanos);
+
+        if ((count + 1) % RECOMPUTE_INTERVAL == 0) {
+            _percentileValue = computePercentile(Math.min(count + 1, _samples.length()));
+        }
+    }
+
+    public long getCount() {
+        return _count.get();
+    }
+
+    /**
+     * @return latency (in nanoseconds) at configured percentile or -1 when not enough samples were recorded yet
+     */
+    public long getPercentileValue() {
+        return _percentileValue;
+    }
+
+    private long computePercentile(long size) {
+        long[] values = new long[(int) size];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = _samples.get(i);
+        }
+
+        Arrays.sort(values);
+
+        int index = (int) Math.ceil(_percentile / 100 * values.length) - 1;
+        return values[Math.max(0, Math.min(index, values.length - 1))];
+    }
+}
@@ -0,0 +1,189 @@
+package net.ravendb.client.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.documents.commands.GetDocumentsCommand;
+import net.ravendb.client.documents.commands.GetDocumentsResult;
+import net.ravendb.client.documents.session.SessionInfo;
+import net.ravendb.client.extensions.JsonExtensions;
+import net.ravendb.client.primitives.ExceptionsUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges concurrent single document loads into one multi id request.
+ *
+ * First load starts a batch and waits for the coalescing window; loads arriving in the meantime join it
+ * (loads of the same id share one slot). The batch is sent earlier when it reaches max batch size.
+ * Loads never join a request which was already sent, so a load issued after a write always sees that write.
+ *
+ * Loads are batched per node the session would send them to, so session node affinity is kept.
+ * Merged request has its own url, so it can't be validated by HTTP cache entry of a single document load.
+ * Because of that loads which already have a cached response are not coalesced - they are sent on their own
+ * and get 304 (and documents from document cache) as usual. Documents loaded only through merged requests
+ * are not cached per id, so their loads keep being coalesced.
+ */
+public class LoadCoalescer {
+
+    private final RequestExecutor _requestExecutor;
+    private final long _windowInNanos;
+    private final int _maxBatchSize;
+
+    private final Object _lock = new Object();
+    private final Map<ServerNode, Batch> _currentBatches = new HashMap<>();
+
+    public LoadCoalescer(RequestExecutor requestExecutor, Duration window, int maxBatchSize) {
+        _requestExecutor = requestExecutor;
+        _windowInNanos = window.toNanos();
+        _maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Executes command as a part of coalesced batch.
+     * @param command command to execute
+     * @param sessionInfo session info
+     * @return false if command can't be coalesced and has to be executed on its own
+     */
+    public boolean tryExecute(GetDocumentsCommand command, SessionInfo sessionInfo) {
+        String id = command.getSingleDocumentId();
+        if (id == null) {
+            return false;
+        }
+
+        if (sessionInfo != null && (sessionInfo.isNoCaching() || sessionInfo.getLastClusterTransactionIndex() != null)) {
+            return false;
+        }
+
+        if (_requestExecutor.aggressiveCaching.get() != null) {
+            return false;
+        }
+
+        CurrentIndexAndNode node = _requestExecutor.tryChooseNodeForRequest(command, sessionInfo);
+        if (node == null) {
+            return false;
+        }
+
+        // merged request would miss cached response of this load
+        if (_requestExecutor.hasCachedResponse(node.currentNode, command)) {
+            return false;
+        }
+
+        JsonNode document = load(node, id);
+
+        GetDocumentsResult result = new GetDocumentsResult();
+        ArrayNode results = JsonExtensions.getDefaultMapper().createArrayNode();
+        if (document instanceof ObjectNode) {
+            // document is shared by all loads of this id
+            results.add(document.deepCopy());
+        } else {
+            results.addNull();
+        }
+        result.setResults(results);
+        result.setIncludes(JsonExtensions.getDefaultMapper().createObjectNode());
+
+        command.setResult(result);
+        return true;
+    }
+
+    private JsonNode load(CurrentIndexAndNode node, String id) {
+        Batch batch;
+        CompletableFuture<JsonNode> future;
+        boolean startedBatch = false;
+        boolean batchIsFull = false;
+
+        synchronized (_lock) {
+            batch = _currentBatches.get(node.currentNode);
+            if (batch == null) {
+                batch = new Batch(node);
+                _currentBatches.put(node.currentNode, batch);
+                startedBatch = true;
+            }
+
+            future = batch.documents.computeIfAbsent(id, k -> new CompletableFuture<>());
+
+            if (batch.documents.size() >= _maxBatchSize) {
+                _currentBatches.remove(node.currentNode);
+                batchIsFull = true;
+            }
+        }
+
+        if (batchIsFull) {
+            send(batch);
+        } else if (startedBatch) {
+            waitForOtherLoads(future);
+
+            synchronized (_lock) {
+                if (_currentBatches.get(node.currentNode) == batch) {
+                    _currentBatches.remove(node.currentNode);
+                } else {
+                    batch = null; // batch got full and was already sent
+                }
+            }
+
+            if (batch != null) {
+                send(batch);
+            }
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw ExceptionsUtils.unwrapException(e);
+        }
+    }
+
+    private void waitForOtherLoads(CompletableFuture<JsonNode> future) {
+        try {
+            future.get(_windowInNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // window elapsed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // batch was sent by another thread, error is reported by the caller
+        }
+    }
+
+    private void send(Batch batch) {
+        List<String> ids = new ArrayList<>(batch.documents.keySet());
+
+        try {
+            GetDocumentsCommand command = new GetDocumentsCommand(_requestExecutor.getConventions(), ids.toArray(new String[0]), null, false);
+            command.setDocumentCache(_requestExecutor.getDocumentCache());
+            _requestExecutor.executeOnNode(batch.node, command);
+
+            GetDocumentsResult result = command.getResult();
+            ArrayNode results = result != null ? result.getResults() : null;
+
+            for (int i = 0; i < ids.size(); i++) {
+                JsonNode document = results != null && i < results.size() ? results.get(i) : null;
+                batch.documents.get(ids.get(i)).complete(document);
+            }
+        } catch (Throwable e) {
+            for (CompletableFuture<JsonNode> future : batch.documents.values()) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Batch {
+        private final CurrentIndexAndNode node;
+
+        // ids are case insensitive
+        private final Map<String, CompletableFuture<JsonNode>> documents = new TreeMap<>(String::compareToIgnoreCase);
+
+        Batch(CurrentIndexAndNode node) {
+            this.node = node;
+        }
+    }
+}
@@ -10,8 +10,12 @@ import org.apache.commons.lang3.ObjectUtils;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class NodeSelector implements CleanCloseable {
 
@@ -19,6 +23,9 @@ public class NodeSelector implements CleanCloseable {
     private Timer _updateFastestNodeTimer;
     protected NodeSelectorState _state;
 
+    // kept outside of the state, so node statistics survive topology updates
+    private final ConcurrentMap<String, NodeLoad> _nodeLoads = new ConcurrentHashMap<>();
+
     public Topology getTopology() {
         return _state.topology;
     }
@@ -158,6 +165,92 @@ public class NodeSelector implements CleanCloseable {
         return getPreferredNode();
     }
 
+    /**
+     * Chooses node using power of two choices: two random available nodes are compared
+     * and the one with lower latency weighted by number of outstanding requests wins.
+     * @return selected node
+     */
+    public CurrentIndexAndNode getLeastLoadedNode() {
+        NodeSelectorState state = _state;
+        List<ServerNode> serverNodes = state.getNodes();
+        int len = Math.min(serverNodes.size(), state.failures.length);
+
+        int[] candidates = new int[len];
+        int candidatesCount = 0;
+        for (int i = 0; i < len; i++) {
+            if (state.failures[i].get() == 0 && ServerNode.Role.MEMBER.equals(serverNodes.get(i).getServerRole())) {
+                candidates[candidatesCount++] = i;
+            }
+        }
+
+        if (candidatesCount == 0) {
+            return getPreferredNodeInternal(state);
+        }
+
+        int chosen = candidates[0];
+
+        if (candidatesCount > 1) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidatesCount);
+            int second = random.nextInt(candidatesCount - 1);
+            if (second >= first) {
+                second++;
+            }
+
+            int firstIndex = candidates[first];
+            int secondIndex = candidates[second];
+
+            chosen = getScore(serverNodes.get(firstIndex)) <= getScore(serverNodes.get(secondIndex)) ? firstIndex : secondIndex;
+        }
+
+        return new CurrentIndexAndNode(chosen, serverNodes.get(chosen));
+    }
+
+    private double getScore(ServerNode node) {
+        NodeLoad load = _nodeLoads.get(node.getUrl());
+        if (load == null) {
+            return 0;
+        }
+
+        // nodes without latency measured yet are cheap, so they are tried soon
+        return (load.latency.get() + 1.0) * (load.inFlight.get() + 1);
+    }
+
+    public void onRequestStarted(ServerNode node) {
+        getNodeLoad(node).inFlight.incrementAndGet();
+    }
+
+    /**
+     * @param node node which handled the request
+     * @param latencyInNanos time it took to receive the response or -1 if request failed
+     */
+    public void onRequestCompleted(ServerNode node, long latencyInNanos) {
+        NodeLoad load = getNodeLoad(node);
+        load.inFlight.decrementAndGet();
+
+        if (latencyInNanos >= 0) {
+            load.recordLatency(latencyInNanos);
+        }
+    }
+
+    public int getInFlightRequests(ServerNode node) {
+        NodeLoad load = _nodeLoads.get(node.getUrl());
+        return load != null ? load.inFlight.get() : 0;
+    }
+
+    /**
+     * @param node server node
+     * @return exponentially weighted moving average of node latency (in nanoseconds) or 0 if not measured yet
+     */
+    public long getAverageLatency(ServerNode node) {
+        NodeLoad load = _nodeLoads.get(node.getUrl());
+        return load != null ? load.latency.get() : 0;
+    }
+
+    private NodeLoad getNodeLoad(ServerNode node) {
+        return _nodeLoads.computeIfAbsent(node.getUrl(), url -> new NodeLoad());
+    }
+
     public void restoreNodeIndex(ServerNode node) {
         NodeSelectorState state = _state;
         int nodeIndex = state.getNodes().indexOf(node);
@@ -262,6 +355,23 @@ public class NodeSelector implements CleanCloseable {
         }
     }
 
+    private static class NodeLoad {
+        private static final int SMOOTHING_FACTOR = 5; // new sample weights 1/5
+
+        public final AtomicInteger inFlight = new AtomicInteger();
+        public final AtomicLong latency = new AtomicLong();
+
+        public void recordLatency(long latencyInNanos) {
+            long sample = Math.max(1, latencyInNanos);
+            long current;
+            long updated;
+            do {
+                current = latency.get();
+                updated = current == 0 ? sample : current + (sample - current) / SMOOTHING_FACTOR;
+            } while (!latency.compareAndSet(current, updated));
+        }
+    }
+
     private static class NodeSelectorState {
         public final Topology topology;
         public final AtomicInteger[] failures;
@@ -1,6 +1,7 @@
 package net.ravendb.client.http;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import net.ravendb.client.Constants;
 import net.ravendb.client.extensions.HttpExtensions;
@@ -83,6 +84,15 @@ public abstract class RavenCommand<TResult> {
         return canCacheAggressively;
     }
 
+    /**
+     * Documents, collections and indexes which response of this command depends on.
+     * Allows to invalidate only affected aggressively cached responses on change notification.
+     * @return response dependencies or null when they are unknown
+     */
+    public HttpCacheDependencies getCacheDependencies() {
+        return null;
+    }
+
     public String getSelectedNodeTag() {
         return selectedNodeTag;
     }
@@ -138,6 +148,20 @@ public abstract class RavenCommand<TResult> {
         throw new UnsupportedOperationException(responseType.name() + " command must override the setResponse method which expects response with the following type: " + responseType);
     }
 
+    /**
+     * Commands which are able to read OBJECT response directly from the response stream
+     * should return true and override {@link #setStreamingResponse(JsonParser, boolean)}.
+     * In such case response body is never materialized as String.
+     * @return true if command supports streaming response deserialization
+     */
+    public boolean isStreamingResponse() {
+        return false;
+    }
+
+    public void setStreamingResponse(JsonParser response, boolean fromCache) throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " must override the setStreamingResponse method when streaming response is used");
+    }
+
     public ClassicHttpResponse send(CloseableHttpClient client, HttpUriRequestBase request) throws IOException {
         return client.executeOpen(determineTarget(request), request, null);
     }
@@ -203,6 +227,11 @@ public abstract class RavenCommand<TResult> {
                     return ResponseDisposeHandling.AUTOMATIC;
                 }
 
+                if (isStreamingResponse()) {
+                    processStreamingResponse(cache, response, url, entity);
+                    return ResponseDisposeHandling.AUTOMATIC;
+                }
+
                 // we intentionally don't dispose the reader here, we'll be using it
                 // in the command, any associated memory will be released on context reset
                 String json = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
@@ -224,6 +253,27 @@ public abstract class RavenCommand<TResult> {
         return ResponseDisposeHandling.AUTOMATIC;
     }
 
+    private void processStreamingResponse(HttpCache cache, ClassicHttpResponse response, String url, HttpEntity entity) throws IOException {
+        String changeVector = cache != null && canCache() ? HttpExtensions.getEtagHeader(response) : null;
+
+        if (changeVector == null) {
+            // response won't be cached - parse directly from the wire
+            try (InputStream content = entity.getContent();
+                 JsonParser parser = mapper.getFactory().createParser(content)) {
+                setStreamingResponse(parser, false);
+            }
+            return;
+        }
+
+        // we need raw UTF-8 bytes for the cache anyway, so we buffer them once and parse from the buffer
+        byte[] responseBytes = IOUtils.toByteArray(entity.getContent());
+        cache.set(url, changeVector, responseBytes, getCacheDependencies());
+
+        try (JsonParser parser = mapper.getFactory().createParser(responseBytes)) {
+            setStreamingResponse(parser, false);
+        }
+    }
+
     protected void cacheResponse(HttpCache cache, String url, ClassicHttpResponse response, String responseJson) {
         if (!canCache()) {
             return;
@@ -234,7 +284,7 @@ public abstract class RavenCommand<TResult> {
             return;
         }
 
-        cache.set(url, changeVector, responseJson);
+        cache.set(url, changeVector, responseJson, getCacheDependencies());
     }
 
     protected static void throwInvalidResponse() {
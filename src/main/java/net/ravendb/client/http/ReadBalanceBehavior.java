@@ -6,5 +6,10 @@ import net.ravendb.client.primitives.UseSharpEnum;
 public enum ReadBalanceBehavior {
     NONE,
     ROUND_ROBIN,
-    FASTEST_NODE
+    FASTEST_NODE,
+    /**
+     * Client side only: reads go to the node with the lowest latency weighted by number of outstanding requests
+     * (power of two choices). Latency is tracked per node from every executed request.
+     */
+    LEAST_LOADED
 }
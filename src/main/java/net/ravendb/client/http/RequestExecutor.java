@@ -1,6 +1,8 @@
 package net.ravendb.client.http;
 
 import net.ravendb.client.Constants;
+import net.ravendb.client.documents.commands.GetDocumentsCommand;
+import net.ravendb.client.documents.commands.GetDocumentsResult;
 import net.ravendb.client.documents.conventions.DocumentConventions;
 import net.ravendb.client.documents.operations.DatabaseHealthCheckOperation;
 import net.ravendb.client.documents.operations.GetStatisticsOperation;
@@ -11,6 +13,7 @@ import net.ravendb.client.exceptions.database.DatabaseDoesNotExistException;
 import net.ravendb.client.exceptions.security.AuthorizationException;
 import net.ravendb.client.extensions.HttpExtensions;
 import net.ravendb.client.extensions.JsonExtensions;
+import net.ravendb.client.metrics.MetricsRegistry;
 import net.ravendb.client.primitives.*;
 import net.ravendb.client.primitives.Timer;
 import net.ravendb.client.serverwide.commands.GetDatabaseTopologyCommand;
@@ -24,24 +27,47 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.entity.DecompressingEntity;
 import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.apache.hc.client5.http.entity.InputStreamFactory;
 import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.*;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.reactor.IOReactorStatus;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TimeValue;
 
 import javax.net.ssl.SSLContext;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.*;
@@ -53,6 +79,7 @@ import java.util.concurrent.*;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -79,12 +106,25 @@ public class RequestExecutor implements CleanCloseable {
 
     private static final ConcurrentMap<HttpClientCacheKey, CloseableHttpClient> globalHttpClientCache = new ConcurrentHashMap<>();
 
+    private static final ConcurrentMap<HttpClientCacheKey, CloseableHttpAsyncClient> globalHttpAsyncClientCache = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Object, ConnPoolControl<HttpRoute>> globalConnectionPools = new ConcurrentHashMap<>();
+
+    private static final RequestConfig ASYNC_REQUEST_CONFIG = RequestConfig.custom()
+            .setConnectionRequestTimeout(3, TimeUnit.SECONDS)
+            .build();
+
+    // guards first topology update and timer initialization, ReentrantLock doesn't pin virtual threads
+    private final ReentrantLock _lock = new ReentrantLock();
+
     private final Semaphore _updateDatabaseTopologySemaphore = new Semaphore(1);
 
     private final Semaphore _updateClientConfigurationSemaphore = new Semaphore(1);
 
     private final ConcurrentMap<ServerNode, NodeStatus> _failedNodesTimers = new ConcurrentHashMap<>();
 
+    private final LatencyTracker _readLatencies;
+
     private final KeyStore certificate;
     private final char[] keyPassword;
     private final KeyStore trustStore;
@@ -98,12 +138,25 @@ public class RequestExecutor implements CleanCloseable {
 
     private final HttpCache cache;
 
+    private final DocumentCache documentCache;
+
+    private final LoadCoalescer _loadCoalescer;
+
+    private final ShardRouter _shardRouter;
+
     private ServerNode _topologyTakenFromNode;
 
     public HttpCache getCache() {
         return cache;
     }
 
+    /**
+     * @return cache of parsed documents or null when it is disabled (see DocumentConventions.setMaxNumberOfCachedDocuments)
+     */
+    public DocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
     public final ThreadLocal<AggressiveCacheOptions> aggressiveCaching = new ThreadLocal<>();
 
     public Topology getTopology() {
@@ -121,8 +174,51 @@ public class RequestExecutor implements CleanCloseable {
         return _httpClient = createHttpClient();
     }
 
+    private CloseableHttpAsyncClient _httpAsyncClient;
+
+    /**
+     * Asynchronous http client used by {@link #executeAsync(RavenCommand, SessionInfo)}.
+     * It is shared between request executors which use the same certificate and compression settings.
+     * @return started asynchronous http client
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        CloseableHttpAsyncClient httpAsyncClient = _httpAsyncClient;
+        // client might have been closed by clearHttpClientsPool
+        if (httpAsyncClient != null && !isShutDown(httpAsyncClient)) {
+            return httpAsyncClient;
+        }
+
+        return _httpAsyncClient = globalHttpAsyncClientCache.computeIfAbsent(getHttpClientCacheKey(), n -> createAsyncClient());
+    }
+
+    private static boolean isShutDown(CloseableHttpAsyncClient httpAsyncClient) {
+        IOReactorStatus status = httpAsyncClient.getStatus();
+        return status == IOReactorStatus.SHUTTING_DOWN || status == IOReactorStatus.SHUT_DOWN;
+    }
+
+    /**
+     * Usage of the connection pool of http client used by this request executor.
+     * @return connection pool statistics
+     */
+    public HttpConnectionPoolStatistics getConnectionPoolStatistics() {
+        return HttpConnectionPoolStatistics.from(globalConnectionPools.get(getHttpClient()));
+    }
+
+    /**
+     * Usage of the connection pool of asynchronous http client used by this request executor.
+     * @return connection pool statistics
+     */
+    public HttpConnectionPoolStatistics getAsyncConnectionPoolStatistics() {
+        CloseableHttpAsyncClient httpAsyncClient = _httpAsyncClient;
+        if (httpAsyncClient == null) {
+            return HttpConnectionPoolStatistics.empty();
+        }
+
+        return HttpConnectionPoolStatistics.from(globalConnectionPools.get(httpAsyncClient));
+    }
+
     private HttpClientCacheKey getHttpClientCacheKey() {
-        return new HttpClientCacheKey(certificate != null ? CertificateUtils.extractThumbprintFromCertificate(certificate) : null, conventions.getUseHttpDecompression(), conventions.getHttpCompressionAlgorithm());
+        return new HttpClientCacheKey(certificate != null ? CertificateUtils.extractThumbprintFromCertificate(certificate) : null, conventions.getUseHttpDecompression(), conventions.getHttpCompressionAlgorithm(), conventions.httpClient());
     }
 
     public List<ServerNode> getTopologyNodes() {
@@ -261,6 +357,10 @@ public class RequestExecutor implements CleanCloseable {
         return conventions;
     }
 
+    public ExecutorService getExecutorService() {
+        return _executorService;
+    }
+
     public KeyStore getCertificate() {
         return certificate;
     }
@@ -274,7 +374,12 @@ public class RequestExecutor implements CleanCloseable {
     }
 
     protected RequestExecutor(String databaseName, KeyStore certificate, char[] keyPassword, KeyStore trustStore, DocumentConventions conventions, ExecutorService executorService, String[] initialUrls) {
-        cache = new HttpCache(conventions.getMaxHttpCacheSize());
+        cache = new HttpCache(conventions.getMaxHttpCacheSize(), conventions.getHttpCacheStorage());
+        documentCache = conventions.getMaxNumberOfCachedDocuments() > 0 ? new DocumentCache(conventions.getMaxNumberOfCachedDocuments()) : null;
+        _loadCoalescer = conventions.loadCoalescing().isEnabled()
+                ? new LoadCoalescer(this, conventions.loadCoalescing().getWindow(), conventions.loadCoalescing().getMaxBatchSize())
+                : null;
+        _shardRouter = conventions.sharding().isDirectShardRouting() && databaseName != null ? new ShardRouter(this, databaseName) : null;
         _executorService = executorService;
         _databaseName = databaseName;
         this.certificate = certificate;
@@ -286,6 +391,7 @@ public class RequestExecutor implements CleanCloseable {
         this._defaultTimeout = conventions.getRequestTimeout();
         this._secondBroadcastAttemptTimeout = conventions.getSecondBroadcastAttemptTimeout();
         this._firstBroadcastAttemptTimeout = conventions.getFirstBroadcastAttemptTimeout();
+        this._readLatencies = conventions.requestHedging().isEnabled() ? new LatencyTracker(1024, conventions.requestHedging().getPercentile()) : null;
     }
 
     public static RequestExecutor create(String[] initialUrls, String databaseName, KeyStore certificate, char[] keyPassword, KeyStore trustStore, ExecutorService executorService, DocumentConventions conventions) {
@@ -459,16 +565,144 @@ public class RequestExecutor implements CleanCloseable {
     }
 
     public <TResult> void execute(RavenCommand<TResult> command, SessionInfo sessionInfo) {
+        if (_loadCoalescer != null && command instanceof GetDocumentsCommand
+                && _loadCoalescer.tryExecute((GetDocumentsCommand) command, sessionInfo)) {
+            return;
+        }
+
+        executeWithoutCoalescing(command, sessionInfo);
+    }
+
+    <TResult> void executeWithoutCoalescing(RavenCommand<TResult> command, SessionInfo sessionInfo) {
+        if (_shardRouter != null && command instanceof GetDocumentsCommand
+                && tryExecuteOnShard((GetDocumentsCommand) command, sessionInfo)) {
+            return;
+        }
+
         CompletableFuture<Void> topologyUpdate = _firstTopologyUpdate;
         if (topologyUpdate != null &&
                 (topologyUpdate.isDone() && !topologyUpdate.isCompletedExceptionally() && !topologyUpdate.isCancelled())) {
             CurrentIndexAndNode currentIndexAndNode = chooseNodeForRequest(command, sessionInfo);
+
+            if (conventions.httpClient().isUseHttp2() && canUseAsyncTransport(currentIndexAndNode.currentNode, command)) {
+                // HTTP/2 is available only in asynchronous http client
+                waitForAsyncExecution(executeAsync(currentIndexAndNode.currentNode, currentIndexAndNode.currentIndex, command, sessionInfo));
+                return;
+            }
+
             execute(currentIndexAndNode.currentNode, currentIndexAndNode.currentIndex, command, true, sessionInfo);
         } else {
             unlikelyExecute(command, topologyUpdate, sessionInfo);
         }
     }
 
+    /**
+     * Chooses node for the command the same way execute does.
+     * @return chosen node or null when topology isn't known yet
+     */
+    <TResult> CurrentIndexAndNode tryChooseNodeForRequest(RavenCommand<TResult> command, SessionInfo sessionInfo) {
+        CompletableFuture<Void> topologyUpdate = _firstTopologyUpdate;
+        if (topologyUpdate == null || !topologyUpdate.isDone() || topologyUpdate.isCompletedExceptionally() || topologyUpdate.isCancelled()) {
+            return null;
+        }
+
+        return chooseNodeForRequest(command, sessionInfo);
+    }
+
+    <TResult> boolean hasCachedResponse(ServerNode node, RavenCommand<TResult> command) {
+        if (!command.canCache()) {
+            return false;
+        }
+
+        HttpUriRequestBase request = createRequest(node, command);
+        return request != null && cache.contains(getRequestUri(request));
+    }
+
+    boolean isServerFailed(String url) {
+        for (ServerNode failedNode : _failedNodesTimers.keySet()) {
+            if (failedNode.getUrl().equals(url)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    <TResult> void executeOnNode(CurrentIndexAndNode node, RavenCommand<TResult> command) {
+        execute(node.currentNode, node.currentIndex, command, true, null);
+    }
+
+    private boolean tryExecuteOnShard(GetDocumentsCommand command, SessionInfo sessionInfo) {
+        String id = command.getSingleDocumentId();
+        if (id == null || sessionInfo != null && sessionInfo.getLastClusterTransactionIndex() != null) {
+            return false;
+        }
+
+        ServerNode shardNode = _shardRouter.getNodeFor(id);
+        if (shardNode == null) {
+            return false;
+        }
+
+        try {
+            execute(shardNode, null, command, false, sessionInfo);
+        } catch (RuntimeException e) {
+            if (logger.isInfoEnabled()) {
+                logger.info("Failed to load " + id + " from shard " + shardNode.getDatabase() + " on " + shardNode.getUrl() + ", falling back to the orchestrator", e);
+            }
+
+            _shardRouter.onNodeFailed(shardNode);
+            command.setFailedNodes(null);
+            return false;
+        }
+
+        GetDocumentsResult result = command.getResult();
+        if (result != null && result.getResults() != null && result.getResults().size() == 1 && !result.getResults().get(0).isNull()) {
+            return true;
+        }
+
+        // document might have been just moved to another shard, only the orchestrator can tell it doesn't exist
+        command.setFailedNodes(null);
+        return false;
+    }
+
+    private static void waitForAsyncExecution(CompletableFuture<Void> execution) {
+        try {
+            execution.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw ExceptionsUtils.unwrapException(e);
+        }
+    }
+
+    public <TResult> CompletableFuture<Void> executeAsync(RavenCommand<TResult> command) {
+        return executeAsync(command, null);
+    }
+
+    /**
+     * Executes command without blocking the calling thread while waiting for the server.
+     * Request is sent using asynchronous http client, so in-flight requests don't occupy any threads.
+     * Response is processed on the executor service. Failover and topology waits fall back to the blocking path
+     * executed on the executor service.
+     * @param command Command to execute
+     * @param sessionInfo Session info
+     * @param <TResult> Command result type
+     * @return future completed when command result is available
+     */
+    public <TResult> CompletableFuture<Void> executeAsync(RavenCommand<TResult> command, SessionInfo sessionInfo) {
+        CompletableFuture<Void> topologyUpdate = _firstTopologyUpdate;
+        if (topologyUpdate == null || !topologyUpdate.isDone() || topologyUpdate.isCompletedExceptionally() || topologyUpdate.isCancelled()) {
+            return executeOnExecutor(() -> execute(command, sessionInfo));
+        }
+
+        try {
+            CurrentIndexAndNode currentIndexAndNode = chooseNodeForRequest(command, sessionInfo);
+            return executeAsync(currentIndexAndNode.currentNode, currentIndexAndNode.currentIndex, command, sessionInfo);
+        } catch (Exception e) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+
     public <TResult> CurrentIndexAndNode chooseNodeForRequest(RavenCommand<TResult> cmd, SessionInfo sessionInfo) {
         if (StringUtils.isNotBlank(cmd.getSelectedNodeTag())) {
 
@@ -499,6 +733,8 @@ public class RequestExecutor implements CleanCloseable {
                 return _nodeSelector.getNodeBySessionId(sessionInfo != null ? sessionInfo.getSessionId() : 0);
             case FASTEST_NODE:
                 return _nodeSelector.getFastestNode();
+            case LEAST_LOADED:
+                return _nodeSelector.getLeastLoadedNode();
             default:
                 throw new IllegalArgumentException();
         }
@@ -514,7 +750,8 @@ public class RequestExecutor implements CleanCloseable {
     private void waitForTopologyUpdate(CompletableFuture<Void> topologyUpdate) {
         try {
             if (topologyUpdate == null || topologyUpdate.isCompletedExceptionally()) {
-                synchronized (this) {
+                _lock.lock();
+                try {
                     if (_firstTopologyUpdate == null || topologyUpdate == _firstTopologyUpdate) {
                         if (_lastKnownUrls == null) {
                             // shouldn't happen
@@ -529,15 +766,20 @@ public class RequestExecutor implements CleanCloseable {
                     }
 
                     topologyUpdate = _firstTopologyUpdate;
+                } finally {
+                    _lock.unlock();
                 }
             }
 
             topologyUpdate.get();
         } catch (InterruptedException | ExecutionException e) {
-            synchronized (this) {
+            _lock.lock();
+            try {
                 if (_firstTopologyUpdate == topologyUpdate) {
                     _firstTopologyUpdate = null; // next request will raise it
                 }
+            } finally {
+                _lock.unlock();
             }
 
             throw ExceptionsUtils.unwrapException(e);
@@ -623,7 +865,7 @@ public class RequestExecutor implements CleanCloseable {
             }
 
             _lastKnownUrls = initialUrls;
-        });
+        }, _executorService);
     }
 
     protected CompletableFuture<Void> firstTopologyUpdate(String[] inputUrls) {
@@ -748,12 +990,15 @@ public class RequestExecutor implements CleanCloseable {
             return;
         }
 
-        synchronized (this) {
+        _lock.lock();
+        try {
             if (_updateTopologyTimer != null) {
                 return;
             }
 
             _updateTopologyTimer = new Timer(this::updateTopologyCallback, Duration.ofMinutes(1), Duration.ofMinutes(1), _executorService);
+        } finally {
+            _lock.unlock();
         }
     }
 
@@ -763,15 +1008,7 @@ public class RequestExecutor implements CleanCloseable {
 
     @SuppressWarnings({"ConstantConditions"})
     public <TResult> void execute(ServerNode chosenNode, Integer nodeIndex, RavenCommand<TResult> command, boolean shouldRetry, SessionInfo sessionInfo, Reference<HttpUriRequestBase> requestRef) {
-        if (command.failoverTopologyEtag == INITIAL_TOPOLOGY_ETAG) {
-            command.failoverTopologyEtag = INITIAL_TOPOLOGY_ETAG;
-            if (_nodeSelector != null && _nodeSelector.getTopology() != null) {
-                Topology topology = _nodeSelector.getTopology();
-                if (topology.getEtag() != null) {
-                    command.failoverTopologyEtag = topology.getEtag();
-                }
-            }
-        }
+        initFailoverTopologyEtag(command);
 
         HttpUriRequestBase request = createRequest(chosenNode, command);
 
@@ -804,68 +1041,330 @@ public class RequestExecutor implements CleanCloseable {
             int attemptNum = command.numberOfAttempts;
             EventHelper.invoke(_onBeforeRequest, this, new BeforeRequestEventArgs(_databaseName, url, request, attemptNum));
 
-            ClassicHttpResponse response = sendRequestToServer(chosenNode, nodeIndex, command, shouldRetry, sessionInfo, request, url);
+            Reference<ServerNode> respondingNodeRef = new Reference<>(chosenNode);
+            ClassicHttpResponse response = sendRequestToServer(chosenNode, nodeIndex, command, shouldRetry, sessionInfo, request, url, respondingNodeRef);
 
             if (response == null) {
                 return;
             }
 
-            CompletableFuture<Void> refreshTask = refreshIfNeeded(chosenNode, response);
+            handleResponse(respondingNodeRef.value, nodeIndex, command, shouldRetry, sessionInfo, request, url, attemptNum, response, cachedItem, cachedChangeVectorRef, cachedValue);
+        }
+    }
 
-            command.statusCode = response.getCode();
-            if (response.getCode() < 400 || command.statusCode == HttpStatus.SC_NOT_MODIFIED) {
-                command.etag = ObjectUtils.firstNonNull(HttpExtensions.getEtagHeader(response), cachedChangeVectorRef.value);
+    private <TResult> void initFailoverTopologyEtag(RavenCommand<TResult> command) {
+        if (command.failoverTopologyEtag == INITIAL_TOPOLOGY_ETAG) {
+            command.failoverTopologyEtag = INITIAL_TOPOLOGY_ETAG;
+            if (_nodeSelector != null && _nodeSelector.getTopology() != null) {
+                Topology topology = _nodeSelector.getTopology();
+                if (topology.getEtag() != null) {
+                    command.failoverTopologyEtag = topology.getEtag();
+                }
             }
+        }
+    }
 
+    private <TResult> void handleResponse(ServerNode chosenNode, Integer nodeIndex, RavenCommand<TResult> command, boolean shouldRetry,
+                                          SessionInfo sessionInfo, HttpUriRequestBase request, String url, int attemptNum,
+                                          ClassicHttpResponse response, HttpCache.ReleaseCacheItem cachedItem,
+                                          Reference<String> cachedChangeVectorRef, Reference<String> cachedValue) {
+        CompletableFuture<Void> refreshTask = refreshIfNeeded(chosenNode, response);
 
-            ResponseDisposeHandling responseDispose = ResponseDisposeHandling.AUTOMATIC;
+        command.statusCode = response.getCode();
+        if (response.getCode() < 400 || command.statusCode == HttpStatus.SC_NOT_MODIFIED) {
+            command.etag = ObjectUtils.firstNonNull(HttpExtensions.getEtagHeader(response), cachedChangeVectorRef.value);
+        }
 
-            try {
-                if (response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
-                    EventHelper.invoke(_onSucceedRequest, this, new SucceedRequestEventArgs(_databaseName, url, response, request, attemptNum));
 
-                    cachedItem.notModified();
+        ResponseDisposeHandling responseDispose = ResponseDisposeHandling.AUTOMATIC;
 
-                    try {
-                        command.getResponseBehavior().handleNotModified(command, response, cachedValue);
-                    } catch (IOException e) {
-                        throw ExceptionsUtils.unwrapException(e);
+        try {
+            if (response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
+                EventHelper.invoke(_onSucceedRequest, this, new SucceedRequestEventArgs(_databaseName, url, response, request, attemptNum));
+
+                cachedItem.notModified();
+                conventions.getMetricsRegistry().onCacheNotModified(command.getClass().getSimpleName());
+
+                try {
+                    command.getResponseBehavior().handleNotModified(command, response, cachedValue);
+                } catch (IOException e) {
+                    throw ExceptionsUtils.unwrapException(e);
+                }
+
+                return;
+            }
+
+            if (response.getCode() >= 400) {
+                if (!handleUnsuccessfulResponse(chosenNode, nodeIndex, command, request, response, url, sessionInfo, shouldRetry)) {
+                    Header dbMissingHeader = response.getFirstHeader(Constants.Headers.DATABASE_MISSING);
+                    if (dbMissingHeader != null && dbMissingHeader.getValue() != null) {
+                        throw new DatabaseDoesNotExistException(dbMissingHeader.getValue());
                     }
 
-                    return;
+                    throwFailedToContactAllNodes(command, request);
                 }
+                return; // we either handled this already in the unsuccessful response or we are throwing
+            }
 
-                if (response.getCode() >= 400) {
-                    if (!handleUnsuccessfulResponse(chosenNode, nodeIndex, command, request, response, url, sessionInfo, shouldRetry)) {
-                        Header dbMissingHeader = response.getFirstHeader(Constants.Headers.DATABASE_MISSING);
-                        if (dbMissingHeader != null && dbMissingHeader.getValue() != null) {
-                            throw new DatabaseDoesNotExistException(dbMissingHeader.getValue());
+            EventHelper.invoke(_onSucceedRequest, this, new SucceedRequestEventArgs(_databaseName, url, response, request, attemptNum));
+
+            responseDispose = command.processResponse(cache, response, url);
+            _lastReturnedResponse = new Date();
+        } finally {
+            if (responseDispose == ResponseDisposeHandling.AUTOMATIC) {
+                IOUtils.closeQuietly(response, null);
+            }
+
+            try {
+                refreshTask.get();
+            } catch (Exception e) {
+                //noinspection ThrowFromFinallyBlock
+                throw ExceptionsUtils.unwrapException(e);
+            }
+        }
+    }
+
+    private <TResult> CompletableFuture<Void> executeAsync(ServerNode chosenNode, Integer nodeIndex, RavenCommand<TResult> command, SessionInfo sessionInfo) {
+        if (!canUseAsyncTransport(chosenNode, command)) {
+            return executeOnExecutor(() -> execute(chosenNode, nodeIndex, command, true, sessionInfo));
+        }
+
+        initFailoverTopologyEtag(command);
+
+        HttpUriRequestBase request = createRequest(chosenNode, command);
+
+        if (request == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        //noinspection SimplifiableConditionalExpression
+        boolean noCaching = sessionInfo != null ? sessionInfo.isNoCaching() : false;
+
+        Reference<String> cachedChangeVectorRef = new Reference<>();
+        Reference<String> cachedValue = new Reference<>();
+
+        String url = getRequestUri(request);
+
+        HttpCache.ReleaseCacheItem cachedItem = getFromCache(command, !noCaching, url, cachedChangeVectorRef, cachedValue);
+        boolean releaseCachedItem = true;
+
+        try {
+            if (cachedChangeVectorRef.value != null) {
+                if (tryGetFromCache(command, cachedItem, cachedValue.value)) {
+                    return CompletableFuture.completedFuture(null);
+                }
+            }
+
+            setRequestHeaders(sessionInfo, cachedChangeVectorRef.value, request);
+
+            command.numberOfAttempts = command.numberOfAttempts + 1;
+            int attemptNum = command.numberOfAttempts;
+            EventHelper.invoke(_onBeforeRequest, this, new BeforeRequestEventArgs(_databaseName, url, request, attemptNum));
+
+            Duration timeout = ObjectUtils.firstNonNull(command.getTimeout(), _defaultTimeout);
+            SimpleHttpRequest asyncRequest = createAsyncRequest(request, timeout);
+
+            AggressiveCacheOptions callingThreadAggressiveCaching = aggressiveCaching.get();
+            CompletableFuture<Void> result = new CompletableFuture<>();
+
+            numberOfServerRequests.incrementAndGet();
+
+            NodeSelector nodeSelector = _nodeSelector;
+            long start = System.nanoTime();
+            if (nodeSelector != null) {
+                nodeSelector.onRequestStarted(chosenNode);
+            }
+
+            getHttpAsyncClient().execute(asyncRequest, new FutureCallback<SimpleHttpResponse>() {
+                @Override
+                public void completed(SimpleHttpResponse asyncResponse) {
+                    long latency = System.nanoTime() - start;
+                    if (nodeSelector != null) {
+                        nodeSelector.onRequestCompleted(chosenNode, latency);
+                    }
+
+                    runOnExecutor(result, callingThreadAggressiveCaching, () -> {
+                        try {
+                            ClassicHttpResponse response = toClassicResponse(asyncResponse);
+                            trackResponseSize(command, latency, asyncRequest.getBodyBytes() != null ? asyncRequest.getBodyBytes().length : 0, response);
+                            onResponseReceived(chosenNode, sessionInfo, response);
+                            handleResponse(chosenNode, nodeIndex, command, true, sessionInfo, request, url, attemptNum, response, cachedItem, cachedChangeVectorRef, cachedValue);
+                        } finally {
+                            cachedItem.close();
                         }
+                    });
+                }
 
-                        throwFailedToContactAllNodes(command, request);
+                @Override
+                public void failed(Exception e) {
+                    if (nodeSelector != null) {
+                        nodeSelector.onRequestCompleted(chosenNode, -1);
                     }
-                    return; // we either handled this already in the unsuccessful response or we are throwing
+
+                    conventions.getMetricsRegistry().onRequestFailed(command.getClass().getSimpleName(), System.nanoTime() - start);
+
+                    runOnExecutor(result, callingThreadAggressiveCaching, () -> {
+                        try {
+                            handleAsyncSendFailure(chosenNode, nodeIndex, command, sessionInfo, request, url, timeout, e);
+                        } finally {
+                            cachedItem.close();
+                        }
+                    });
                 }
 
-                EventHelper.invoke(_onSucceedRequest, this, new SucceedRequestEventArgs(_databaseName, url, response, request, attemptNum));
+                @Override
+                public void cancelled() {
+                    if (nodeSelector != null) {
+                        nodeSelector.onRequestCompleted(chosenNode, -1);
+                    }
 
-                responseDispose = command.processResponse(cache, response, url);
-                _lastReturnedResponse = new Date();
-            } finally {
-                if (responseDispose == ResponseDisposeHandling.AUTOMATIC) {
-                    IOUtils.closeQuietly(response, null);
+                    cachedItem.close();
+                    result.cancel(false);
                 }
+            });
+
+            releaseCachedItem = false;
+            return result;
+        } finally {
+            if (releaseCachedItem) {
+                cachedItem.close();
+            }
+        }
+    }
+
+    private <TResult> boolean canUseAsyncTransport(ServerNode chosenNode, RavenCommand<TResult> command) {
+        return command.getResponseType() != RavenCommandResponseType.RAW
+                && !SENDS_USING_CUSTOM_TRANSPORT.get(command.getClass())
+                && !shouldBroadcast(command)
+                && !shouldExecuteOnAll(chosenNode, command);
+    }
+
+    private static final ClassValue<Boolean> SENDS_USING_CUSTOM_TRANSPORT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("send", CloseableHttpClient.class, HttpUriRequestBase.class).getDeclaringClass() != RavenCommand.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
+    private <TResult> void handleAsyncSendFailure(ServerNode chosenNode, Integer nodeIndex, RavenCommand<TResult> command, SessionInfo sessionInfo,
+                                                  HttpUriRequestBase request, String url, Duration timeout, Exception e) {
+        if (!(e instanceof IOException)) {
+            throw ExceptionsUtils.unwrapException(e);
+        }
+
+        Exception failure = e;
+        if (timeout != null && e instanceof SocketTimeoutException) {
+            failure = new net.ravendb.client.exceptions.TimeoutException("The request for " + url + " failed with timeout after " + TimeUtils.durationToTimeSpan(timeout), e);
+        }
+
+        if (!handleServerDown(url, chosenNode, nodeIndex, command, request, null, failure, sessionInfo, true)) {
+            throwFailedToContactAllNodes(command, request);
+        }
+    }
+
+    private CompletableFuture<Void> executeOnExecutor(Runnable action) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        runOnExecutor(result, aggressiveCaching.get(), action);
+        return result;
+    }
+
+    private void runOnExecutor(CompletableFuture<Void> result, AggressiveCacheOptions aggressiveCacheOptions, Runnable action) {
+        try {
+            _executorService.execute(() -> {
+                AggressiveCacheOptions aggressiveCacheOptionsToRestore = aggressiveCaching.get();
 
                 try {
-                    refreshTask.get();
-                } catch (Exception e) {
-                    //noinspection ThrowFromFinallyBlock
-                    throw ExceptionsUtils.unwrapException(e);
+                    aggressiveCaching.set(aggressiveCacheOptions);
+                    action.run();
+                    result.complete(null);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    aggressiveCaching.set(aggressiveCacheOptionsToRestore);
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private SimpleHttpRequest createAsyncRequest(HttpUriRequestBase request, Duration timeout) {
+        try {
+            SimpleHttpRequest asyncRequest = SimpleHttpRequest.create(request.getMethod(), request.getUri());
+            asyncRequest.setHeaders(request.getHeaders());
+
+            HttpEntity entity = request.getEntity();
+            if (entity != null) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                entity.writeTo(body);
+
+                asyncRequest.setBody(body.toByteArray(), entity.getContentType() != null ? ContentType.parse(entity.getContentType()) : null);
+
+                if (entity.getContentEncoding() != null) {
+                    asyncRequest.addHeader(HttpHeaders.CONTENT_ENCODING, entity.getContentEncoding());
+                }
+            }
+
+            if (conventions.getUseHttpDecompression()) {
+                asyncRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, HttpCompressionAlgorithm.getContentEncoding(conventions.getHttpCompressionAlgorithm()));
+            }
+
+            if (timeout != null) {
+                asyncRequest.setConfig(RequestConfig.copy(ASYNC_REQUEST_CONFIG)
+                        .setResponseTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .build());
             }
+
+            return asyncRequest;
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Unable to parse URL", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write request body: " + e.getMessage(), e);
         }
     }
 
+    private static ClassicHttpResponse toClassicResponse(SimpleHttpResponse asyncResponse) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(asyncResponse.getCode(), asyncResponse.getReasonPhrase());
+        response.setVersion(asyncResponse.getVersion());
+        response.setHeaders(asyncResponse.getHeaders());
+
+        byte[] body = asyncResponse.getBodyBytes();
+        if (body != null) {
+            HttpEntity entity = new ByteArrayEntity(body, asyncResponse.getContentType());
+
+            Header contentEncoding = asyncResponse.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+            if (contentEncoding != null) {
+                InputStreamFactory decoder = getContentDecoder(contentEncoding.getValue());
+                if (decoder != null) {
+                    // same as the classic client does: content is exposed already decoded
+                    entity = new DecompressingEntity(entity, decoder);
+                    response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+                    response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+                }
+            }
+
+            response.setEntity(entity);
+        }
+
+        return response;
+    }
+
+    private static InputStreamFactory getContentDecoder(String contentEncoding) {
+        if (Constants.Headers.Encodings.GZIP.equalsIgnoreCase(contentEncoding)) {
+            return GZIPInputStreamFactory.getInstance();
+        }
+
+        if (Constants.Headers.Encodings.ZSTD.equalsIgnoreCase(contentEncoding)) {
+            return ZstdInputStreamFactory.getInstance();
+        }
+
+        return null;
+    }
+
     private CompletableFuture<Void> refreshIfNeeded(ServerNode chosenNode, ClassicHttpResponse response) {
         Boolean refreshTopology = Optional.ofNullable(HttpExtensions.getBooleanHeader(response, Constants.Headers.REFRESH_TOPOLOGY)).orElse(false);
         Boolean refreshClientConfiguration = Optional.ofNullable(HttpExtensions.getBooleanHeader(response, Constants.Headers.REFRESH_CLIENT_CONFIGURATION)).orElse(false);
@@ -888,7 +1387,8 @@ public class RequestExecutor implements CleanCloseable {
     }
 
     private <TResult> ClassicHttpResponse sendRequestToServer(ServerNode chosenNode, Integer nodeIndex, RavenCommand<TResult> command,
-                                                                boolean shouldRetry, SessionInfo sessionInfo, HttpUriRequestBase request, String url) {
+                                                                boolean shouldRetry, SessionInfo sessionInfo, HttpUriRequestBase request, String url,
+                                                                Reference<ServerNode> respondingNodeRef) {
         try {
             numberOfServerRequests.incrementAndGet();
 
@@ -901,7 +1401,7 @@ public class RequestExecutor implements CleanCloseable {
 
                     try {
                         aggressiveCaching.set(callingTheadAggressiveCaching);
-                        return send(chosenNode, command, sessionInfo, request);
+                        return send(chosenNode, command, sessionInfo, request, respondingNodeRef);
                     } catch (IOException e) {
                         throw ExceptionsUtils.unwrapException(e);
                     } finally {
@@ -940,7 +1440,7 @@ public class RequestExecutor implements CleanCloseable {
                     throw ExceptionsUtils.unwrapException(e);
                 }
             } else {
-                return send(chosenNode, command, sessionInfo, request);
+                return send(chosenNode, command, sessionInfo, request, respondingNodeRef);
             }
         } catch (IOException e) {
             if (!shouldRetry) {
@@ -955,16 +1455,244 @@ public class RequestExecutor implements CleanCloseable {
         }
     }
 
-    private <TResult> ClassicHttpResponse send(ServerNode chosenNode, RavenCommand<TResult> command,
-                                                 SessionInfo sessionInfo, HttpUriRequestBase request) throws IOException {
+    private <TResult> ClassicHttpResponse send(ServerNode chosenNode, RavenCommand<TResult> command, SessionInfo sessionInfo,
+                                                 HttpUriRequestBase request, Reference<ServerNode> respondingNodeRef) throws IOException {
         ClassicHttpResponse response = null;
 
         if (shouldExecuteOnAll(chosenNode, command)) {
             response = executeOnAllToFigureOutTheFastest(chosenNode, command);
         } else {
-            response = command.send(getHttpClient(), request);
+            boolean hedge = shouldHedge(command);
+
+            // hedged requests are tracked per node they were sent to
+            NodeSelector nodeSelector = hedge ? null : _nodeSelector;
+            long start = System.nanoTime();
+            long latency = -1;
+
+            if (nodeSelector != null) {
+                nodeSelector.onRequestStarted(chosenNode);
+            }
+
+            try {
+                response = hedge
+                        ? sendWithHedging(chosenNode, command, request, respondingNodeRef)
+                        : command.send(getHttpClient(), request);
+                latency = System.nanoTime() - start;
+
+                trackResponseSize(command, latency, getContentLength(request.getEntity()), response);
+            } finally {
+                if (nodeSelector != null) {
+                    nodeSelector.onRequestCompleted(chosenNode, latency);
+                }
+
+                if (latency < 0) {
+                    conventions.getMetricsRegistry().onRequestFailed(command.getClass().getSimpleName(), System.nanoTime() - start);
+                }
+            }
+        }
+
+        onResponseReceived(respondingNodeRef.value, sessionInfo, response);
+
+        return response;
+    }
+
+    private static long getContentLength(HttpEntity entity) {
+        return entity != null ? entity.getContentLength() : 0;
+    }
+
+    private <TResult> void trackResponseSize(RavenCommand<TResult> command, long latency, long requestSize, ClassicHttpResponse response) {
+        MetricsRegistry metricsRegistry = conventions.getMetricsRegistry();
+        String commandType = command.getClass().getSimpleName();
+        int statusCode = response.getCode();
+
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            metricsRegistry.onRequestCompleted(commandType, latency, requestSize, 0, statusCode);
+            return;
+        }
+
+        // content length is unknown for chunked or decoded responses - report bytes which were actually read
+        response.setEntity(new CountingHttpEntity(entity,
+                responseSize -> metricsRegistry.onRequestCompleted(commandType, latency, requestSize, responseSize, statusCode)));
+    }
+
+    private <TResult> boolean shouldHedge(RavenCommand<TResult> command) {
+        return _readLatencies != null
+                && command.isReadRequest()
+                && command.getResponseType() == RavenCommandResponseType.OBJECT
+                && command.getSelectedNodeTag() == null
+                && _nodeSelector != null
+                && _nodeSelector.getTopology().getNodes().size() > 1;
+    }
+
+    private <TResult> ClassicHttpResponse sendWithHedging(ServerNode chosenNode, RavenCommand<TResult> command, HttpUriRequestBase request,
+                                                          Reference<ServerNode> respondingNodeRef) throws IOException {
+        NodeSelector nodeSelector = _nodeSelector;
+        long start = System.nanoTime();
+
+        CompletableFuture<ClassicHttpResponse> primary = sendOnExecutor(nodeSelector, chosenNode, command, request);
+        primary.thenAccept(r -> _readLatencies.record(System.nanoTime() - start));
+
+        long percentileLatency = _readLatencies.getPercentileValue();
+        if (percentileLatency < 0) {
+            // not enough samples to know how the tail looks like yet
+            return waitForResponse(primary);
+        }
+
+        long delay = Math.max(percentileLatency, conventions.requestHedging().getMinDelay().toNanos());
+
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // chosen node is slow, let's ask another one
+        } catch (InterruptedException e) {
+            abandon(request, primary);
+            Thread.currentThread().interrupt();
+            throw ExceptionsUtils.unwrapException(e);
+        } catch (ExecutionException e) {
+            return waitForResponse(primary);
+        }
+
+        ServerNode hedgeNode = chooseHedgeNode(chosenNode);
+        HttpUriRequestBase hedgeRequest = hedgeNode != null ? createRequest(hedgeNode, command) : null;
+        if (hedgeRequest == null) {
+            return waitForResponse(primary);
+        }
+
+        hedgeRequest.setHeaders(request.getHeaders());
+
+        numberOfServerRequests.incrementAndGet();
+        CompletableFuture<ClassicHttpResponse> hedge = sendOnExecutor(nodeSelector, hedgeNode, command, hedgeRequest);
+
+        CompletableFuture<ClassicHttpResponse> firstUsable = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+
+        primary.whenComplete((response, error) -> {
+            boolean usable = error == null && response.getCode() < HttpStatus.SC_INTERNAL_SERVER_ERROR;
+            onHedgedRequestCompleted(firstUsable, pending, usable ? response : null);
+        });
+
+        hedge.whenComplete((response, error) -> {
+            // only a successful answer of the hedge node wins, any other outcome is left to the chosen node
+            boolean usable = error == null && isSuccessOrNotModified(response.getCode());
+            onHedgedRequestCompleted(firstUsable, pending, usable ? response : null);
+        });
+
+        ClassicHttpResponse response;
+        try {
+            response = firstUsable.get();
+        } catch (InterruptedException e) {
+            abandon(request, primary);
+            abandon(hedgeRequest, hedge);
+            Thread.currentThread().interrupt();
+            throw ExceptionsUtils.unwrapException(e);
+        } catch (ExecutionException e) {
+            // never happens, first usable response is completed only with a value
+            throw ExceptionsUtils.unwrapException(e);
+        }
+
+        boolean primaryWon = response == null || response == primary.getNow(null);
+
+        if (primaryWon) {
+            abandon(hedgeRequest, hedge);
+        } else {
+            abandon(request, primary);
+        }
+
+        if (response == null) {
+            // neither node gave usable response - report the result of the chosen node, so failover handles it
+            return waitForResponse(primary);
         }
 
+        if (!primaryWon) {
+            respondingNodeRef.value = hedgeNode;
+        }
+
+        return response;
+    }
+
+    private static boolean isSuccessOrNotModified(int statusCode) {
+        return (statusCode >= HttpStatus.SC_OK && statusCode < HttpStatus.SC_REDIRECTION) || statusCode == HttpStatus.SC_NOT_MODIFIED;
+    }
+
+    private static void onHedgedRequestCompleted(CompletableFuture<ClassicHttpResponse> firstUsable, AtomicInteger pending,
+                                                 ClassicHttpResponse usableResponse) {
+        if (usableResponse != null && firstUsable.complete(usableResponse)) {
+            return;
+        }
+
+        if (pending.decrementAndGet() == 0) {
+            firstUsable.complete(null);
+        }
+    }
+
+    /**
+     * Cancels the request and releases its connection once it completes.
+     */
+    private static void abandon(HttpUriRequestBase request, CompletableFuture<ClassicHttpResponse> response) {
+        if (!response.isDone()) {
+            request.abort();
+        }
+        response.thenAccept(r -> IOUtils.closeQuietly(r, null));
+    }
+
+    private <TResult> CompletableFuture<ClassicHttpResponse> sendOnExecutor(NodeSelector nodeSelector, ServerNode node,
+                                                                            RavenCommand<TResult> command, HttpUriRequestBase request) {
+        nodeSelector.onRequestStarted(node);
+        long start = System.nanoTime();
+
+        CompletableFuture<ClassicHttpResponse> response = CompletableFuture.supplyAsync(() -> {
+            try {
+                return command.send(getHttpClient(), request);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, _executorService);
+
+        // aborted or failed request doesn't tell us anything about node latency
+        response.whenComplete((r, error) -> nodeSelector.onRequestCompleted(node, error == null ? System.nanoTime() - start : -1));
+
+        return response;
+    }
+
+    private static ClassicHttpResponse waitForResponse(CompletableFuture<ClassicHttpResponse> response) throws IOException {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionsUtils.unwrapException(e);
+        } catch (ExecutionException e) {
+            Throwable rootCause = ExceptionUtils.getRootCause(e);
+            if (rootCause instanceof IOException) {
+                throw (IOException) rootCause;
+            }
+
+            throw ExceptionsUtils.unwrapException(e);
+        }
+    }
+
+    private ServerNode chooseHedgeNode(ServerNode chosenNode) {
+        List<ServerNode> nodes = _nodeSelector.getTopology().getNodes();
+
+        int chosenIndex = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i).getClusterTag().equals(chosenNode.getClusterTag())) {
+                chosenIndex = i;
+                break;
+            }
+        }
+
+        for (int i = 1; i < nodes.size(); i++) {
+            ServerNode node = nodes.get((chosenIndex + i) % nodes.size());
+            if (!node.getClusterTag().equals(chosenNode.getClusterTag()) && !_failedNodesTimers.containsKey(node)) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    private void onResponseReceived(ServerNode chosenNode, SessionInfo sessionInfo, ClassicHttpResponse response) {
         // PERF: The reason to avoid rechecking every time is that servers wont change so rapidly
         //       and therefore we dimish its cost by orders of magnitude just doing it
         //       once in a while. We dont care also about the potential race conditions that may happen
@@ -990,8 +1718,6 @@ public class RequestExecutor implements CleanCloseable {
                         "the command since this command dependent on a cluster transaction which this node doesn't support.");
             }
         }
-
-        return response;
     }
 
     private void setRequestHeaders(SessionInfo sessionInfo, String cachedChangeVector, HttpRequest request) {
@@ -1029,10 +1755,13 @@ public class RequestExecutor implements CleanCloseable {
 
                     if (cachedItem.item.flags.contains(ItemFlags.AGGRESSIVELY_CACHED)) {
                         command.setResponse(cachedValue, true);
+                        conventions.getMetricsRegistry().onCacheHit(command.getClass().getSimpleName());
                         return true;
                     }
                 } else {
+                    command.etag = cachedItem.item.changeVector;
                     command.setResponse(cachedValue, true);
+                    conventions.getMetricsRegistry().onCacheHit(command.getClass().getSimpleName());
                     return true;
                 }
             } catch (IOException e) {
@@ -1186,7 +1915,11 @@ public class RequestExecutor implements CleanCloseable {
 
     private <TResult> HttpCache.ReleaseCacheItem getFromCache(RavenCommand<TResult> command, boolean useCache, String url, Reference<String> cachedChangeVector, Reference<String> cachedValue) {
         if (useCache && command.canCache() && command.canReadFromCache && command.isReadRequest() && command.getResponseType() == RavenCommandResponseType.OBJECT) {
-            return cache.get(url, cachedChangeVector, cachedValue);
+            HttpCache.ReleaseCacheItem cachedItem = cache.get(url, cachedChangeVector, cachedValue);
+            if (cachedChangeVector.value == null) {
+                conventions.getMetricsRegistry().onCacheMiss(command.getClass().getSimpleName());
+            }
+            return cachedItem;
         }
 
         cachedChangeVector.value = null;
@@ -1250,7 +1983,7 @@ public class RequestExecutor implements CleanCloseable {
 
             switch (response.getCode()) {
                 case HttpStatus.SC_NOT_FOUND:
-                    cache.setNotFound(url, aggressiveCaching.get() != null);
+                    cache.setNotFound(url, aggressiveCaching.get() != null, command.getCacheDependencies());
 
                     return command.getResponseBehavior().tryHandleNotFound(command, response);
 
@@ -1396,6 +2129,7 @@ public class RequestExecutor implements CleanCloseable {
         chosenNode.discardServerVersion();
 
         _nodeSelector.onFailedRequest(nodeIndex);
+        conventions.getMetricsRegistry().onFailover(command.getClass().getSimpleName(), chosenNode);
 
         if (shouldBroadcast(command)) {
             command.setResult(broadcast(command, sessionInfo));
@@ -1751,6 +2485,10 @@ public class RequestExecutor implements CleanCloseable {
         _disposed = true;
         cache.close();
 
+        if (documentCache != null) {
+            documentCache.close();
+        }
+
         if (_updateTopologyTimer != null) {
             _updateTopologyTimer.close();
         }
@@ -1777,11 +2515,14 @@ public class RequestExecutor implements CleanCloseable {
             }
         }
 
+        DocumentConventions.HttpClientConventions httpClientConventions = conventions.httpClient();
+
         PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-                .setMaxConnPerRoute(30)
-                .setMaxConnTotal(40)
+                .setMaxConnPerRoute(httpClientConventions.getMaxConnectionsPerRoute())
+                .setMaxConnTotal(httpClientConventions.getMaxConnectionsTotal())
                 .setSSLSocketFactory(sslConnectionSocketFactory)
                 .setDefaultSocketConfig(SocketConfig.custom().setTcpNoDelay(true).build())
+                .setDefaultConnectionConfig(createConnectionConfig(httpClientConventions))
                 .build();
 
         HttpClientBuilder httpClientBuilder = HttpClients
@@ -1794,6 +2535,10 @@ public class RequestExecutor implements CleanCloseable {
                                 .build()
                 );
 
+        if (httpClientConventions.getEvictIdleConnectionsAfter() != null) {
+            httpClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(httpClientConventions.getEvictIdleConnectionsAfter().toMillis()));
+        }
+
         if (conventions.getUseHttpDecompression()) {
             switch (conventions.getHttpCompressionAlgorithm()) {
                 case Gzip:
@@ -1813,7 +2558,67 @@ public class RequestExecutor implements CleanCloseable {
             configureHttpClient.accept(httpClientBuilder);
         }
 
-        return httpClientBuilder.build();
+        CloseableHttpClient client = httpClientBuilder.build();
+        globalConnectionPools.put(client, connectionManager);
+        return client;
+    }
+
+    private static ConnectionConfig createConnectionConfig(DocumentConventions.HttpClientConventions httpClientConventions) {
+        ConnectionConfig.Builder builder = ConnectionConfig.custom();
+
+        if (httpClientConventions.getConnectionTimeToLive() != null) {
+            builder.setTimeToLive(httpClientConventions.getConnectionTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        if (httpClientConventions.getValidateAfterInactivity() != null) {
+            builder.setValidateAfterInactivity(httpClientConventions.getValidateAfterInactivity().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return builder.build();
+    }
+
+    private CloseableHttpAsyncClient createAsyncClient() {
+        TlsStrategy tlsStrategy = null;
+        if (certificate != null) {
+            try {
+                tlsStrategy = ClientTlsStrategyBuilder.create()
+                        .setSslContext(createSSLContext())
+                        // see createClient - certificate is used for authentication only
+                        .setHostnameVerifier((hostname, session) -> true)
+                        .build();
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to configure ssl context: " + e.getMessage(), e);
+            }
+        }
+
+        DocumentConventions.HttpClientConventions httpClientConventions = conventions.httpClient();
+
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(httpClientConventions.getMaxConnectionsPerRoute())
+                .setMaxConnTotal(httpClientConventions.getMaxConnectionsTotal())
+                .setTlsStrategy(tlsStrategy)
+                .setDefaultConnectionConfig(createConnectionConfig(httpClientConventions))
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        // HTTP/2 is negotiated over TLS, which allows to multiplex requests over a single connection
+                        .setVersionPolicy(httpClientConventions.isUseHttp2() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                        .build())
+                .build();
+
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setIOReactorConfig(IOReactorConfig.custom().setTcpNoDelay(true).build())
+                .setRetryStrategy(new DefaultHttpRequestRetryStrategy(0, TimeValue.ofSeconds(1)))
+                .setDefaultRequestConfig(ASYNC_REQUEST_CONFIG);
+
+        if (httpClientConventions.getEvictIdleConnectionsAfter() != null) {
+            httpAsyncClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(httpClientConventions.getEvictIdleConnectionsAfter().toMillis()));
+        }
+
+        CloseableHttpAsyncClient client = httpAsyncClientBuilder.build();
+        globalConnectionPools.put(client, connectionManager);
+
+        client.start();
+        return client;
     }
 
     public SSLContext createSSLContext() throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
@@ -1907,6 +2712,12 @@ public class RequestExecutor implements CleanCloseable {
         return _nodeSelector.getFastestNode();
     }
 
+    public CurrentIndexAndNode getLeastLoadedNode() {
+        ensureNodeSelector();
+
+        return _nodeSelector.getLeastLoadedNode();
+    }
+
     private void ensureNodeSelector() {
         if (!_disableTopologyUpdates) {
             waitForTopologyUpdate(_firstTopologyUpdate);
@@ -1923,6 +2734,7 @@ public class RequestExecutor implements CleanCloseable {
     }
 
     protected void onTopologyUpdatedInvoke(Topology newTopology, String reason) {
+        conventions.getMetricsRegistry().onTopologyUpdated(_databaseName);
         EventHelper.invoke(_onTopologyUpdated, this, new TopologyUpdatedEventArgs(newTopology, reason));
     }
 
@@ -1938,17 +2750,40 @@ public class RequestExecutor implements CleanCloseable {
 
     public static void clearHttpClientsPool() {
         globalHttpClientCache.clear();
+
+        // async clients own I/O reactor threads, which are stopped only when client is closed
+        for (HttpClientCacheKey key : globalHttpAsyncClientCache.keySet()) {
+            CloseableHttpAsyncClient httpAsyncClient = globalHttpAsyncClientCache.remove(key);
+            if (httpAsyncClient != null) {
+                httpAsyncClient.close(CloseMode.GRACEFUL);
+            }
+        }
+
+        globalConnectionPools.clear();
     }
 
     private static class HttpClientCacheKey {
         private final String _certificateThumbprint;
         private final boolean _useHttpDecompression;
         private final HttpCompressionAlgorithm _compressionAlgorithm;
-
-        public HttpClientCacheKey(String certificateThumbprint, boolean useHttpDecompression, HttpCompressionAlgorithm compressionAlgorithm) {
+        private final int _maxConnectionsPerRoute;
+        private final int _maxConnectionsTotal;
+        private final Duration _connectionTimeToLive;
+        private final Duration _evictIdleConnectionsAfter;
+        private final Duration _validateAfterInactivity;
+        private final boolean _useHttp2;
+
+        public HttpClientCacheKey(String certificateThumbprint, boolean useHttpDecompression, HttpCompressionAlgorithm compressionAlgorithm,
+                                  DocumentConventions.HttpClientConventions httpClientConventions) {
             _certificateThumbprint = certificateThumbprint;
             _useHttpDecompression = useHttpDecompression;
             _compressionAlgorithm = compressionAlgorithm;
+            _maxConnectionsPerRoute = httpClientConventions.getMaxConnectionsPerRoute();
+            _maxConnectionsTotal = httpClientConventions.getMaxConnectionsTotal();
+            _connectionTimeToLive = httpClientConventions.getConnectionTimeToLive();
+            _evictIdleConnectionsAfter = httpClientConventions.getEvictIdleConnectionsAfter();
+            _validateAfterInactivity = httpClientConventions.getValidateAfterInactivity();
+            _useHttp2 = httpClientConventions.isUseHttp2();
         }
 
         @Override
@@ -1956,12 +2791,16 @@ public class RequestExecutor implements CleanCloseable {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             HttpClientCacheKey that = (HttpClientCacheKey) o;
-            return _useHttpDecompression == that._useHttpDecompression && Objects.equals(_certificateThumbprint, that._certificateThumbprint) && _compressionAlgorithm == that._compressionAlgorithm;
+            return _useHttpDecompression == that._useHttpDecompression && Objects.equals(_certificateThumbprint, that._certificateThumbprint) && _compressionAlgorithm == that._compressionAlgorithm
+                    && _maxConnectionsPerRoute == that._maxConnectionsPerRoute && _maxConnectionsTotal == that._maxConnectionsTotal
+                    && Objects.equals(_connectionTimeToLive, that._connectionTimeToLive) && Objects.equals(_evictIdleConnectionsAfter, that._evictIdleConnectionsAfter)
+                    && Objects.equals(_validateAfterInactivity, that._validateAfterInactivity) && _useHttp2 == that._useHttp2;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(_certificateThumbprint, _useHttpDecompression, _compressionAlgorithm);
+            return Objects.hash(_certificateThumbprint, _useHttpDecompression, _compressionAlgorithm, _maxConnectionsPerRoute, _maxConnectionsTotal,
+                    _connectionTimeToLive, _evictIdleConnectionsAfter, _validateAfterInactivity, _useHttp2);
         }
     }
 }
@@ -0,0 +1,262 @@
+package net.ravendb.client.http;
+
+import net.ravendb.client.serverwide.DatabaseRecordWithEtag;
+import net.ravendb.client.serverwide.DatabaseTopology;
+import net.ravendb.client.serverwide.commands.GetClusterTopologyCommand;
+import net.ravendb.client.serverwide.operations.GetDatabaseRecordOperation;
+import net.ravendb.client.serverwide.sharding.PrefixedShardingSetting;
+import net.ravendb.client.serverwide.sharding.ShardBucketRange;
+import net.ravendb.client.serverwide.sharding.ShardingConfiguration;
+import net.ravendb.client.util.ClientShardHelper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Finds nodes of the shard which owns a document, so requests can skip the orchestrator.
+ * Sharding configuration is fetched in background and refreshed periodically, after routing failure
+ * or when database topology etag changes. Until it is available for the current topology etag
+ * all requests go to the orchestrator.
+ */
+public class ShardRouter {
+
+    private static final Log logger = LogFactory.getLog(ShardRouter.class);
+
+    private static final long REFRESH_INTERVAL_IN_NANOS = Duration.ofMinutes(5).toNanos();
+    private static final long FAILED_NODE_TIMEOUT_IN_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final RequestExecutor _requestExecutor;
+    private final String _databaseName;
+    private final AtomicBoolean _refreshing = new AtomicBoolean();
+    private final ConcurrentMap<ServerNode, Long> _failedNodes = new ConcurrentHashMap<>();
+
+    private volatile RoutingTable _routingTable;
+    private volatile long _lastRefreshInNanos;
+    private volatile long _lastRefreshTopologyEtag;
+
+    public ShardRouter(RequestExecutor requestExecutor, String databaseName) {
+        _requestExecutor = requestExecutor;
+        _databaseName = databaseName;
+    }
+
+    /**
+     * @param id document id
+     * @return node of the shard which owns the document or null if request should go to the orchestrator
+     */
+    public ServerNode getNodeFor(String id) {
+        RoutingTable routingTable = _routingTable;
+        long topologyEtag = _requestExecutor.getTopologyEtag();
+
+        if (routingTable == null
+                || topologyEtag != _lastRefreshTopologyEtag
+                || System.nanoTime() - _lastRefreshInNanos > REFRESH_INTERVAL_IN_NANOS) {
+            refreshInBackground();
+        }
+
+        if (routingTable == null || routingTable._topologyEtag != topologyEtag) {
+            // database record might have changed since (i.e. bucket was moved), orchestrator knows where the document is
+            return null;
+        }
+
+        // writes go through the orchestrator to the first member of the shard, other members might lag behind
+        boolean spreadReads = _requestExecutor.getConventions().getReadBalanceBehavior() != ReadBalanceBehavior.NONE;
+
+        return routingTable.getNodeFor(id, this::isAvailable, spreadReads);
+    }
+
+    /**
+     * Marks sharding configuration as outdated, i.e. after request to the shard failed.
+     */
+    public void invalidate() {
+        _lastRefreshInNanos = System.nanoTime() - REFRESH_INTERVAL_IN_NANOS - 1;
+    }
+
+    /**
+     * Skips the node for a while and marks sharding configuration as outdated.
+     * @param node shard node which failed to process the request
+     */
+    public void onNodeFailed(ServerNode node) {
+        _failedNodes.put(node, System.nanoTime());
+        invalidate();
+    }
+
+    private boolean isAvailable(ServerNode node) {
+        Long failedAt = _failedNodes.get(node);
+        if (failedAt != null) {
+            if (System.nanoTime() - failedAt < FAILED_NODE_TIMEOUT_IN_NANOS) {
+                return false;
+            }
+
+            _failedNodes.remove(node, failedAt);
+        }
+
+        // shards are hosted by the same servers as the orchestrator
+        return !_requestExecutor.isServerFailed(node.getUrl());
+    }
+
+    private void refreshInBackground() {
+        if (!_refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        _lastRefreshTopologyEtag = _requestExecutor.getTopologyEtag();
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                if (logger.isInfoEnabled()) {
+                    logger.info("Unable to fetch sharding configuration of " + _databaseName + ", requests will go to the orchestrator", e);
+                }
+                _routingTable = RoutingTable.EMPTY;
+            } finally {
+                _lastRefreshInNanos = System.nanoTime();
+                _refreshing.set(false);
+            }
+        }, _requestExecutor._executorService);
+    }
+
+    void refresh() {
+        long topologyEtag = _requestExecutor.getTopologyEtag();
+
+        RavenCommand<DatabaseRecordWithEtag> recordCommand = new GetDatabaseRecordOperation(_databaseName).getCommand(_requestExecutor.getConventions());
+        _requestExecutor.execute(recordCommand);
+
+        DatabaseRecordWithEtag record = recordCommand.getResult();
+        if (record == null || record.getSharding() == null) {
+            _routingTable = RoutingTable.EMPTY;
+            return;
+        }
+
+        GetClusterTopologyCommand topologyCommand = new GetClusterTopologyCommand();
+        _requestExecutor.execute(topologyCommand);
+
+        _routingTable = new RoutingTable(_databaseName, record.getSharding(), topologyCommand.getResult().getTopology(), topologyEtag);
+    }
+
+    static class RoutingTable {
+        static final RoutingTable EMPTY = new RoutingTable();
+
+        private final int[] _rangeStarts;
+        private final int[] _rangeShards;
+        private final Set<Integer> _migratingBuckets;
+        private final List<String> _prefixes;
+        private final Map<Integer, List<ServerNode>> _shardNodes;
+        private final long _topologyEtag;
+
+        private RoutingTable() {
+            _rangeStarts = new int[0];
+            _rangeShards = new int[0];
+            _migratingBuckets = Collections.emptySet();
+            _prefixes = Collections.emptyList();
+            _shardNodes = Collections.emptyMap();
+            _topologyEtag = Long.MIN_VALUE;
+        }
+
+        RoutingTable(String databaseName, ShardingConfiguration sharding, ClusterTopology clusterTopology, long topologyEtag) {
+            _topologyEtag = topologyEtag;
+
+            List<ShardBucketRange> ranges = new ArrayList<>(sharding.getBucketRanges() != null ? sharding.getBucketRanges() : Collections.emptyList());
+            ranges.sort(Comparator.comparingInt(ShardBucketRange::getBucketRangeStart));
+
+            _rangeStarts = new int[ranges.size()];
+            _rangeShards = new int[ranges.size()];
+            for (int i = 0; i < ranges.size(); i++) {
+                _rangeStarts[i] = ranges.get(i).getBucketRangeStart();
+                _rangeShards[i] = ranges.get(i).getShardNumber();
+            }
+
+            _migratingBuckets = sharding.getBucketMigrations() != null
+                    ? new HashSet<>(sharding.getBucketMigrations().keySet())
+                    : Collections.emptySet();
+
+            // buckets of prefixed documents are shifted by the server, we let the orchestrator handle them
+            _prefixes = new ArrayList<>();
+            if (sharding.getPrefixed() != null) {
+                for (PrefixedShardingSetting setting : sharding.getPrefixed()) {
+                    _prefixes.add(setting.getPrefix().toLowerCase(Locale.ROOT));
+                }
+            }
+
+            _shardNodes = new HashMap<>();
+            if (sharding.getShards() != null) {
+                for (Map.Entry<Integer, DatabaseTopology> shard : sharding.getShards().entrySet()) {
+                    List<ServerNode> nodes = new ArrayList<>();
+                    for (String tag : shard.getValue().getMembers()) {
+                        String url = clusterTopology.getUrlFromTag(tag);
+                        if (url == null) {
+                            continue;
+                        }
+
+                        ServerNode node = new ServerNode();
+                        node.setUrl(url);
+                        node.setClusterTag(tag);
+                        node.setDatabase(ClientShardHelper.toShardName(databaseName, shard.getKey()));
+                        node.setServerRole(ServerNode.Role.MEMBER);
+                        nodes.add(node);
+                    }
+
+                    if (!nodes.isEmpty()) {
+                        _shardNodes.put(shard.getKey(), nodes);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param id document id
+         * @param isAvailable tells if the node can be used
+         * @param spreadReads if documents can be read from any member of the shard, otherwise members are tried in topology order
+         * @return node of the shard which owns the document or null if the orchestrator has to handle the request
+         */
+        ServerNode getNodeFor(String id, Predicate<ServerNode> isAvailable, boolean spreadReads) {
+            if (_rangeStarts.length == 0) {
+                return null;
+            }
+
+            String lowerId = id.toLowerCase(Locale.ROOT);
+            for (String prefix : _prefixes) {
+                if (lowerId.startsWith(prefix)) {
+                    return null;
+                }
+            }
+
+            int bucket = ClientShardHelper.getBucketFor(id);
+            if (_migratingBuckets.contains(bucket)) {
+                return null;
+            }
+
+            int index = Arrays.binarySearch(_rangeStarts, bucket);
+            if (index < 0) {
+                index = -index - 2; // range starting before the bucket
+            }
+
+            if (index < 0) {
+                return null;
+            }
+
+            List<ServerNode> nodes = _shardNodes.get(_rangeShards[index]);
+            if (nodes == null) {
+                return null;
+            }
+
+            // when spreading, the same document still goes to the same node (while it is available), so its responses can be cached
+            int preferred = spreadReads ? bucket % nodes.size() : 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                ServerNode node = nodes.get((preferred + i) % nodes.size());
+                if (isAvailable.test(node)) {
+                    return node;
+                }
+            }
+
+            return null;
+        }
+    }
+}
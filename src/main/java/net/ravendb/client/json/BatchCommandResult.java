@@ -1,7 +1,14 @@
 package net.ravendb.client.json;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import net.ravendb.client.extensions.JsonExtensions;
 
+import java.io.IOException;
+
+@JsonDeserialize(using = BatchCommandResult.Deserializer.class)
 public class BatchCommandResult {
     private ArrayNode results;
     private Long transactionIndex;
@@ -21,4 +28,31 @@ public class BatchCommandResult {
     public void setTransactionIndex(Long transactionIndex) {
         this.transactionIndex = transactionIndex;
     }
+
+    public static class Deserializer extends JsonExtensions.StreamingObjectDeserializer<BatchCommandResult> {
+
+        public Deserializer() {
+            super(BatchCommandResult.class);
+        }
+
+        @Override
+        protected BatchCommandResult createInstance() {
+            return new BatchCommandResult();
+        }
+
+        @Override
+        protected void readProperty(JsonParser p, DeserializationContext ctxt, BatchCommandResult result, String property) throws IOException {
+            switch (property) {
+                case "Results":
+                    result.setResults(JsonExtensions.readArrayNode(p, ctxt));
+                    break;
+                case "TransactionIndex":
+                    result.setTransactionIndex(JsonExtensions.readLong(p));
+                    break;
+                default:
+                    p.skipChildren();
+                    break;
+            }
+        }
+    }
 }
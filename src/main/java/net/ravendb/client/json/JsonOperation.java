@@ -11,6 +11,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +21,10 @@ public class JsonOperation {
         List<DocumentsChanges> docChanges = changes != null ? new ArrayList<>() : null;
 
         if (!documentInfo.isNewDocument() && documentInfo.getDocument() != null) {
+            if (changes == null) {
+                return objectChanged(documentInfo.getDocument(), newObj);
+            }
+
             return compareJson("", documentInfo.getId(), documentInfo.getDocument(), newObj, changes, docChanges);
         }
 
@@ -32,6 +37,109 @@ public class JsonOperation {
         return true;
     }
 
+    /**
+     * Same semantics as compareJson without collecting changes, but stops on first difference and doesn't allocate.
+     */
+    private static boolean objectChanged(ObjectNode originalJson, ObjectNode newJson) {
+        Iterator<String> originalFields = originalJson.fieldNames();
+        while (originalFields.hasNext()) {
+            if (!newJson.has(originalFields.next())) {
+                return true;
+            }
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = newJson.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String prop = field.getKey();
+
+            if (isIgnoredMetadataField(prop)) {
+                continue;
+            }
+
+            JsonNode newProp = field.getValue();
+            JsonNode oldProp = originalJson.get(prop);
+
+            if (oldProp == null) {
+                return true;
+            }
+
+            switch (newProp.getNodeType()) {
+                case NUMBER:
+                case BOOLEAN:
+                case STRING:
+                    if (newProp.equals(oldProp)) {
+                        break;
+                    }
+                    if (!(oldProp instanceof ValueNode) || !compareValues((ValueNode) oldProp, (ValueNode) newProp)) {
+                        return true;
+                    }
+                    break;
+                case NULL:
+                    if (!oldProp.isNull()) {
+                        return true;
+                    }
+                    break;
+                case ARRAY:
+                    if (!(oldProp instanceof ArrayNode) || arrayChanged((ArrayNode) oldProp, (ArrayNode) newProp)) {
+                        return true;
+                    }
+                    break;
+                case OBJECT:
+                    if (!(oldProp instanceof ObjectNode) || objectChanged((ObjectNode) oldProp, (ObjectNode) newProp)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException();
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean arrayChanged(ArrayNode oldArray, ArrayNode newArray) {
+        if (oldArray.size() != newArray.size()) {
+            return true;
+        }
+
+        for (int position = 0; position < oldArray.size(); position++) {
+            JsonNode oldItem = oldArray.get(position);
+            JsonNode newItem = newArray.get(position);
+
+            switch (oldItem.getNodeType()) {
+                case OBJECT:
+                    if (!newItem.isObject() || objectChanged((ObjectNode) oldItem, (ObjectNode) newItem)) {
+                        return true;
+                    }
+                    break;
+                case ARRAY:
+                    if (!newItem.isArray() || arrayChanged((ArrayNode) oldItem, (ArrayNode) newItem)) {
+                        return true;
+                    }
+                    break;
+                case NULL:
+                    if (!newItem.isNull()) {
+                        return true;
+                    }
+                    break;
+                default:
+                    if (!oldItem.asText().equals(newItem.asText())) {
+                        return true;
+                    }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isIgnoredMetadataField(String prop) {
+        return Constants.Documents.Metadata.LAST_MODIFIED.equals(prop) ||
+                Constants.Documents.Metadata.COLLECTION.equals(prop) ||
+                Constants.Documents.Metadata.CHANGE_VECTOR.equals(prop) ||
+                Constants.Documents.Metadata.ID.equals(prop);
+    }
+
     private static boolean compareJson(String fieldPath, String id, ObjectNode originalJson, ObjectNode newJson, Map<String, List<DocumentsChanges>> changes, List<DocumentsChanges> docChanges) {
         ArrayList<String> newJsonProps = Lists.newArrayList(newJson.fieldNames());
         ArrayList<String> oldJsonProps = Lists.newArrayList(originalJson.fieldNames());
@@ -48,10 +156,7 @@ public class JsonOperation {
 
         for (String prop : newJsonProps) {
 
-            if (Constants.Documents.Metadata.LAST_MODIFIED.equals(prop) ||
-                    Constants.Documents.Metadata.COLLECTION.equals(prop) ||
-                    Constants.Documents.Metadata.CHANGE_VECTOR.equals(prop) ||
-                    Constants.Documents.Metadata.ID.equals(prop)) {
+            if (isIgnoredMetadataField(prop)) {
                 continue;
             }
 
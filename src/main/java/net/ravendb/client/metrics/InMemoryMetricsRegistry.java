@@ -0,0 +1,169 @@
+package net.ravendb.client.metrics;
+
+import net.ravendb.client.http.ServerNode;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics registry which keeps all measurements in memory, request measurements are grouped by command type.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<String, Histogram> _requestLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> _responseSizes = new ConcurrentHashMap<>();
+    private final LongAdder _bytesSent = new LongAdder();
+    private final LongAdder _bytesReceived = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> _failedRequests = new ConcurrentHashMap<>();
+
+    private final LongAdder _cacheHits = new LongAdder();
+    private final LongAdder _cacheNotModified = new LongAdder();
+    private final LongAdder _cacheMisses = new LongAdder();
+
+    private final LongAdder _failovers = new LongAdder();
+    private final LongAdder _topologyUpdates = new LongAdder();
+
+    private final Histogram _subscriptionBatchSizes = new Histogram();
+    private final Histogram _subscriptionProcessingTimes = new Histogram();
+
+    private final LongAdder _bulkInsertDocuments = new LongAdder();
+    private final LongAdder _bulkInsertDuration = new LongAdder();
+
+    @Override
+    public void onRequestCompleted(String commandType, long durationInNanos, long requestSize, long responseSize, int statusCode) {
+        _requestLatencies.computeIfAbsent(commandType, x -> new Histogram()).record(durationInNanos);
+
+        if (requestSize > 0) {
+            _bytesSent.add(requestSize);
+        }
+
+        if (responseSize >= 0) {
+            _responseSizes.computeIfAbsent(commandType, x -> new Histogram()).record(responseSize);
+            _bytesReceived.add(responseSize);
+        }
+    }
+
+    @Override
+    public void onRequestFailed(String commandType, long durationInNanos) {
+        _failedRequests.computeIfAbsent(commandType, x -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onCacheHit(String commandType) {
+        _cacheHits.increment();
+    }
+
+    @Override
+    public void onCacheNotModified(String commandType) {
+        _cacheNotModified.increment();
+    }
+
+    @Override
+    public void onCacheMiss(String commandType) {
+        _cacheMisses.increment();
+    }
+
+    @Override
+    public void onFailover(String commandType, ServerNode failedNode) {
+        _failovers.increment();
+    }
+
+    @Override
+    public void onTopologyUpdated(String databaseName) {
+        _topologyUpdates.increment();
+    }
+
+    @Override
+    public void onSubscriptionBatchProcessed(String subscriptionName, int itemsCount, long processingTimeInNanos) {
+        _subscriptionBatchSizes.record(itemsCount);
+        _subscriptionProcessingTimes.record(processingTimeInNanos);
+    }
+
+    @Override
+    public void onBulkInsertCompleted(long documentsCount, long durationInNanos) {
+        _bulkInsertDocuments.add(documentsCount);
+        _bulkInsertDuration.add(durationInNanos);
+    }
+
+    /**
+     * @return request latencies (in nanoseconds) per command type
+     */
+    public Map<String, Histogram> getRequestLatencies() {
+        return Collections.unmodifiableMap(_requestLatencies);
+    }
+
+    /**
+     * @return response sizes (in bytes) per command type
+     */
+    public Map<String, Histogram> getResponseSizes() {
+        return Collections.unmodifiableMap(_responseSizes);
+    }
+
+    public long getFailedRequests(String commandType) {
+        LongAdder failed = _failedRequests.get(commandType);
+        return failed != null ? failed.sum() : 0;
+    }
+
+    public long getBytesSent() {
+        return _bytesSent.sum();
+    }
+
+    public long getBytesReceived() {
+        return _bytesReceived.sum();
+    }
+
+    public long getCacheHits() {
+        return _cacheHits.sum();
+    }
+
+    public long getCacheNotModified() {
+        return _cacheNotModified.sum();
+    }
+
+    public long getCacheMisses() {
+        return _cacheMisses.sum();
+    }
+
+    /**
+     * @return ratio of requests served from cache (hit or not modified) to all cacheable requests
+     */
+    public double getCacheHitRate() {
+        long hits = getCacheHits() + getCacheNotModified();
+        long total = hits + getCacheMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getFailovers() {
+        return _failovers.sum();
+    }
+
+    public long getTopologyUpdates() {
+        return _topologyUpdates.sum();
+    }
+
+    public Histogram getSubscriptionBatchSizes() {
+        return _subscriptionBatchSizes;
+    }
+
+    /**
+     * @return time (in nanoseconds) spent in subscribers processing batches
+     */
+    public Histogram getSubscriptionProcessingTimes() {
+        return _subscriptionProcessingTimes;
+    }
+
+    public long getBulkInsertDocuments() {
+        return _bulkInsertDocuments.sum();
+    }
+
+    /**
+     * @return number of documents stored by bulk inserts per second
+     */
+    public double getBulkInsertThroughput() {
+        long duration = _bulkInsertDuration.sum();
+        return duration == 0 ? 0 : getBulkInsertDocuments() * 1_000_000_000.0 / duration;
+    }
+}
@@ -0,0 +1,86 @@
+package net.ravendb.client.metrics;
+
+import net.ravendb.client.http.ServerNode;
+
+/**
+ * Receives client side measurements: requests, http cache usage, failovers, topology updates, subscriptions
+ * and bulk inserts. All methods are no-op by default, so implementations can override only what they need.
+ * Methods are called on hot paths from many threads - implementations must be thread safe and cheap.
+ */
+public interface MetricsRegistry {
+
+    MetricsRegistry NO_OP = new MetricsRegistry() {
+    };
+
+    /**
+     * Called when response body was read or response was closed.
+     * @param commandType simple name of executed command class
+     * @param durationInNanos time from sending the request until response headers were received
+     * @param requestSize number of bytes sent or -1 if unknown
+     * @param responseSize number of response body bytes read by the client (after content decoding)
+     * @param statusCode http status code
+     */
+    default void onRequestCompleted(String commandType, long durationInNanos, long requestSize, long responseSize, int statusCode) {
+    }
+
+    /**
+     * Called when request could not be sent or response was not received (i.e. network failure, timeout)
+     * @param commandType simple name of executed command class
+     * @param durationInNanos time from sending the request until failure
+     */
+    default void onRequestFailed(String commandType, long durationInNanos) {
+    }
+
+    /**
+     * Called when response was served from http cache without contacting the server (aggressive caching).
+     * @param commandType simple name of executed command class
+     */
+    default void onCacheHit(String commandType) {
+    }
+
+    /**
+     * Called when server confirmed that cached response is still valid (304 Not Modified).
+     * @param commandType simple name of executed command class
+     */
+    default void onCacheNotModified(String commandType) {
+    }
+
+    /**
+     * Called when cacheable request had no cached response.
+     * @param commandType simple name of executed command class
+     */
+    default void onCacheMiss(String commandType) {
+    }
+
+    /**
+     * Called when request failed on node and is going to be retried on another one.
+     * @param commandType simple name of executed command class
+     * @param failedNode node which failed to process the request
+     */
+    default void onFailover(String commandType, ServerNode failedNode) {
+    }
+
+    /**
+     * Called after topology was refreshed.
+     * @param databaseName database name or null for cluster topology
+     */
+    default void onTopologyUpdated(String databaseName) {
+    }
+
+    /**
+     * Called after subscriber processed a batch.
+     * @param subscriptionName subscription name
+     * @param itemsCount number of items in batch
+     * @param processingTimeInNanos time spent in subscriber
+     */
+    default void onSubscriptionBatchProcessed(String subscriptionName, int itemsCount, long processingTimeInNanos) {
+    }
+
+    /**
+     * Called when bulk insert was completed successfully.
+     * @param documentsCount number of stored documents
+     * @param durationInNanos time since bulk insert was opened
+     */
+    default void onBulkInsertCompleted(long documentsCount, long durationInNanos) {
+    }
+}
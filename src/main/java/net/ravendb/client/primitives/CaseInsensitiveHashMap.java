@@ -0,0 +1,142 @@
+package net.ravendb.client.primitives;
+
+import java.util.*;
+
+/**
+ * Hash map with case insensitive string keys. Keys keep the casing they were first inserted with
+ * and iteration follows insertion order.
+ * @param <V> value class
+ */
+public class CaseInsensitiveHashMap<V> extends AbstractMap<String, V> {
+
+    private final Map<CaseInsensitiveKey, V> _inner;
+
+    public CaseInsensitiveHashMap() {
+        _inner = new LinkedHashMap<>();
+    }
+
+    public CaseInsensitiveHashMap(int initialCapacity) {
+        _inner = new LinkedHashMap<>(initialCapacity);
+    }
+
+    public static Set<String> newSet() {
+        return Collections.newSetFromMap(new CaseInsensitiveHashMap<>());
+    }
+
+    @Override
+    public V get(Object key) {
+        return key instanceof String ? _inner.get(new CaseInsensitiveKey((String) key)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && _inner.containsKey(new CaseInsensitiveKey((String) key));
+    }
+
+    @Override
+    public V put(String key, V value) {
+        return _inner.put(new CaseInsensitiveKey(key), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return key instanceof String ? _inner.remove(new CaseInsensitiveKey((String) key)) : null;
+    }
+
+    @Override
+    public int size() {
+        return _inner.size();
+    }
+
+    @Override
+    public void clear() {
+        _inner.clear();
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                Iterator<Entry<CaseInsensitiveKey, V>> inner = _inner.entrySet().iterator();
+
+                return new Iterator<Entry<String, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return inner.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        Entry<CaseInsensitiveKey, V> entry = inner.next();
+
+                        return new SimpleEntry<String, V>(entry.getKey().value, entry.getValue()) {
+                            @Override
+                            public V setValue(V value) {
+                                super.setValue(value);
+                                return entry.setValue(value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        inner.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return _inner.size();
+            }
+
+            @Override
+            public void clear() {
+                _inner.clear();
+            }
+        };
+    }
+
+    private static final class CaseInsensitiveKey {
+        private final String value;
+        private final int hash;
+
+        CaseInsensitiveKey(String value) {
+            this.value = value;
+
+            int h = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 128) {
+                    // fast path for ascii ids
+                    if (c >= 'A' && c <= 'Z') {
+                        c += 'a' - 'A';
+                    }
+                } else {
+                    c = Character.toLowerCase(Character.toUpperCase(c));
+                }
+                h = 31 * h + c;
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CaseInsensitiveKey)) {
+                return false;
+            }
+
+            CaseInsensitiveKey other = (CaseInsensitiveKey) o;
+            return hash == other.hash && value.equalsIgnoreCase(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -3,8 +3,32 @@ package net.ravendb.client.util;
 import net.ravendb.client.primitives.Reference;
 import net.ravendb.client.primitives.Tuple;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
 public class ClientShardHelper {
 
+    public static final int NUMBER_OF_BUCKETS = 1024 * 1024;
+
+    /**
+     * Computes sharding bucket of a document the same way server does: hash of lower cased id.
+     * When id contains '$' only the part after the last '$' is hashed, so such document is stored together with the anchor document.
+     * Note that this isn't the final bucket for documents matching prefixed sharding settings.
+     * @param id document id
+     * @return bucket number
+     */
+    public static int getBucketFor(String id) {
+        String lowerId = id.toLowerCase(Locale.ROOT);
+
+        int anchorPosition = lowerId.lastIndexOf('$');
+        if (anchorPosition != -1) {
+            lowerId = lowerId.substring(anchorPosition + 1);
+        }
+
+        long hash = XxHash64.hash(lowerId.getBytes(StandardCharsets.UTF_8), 0);
+        return (int) Long.remainderUnsigned(hash, NUMBER_OF_BUCKETS);
+    }
+
     public static String toShardName(String database, int shardNumber) {
         if (isShardName(database)) {
             throw new IllegalArgumentException("Expected a non shard name but got " + database);
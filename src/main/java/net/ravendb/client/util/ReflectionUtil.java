@@ -6,6 +6,7 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -13,7 +14,7 @@ import java.util.stream.Collectors;
  */
 public class ReflectionUtil {
 
-    private static final Map<Class<?>, String> fullNameCache = new HashMap<>();
+    private static final Map<Class<?>, String> fullNameCache = new ConcurrentHashMap<>();
 
     /**
      * Note: we can't fetch generic types information in Java - hence we are limited to simple getName on class object
@@ -21,13 +22,7 @@ public class ReflectionUtil {
      * @return full name without version info
      */
     public static String getFullNameWithoutVersionInformation(Class<?> entityType) {
-        if (fullNameCache.containsKey(entityType)) {
-            return fullNameCache.get(entityType);
-        }
-
-        String fullName = entityType.getName();
-        fullNameCache.put(entityType, fullName);
-        return fullName;
+        return fullNameCache.computeIfAbsent(entityType, Class::getName);
     }
 
     public static List<Field> getFieldsFor(Class<?> clazz) {
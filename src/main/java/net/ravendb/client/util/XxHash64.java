@@ -0,0 +1,103 @@
+package net.ravendb.client.util;
+
+/**
+ * XXH64 hash function, the same the server uses to assign documents to sharding buckets.
+ */
+public class XxHash64 {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private XxHash64() {
+    }
+
+    public static long hash(byte[] buffer, long seed) {
+        int length = buffer.length;
+        int position = 0;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = seed + PRIME1 + PRIME2;
+            long v2 = seed + PRIME2;
+            long v3 = seed;
+            long v4 = seed - PRIME1;
+
+            int limit = length - 32;
+            do {
+                v1 = round(v1, readLong(buffer, position));
+                v2 = round(v2, readLong(buffer, position + 8));
+                v3 = round(v3, readLong(buffer, position + 16));
+                v4 = round(v4, readLong(buffer, position + 24));
+                position += 32;
+            } while (position <= limit);
+
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = seed + PRIME5;
+        }
+
+        hash += length;
+
+        while (position + 8 <= length) {
+            hash ^= round(0, readLong(buffer, position));
+            hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+            position += 8;
+        }
+
+        if (position + 4 <= length) {
+            hash ^= (readInt(buffer, position) & 0xFFFFFFFFL) * PRIME1;
+            hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+            position += 4;
+        }
+
+        while (position < length) {
+            hash ^= (buffer[position] & 0xFFL) * PRIME5;
+            hash = Long.rotateLeft(hash, 11) * PRIME1;
+            position++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME2;
+        hash ^= hash >>> 29;
+        hash *= PRIME3;
+        hash ^= hash >>> 32;
+
+        return hash;
+    }
+
+    private static long round(long accumulator, long input) {
+        accumulator += input * PRIME2;
+        accumulator = Long.rotateLeft(accumulator, 31);
+        return accumulator * PRIME1;
+    }
+
+    private static long mergeRound(long accumulator, long value) {
+        accumulator ^= round(0, value);
+        return accumulator * PRIME1 + PRIME4;
+    }
+
+    private static long readLong(byte[] buffer, int position) {
+        return (buffer[position] & 0xFFL)
+                | (buffer[position + 1] & 0xFFL) << 8
+                | (buffer[position + 2] & 0xFFL) << 16
+                | (buffer[position + 3] & 0xFFL) << 24
+                | (buffer[position + 4] & 0xFFL) << 32
+                | (buffer[position + 5] & 0xFFL) << 40
+                | (buffer[position + 6] & 0xFFL) << 48
+                | (buffer[position + 7] & 0xFFL) << 56;
+    }
+
+    private static int readInt(byte[] buffer, int position) {
+        return (buffer[position] & 0xFF)
+                | (buffer[position + 1] & 0xFF) << 8
+                | (buffer[position + 2] & 0xFF) << 16
+                | (buffer[position + 3] & 0xFF) << 24;
+    }
+}
@@ -0,0 +1,212 @@
+package net.ravendb.client.documents.commands;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.Constants;
+import net.ravendb.client.documents.DocumentStore;
+import net.ravendb.client.documents.commands.multiGet.GetRequest;
+import net.ravendb.client.documents.commands.multiGet.GetResponse;
+import net.ravendb.client.documents.commands.multiGet.MultiGetCommand;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.documents.queries.IndexQuery;
+import net.ravendb.client.documents.session.IDocumentSession;
+import net.ravendb.client.documents.session.InMemoryDocumentSessionOperations;
+import net.ravendb.client.extensions.JsonExtensions;
+import net.ravendb.client.http.HttpCache;
+import net.ravendb.client.http.RequestExecutor;
+import net.ravendb.client.primitives.Reference;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingResponseTest {
+
+    private static final String URL = "http://127.0.0.1:1/databases/db/queries";
+
+    private static final String QUERY_RESPONSE = "{\"TotalResults\":2,\"SkippedResults\":0,\"DurationInMs\":12," +
+            "\"Results\":[{\"Name\":\"Zażółć\",\"@metadata\":{\"@id\":\"users/1\",\"@change-vector\":\"A:1\"}},{\"Name\":\"Jane\"}]," +
+            "\"Includes\":{\"companies/1\":{\"Name\":\"HR\"}},\"IncludedPaths\":[\"Company\"],\"IsStale\":false," +
+            "\"IndexTimestamp\":\"2024-01-02T03:04:05.0000000\",\"IndexName\":\"Users/ByName\",\"ResultEtag\":-42," +
+            "\"LastQueryTime\":\"2024-01-02T03:04:06.1230000Z\",\"NodeTag\":\"A\"," +
+            "\"Timings\":{\"DurationInMs\":7,\"Timings\":{\"Query\":{\"DurationInMs\":3}}}}";
+
+    private static final String DOCUMENTS_RESPONSE = "{\"Results\":[{\"Name\":\"Zażółć\",\"@metadata\":{\"@id\":\"users/1\"}},null]," +
+            "\"Includes\":{\"companies/1\":{\"Name\":\"HR\"}},\"CounterIncludes\":null,\"NextPageStart\":0}";
+
+    private final ObjectMapper mapper = JsonExtensions.getDefaultMapper();
+
+    @Test
+    public void queryCommandParsesStreamingAndStringResponsesTheSame() throws IOException {
+        try (DocumentStore store = createStore();
+             IDocumentSession session = store.openSession();
+             HttpCache cache = new HttpCache(1024 * 1024)) {
+            InMemoryDocumentSessionOperations sessionOperations = (InMemoryDocumentSessionOperations) session;
+            IndexQuery query = new IndexQuery("from Users");
+
+            QueryCommand fromString = new QueryCommand(sessionOperations, query, false, false);
+            fromString.setResponse(QUERY_RESPONSE, false);
+            JsonNode expected = mapper.valueToTree(fromString.getResult());
+
+            QueryCommand fromStream = new QueryCommand(sessionOperations, query, false, false);
+            fromStream.processResponse(null, streamedResponse(QUERY_RESPONSE, null), URL);
+
+            assertThat((Object) mapper.valueToTree(fromStream.getResult()))
+                    .isEqualTo(expected);
+
+            QueryCommand fromBuffer = new QueryCommand(sessionOperations, query, false, false);
+            fromBuffer.processResponse(cache, bufferedResponse(QUERY_RESPONSE, "A:1"), URL);
+
+            assertThat((Object) mapper.valueToTree(fromBuffer.getResult()))
+                    .isEqualTo(expected);
+
+            QueryCommand fromCache = new QueryCommand(sessionOperations, query, false, false);
+            fromCache.setResponse(readFromCache(cache, "A:1"), true);
+
+            ObjectNode expectedFromCache = expected.deepCopy();
+            expectedFromCache.put("DurationInMs", -1L);
+            expectedFromCache.putNull("Timings");
+
+            assertThat((Object) mapper.valueToTree(fromCache.getResult()))
+                    .isEqualTo(expectedFromCache);
+        }
+    }
+
+    @Test
+    public void getDocumentsCommandParsesStreamingAndStringResponsesTheSame() throws IOException {
+        DocumentConventions conventions = new DocumentConventions();
+        String[] ids = new String[] { "users/1", "users/2" };
+
+        try (HttpCache cache = new HttpCache(1024 * 1024)) {
+            GetDocumentsCommand fromString = new GetDocumentsCommand(conventions, ids, null, false);
+            fromString.setResponse(DOCUMENTS_RESPONSE, false);
+            JsonNode expected = mapper.valueToTree(fromString.getResult());
+
+            assertThat(expected.get("Results").get(0).get("Name").asText())
+                    .isEqualTo("Zażółć");
+
+            GetDocumentsCommand fromStream = new GetDocumentsCommand(conventions, ids, null, false);
+            fromStream.processResponse(null, streamedResponse(DOCUMENTS_RESPONSE, null), URL);
+
+            assertThat((Object) mapper.valueToTree(fromStream.getResult()))
+                    .isEqualTo(expected);
+
+            GetDocumentsCommand fromBuffer = new GetDocumentsCommand(conventions, ids, null, false);
+            fromBuffer.processResponse(cache, bufferedResponse(DOCUMENTS_RESPONSE, "A:1"), URL);
+
+            assertThat((Object) mapper.valueToTree(fromBuffer.getResult()))
+                    .isEqualTo(expected);
+
+            GetDocumentsCommand fromCache = new GetDocumentsCommand(conventions, ids, null, false);
+            fromCache.setResponse(readFromCache(cache, "A:1"), true);
+
+            assertThat((Object) mapper.valueToTree(fromCache.getResult()))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void multiGetCommandCopiesResultsFromStream() throws IOException {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try (RequestExecutor requestExecutor = RequestExecutor.createForSingleNodeWithoutConfigurationUpdates("http://127.0.0.1:1", "db",
+                null, null, null, executorService, new DocumentConventions())) {
+            List<GetRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                GetRequest request = new GetRequest();
+                request.setUrl("/docs");
+                request.setQuery("?id=users/" + i);
+                requests.add(request);
+            }
+
+            ArrayNode results = mapper.createArrayNode();
+            results.addObject()
+                    .put("StatusCode", 200)
+                    .set("Result", mapper.readTree(DOCUMENTS_RESPONSE));
+            results.addObject()
+                    .put("StatusCode", 200)
+                    .set("Result", mapper.readTree(QUERY_RESPONSE));
+            results.addObject()
+                    .put("StatusCode", 404)
+                    .putNull("Result");
+
+            ObjectNode payload = mapper.createObjectNode();
+            payload.set("Results", results);
+
+            try (MultiGetCommand command = new MultiGetCommand(requestExecutor, requests)) {
+                byte[] bytes = mapper.writeValueAsBytes(payload);
+                command.setResponseRaw(bufferedResponse(new String(bytes, StandardCharsets.UTF_8), null), new ByteArrayInputStream(bytes));
+
+                List<GetResponse> responses = command.getResult();
+                assertThat(responses)
+                        .hasSize(3);
+
+                assertThat(mapper.readTree(responses.get(0).getResult()))
+                        .isEqualTo(mapper.readTree(DOCUMENTS_RESPONSE));
+                assertThat(mapper.readTree(responses.get(1).getResult()))
+                        .isEqualTo(mapper.readTree(QUERY_RESPONSE));
+                assertThat(responses.get(2).getResult())
+                        .isNull();
+                assertThat(responses.get(2).getStatusCode())
+                        .isEqualTo(404);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static DocumentStore createStore() {
+        DocumentStore store = new DocumentStore("http://127.0.0.1:1", "db");
+        store.getConventions().setDisableTopologyUpdates(true);
+        store.initialize();
+        return store;
+    }
+
+    private static String readFromCache(HttpCache cache, String expectedChangeVector) {
+        Reference<String> changeVectorRef = new Reference<>();
+        Reference<String> responseRef = new Reference<>();
+
+        try (HttpCache.ReleaseCacheItem item = cache.get(URL, changeVectorRef, responseRef)) {
+            assertThat(item.item)
+                    .isNotNull();
+        }
+
+        assertThat(changeVectorRef.value)
+                .isEqualTo(expectedChangeVector);
+
+        return responseRef.value;
+    }
+
+    private static ClassicHttpResponse streamedResponse(String json, String changeVector) {
+        // unknown length, like chunked responses
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return response(new InputStreamEntity(new ByteArrayInputStream(bytes), -1, ContentType.APPLICATION_JSON), changeVector);
+    }
+
+    private static ClassicHttpResponse bufferedResponse(String json, String changeVector) {
+        return response(new ByteArrayEntity(json.getBytes(StandardCharsets.UTF_8), ContentType.APPLICATION_JSON), changeVector);
+    }
+
+    private static ClassicHttpResponse response(HttpEntity entity, String changeVector) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.setEntity(entity);
+        if (changeVector != null) {
+            response.setHeader(Constants.Headers.ETAG, "\"" + changeVector + "\"");
+        }
+        return response;
+    }
+}
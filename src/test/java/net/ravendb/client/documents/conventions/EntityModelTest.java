@@ -0,0 +1,128 @@
+package net.ravendb.client.documents.conventions;
+
+import net.ravendb.client.documents.identity.GenerateEntityIdOnTheClient;
+import net.ravendb.client.infrastructure.entities.Company;
+import net.ravendb.client.infrastructure.entities.User;
+import net.ravendb.client.primitives.Reference;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EntityModelTest {
+
+    public static abstract class AbstractEntity {
+        private String id;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+
+    public static class WithoutId {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class WithNumericId {
+        private int id;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    public void modelIsComputedOnceAndReused() {
+        DocumentConventions conventions = new DocumentConventions();
+
+        EntityModel model = conventions.getEntityModel(User.class);
+
+        assertThat(conventions.getEntityModel(User.class))
+                .isSameAs(model);
+        assertThat(model.getCollectionName())
+                .isEqualTo("Users");
+        assertThat(model.getJavaClassName())
+                .isEqualTo(User.class.getName());
+        assertThat(model.getIdentityProperty().getName())
+                .isEqualTo("id");
+
+        EntityModel withoutId = conventions.getEntityModel(WithoutId.class);
+        assertThat(withoutId.hasIdentityProperty())
+                .isFalse();
+        assertThat(conventions.getEntityModel(WithoutId.class))
+                .isSameAs(withoutId);
+        assertThat(conventions.getIdentityProperty(WithoutId.class))
+                .isNull();
+    }
+
+    @Test
+    public void readsAndWritesIdentity() {
+        DocumentConventions conventions = new DocumentConventions();
+        GenerateEntityIdOnTheClient generator = new GenerateEntityIdOnTheClient(conventions, x -> "users/1");
+
+        User user = new User();
+        generator.trySetIdentity(user, "users/2");
+        assertThat(user.getId())
+                .isEqualTo("users/2");
+
+        Reference<String> id = new Reference<>();
+        assertThat(generator.tryGetIdFromInstance(user, id))
+                .isTrue();
+        assertThat(id.value)
+                .isEqualTo("users/2");
+
+        generator.trySetIdentity(user, "users/3", true);
+        assertThat(user.getId())
+                .isEqualTo("users/2");
+
+        WithoutId withoutId = new WithoutId();
+        generator.trySetIdentity(withoutId, "items/1");
+        assertThat(generator.tryGetIdFromInstance(withoutId, id))
+                .isFalse();
+
+        assertThatThrownBy(() -> generator.trySetIdentity(new WithNumericId(), "items/1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void collectionNameErrorIsReportedOnAccess() {
+        DocumentConventions conventions = new DocumentConventions();
+
+        EntityModel model = conventions.getEntityModel(AbstractEntity.class);
+        assertThat(model.getIdentityProperty())
+                .isNotNull();
+
+        assertThatThrownBy(() -> conventions.getCollectionName(AbstractEntity.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void customizingConventionsInvalidatesModels() {
+        DocumentConventions conventions = new DocumentConventions();
+        conventions.preloadEntityModels(User.class, Company.class);
+
+        assertThat(conventions.getCollectionName(User.class))
+                .isEqualTo("Users");
+
+        conventions.setFindCollectionName(clazz -> "Custom" + clazz.getSimpleName());
+
+        assertThat(conventions.getCollectionName(User.class))
+                .isEqualTo("CustomUser");
+    }
+}
@@ -48,6 +48,36 @@ public class DeleteByQueryTest extends RemoteTestBase {
         }
     }
 
+    @Test
+    public void canDeleteByQueryAndWaitAsync() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            try (IDocumentSession session = store.openSession()) {
+                User user1 = new User();
+                user1.setAge(5);
+                session.store(user1);
+
+                User user2 = new User();
+                user2.setAge(10);
+                session.store(user2);
+
+                session.saveChanges();
+            }
+
+            IndexQuery indexQuery = new IndexQuery();
+            indexQuery.setQuery("from users where age == 5");
+            DeleteByQueryOperation operation = new DeleteByQueryOperation(indexQuery);
+            Operation asyncOp = store.operations().sendAsync(operation);
+
+            asyncOp.waitForCompletionAsync().get(15, TimeUnit.SECONDS);
+
+            try (IDocumentSession session = store.openSession()) {
+                assertThat(session.query(User.class)
+                        .count())
+                        .isEqualTo(1);
+            }
+        }
+    }
+
     @Test
     public void canDeleteByQueryWaitUsingChanges() throws Exception {
         try (IDocumentStore store = getDocumentStore()) {
@@ -0,0 +1,99 @@
+package net.ravendb.client.documents.queries;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ravendb.client.extensions.JsonExtensions;
+import net.ravendb.client.json.BatchCommandResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryResultDeserializerTest {
+
+    @Test
+    public void canReadQueryResult() throws IOException {
+        String json = "{\"TotalResults\":2,\"CappedMaxResults\":null,\"SkippedResults\":1,\"ScannedResults\":5," +
+                "\"Highlightings\":{\"Name\":{\"users/1\":[\"<b>John</b>\"]}},\"Explanations\":{\"users/1\":[\"score\"]}," +
+                "\"DurationInMs\":12,\"ResultSize\":0," +
+                "\"Results\":[{\"Name\":\"John\",\"@metadata\":{\"@id\":\"users/1\"}},{\"Name\":\"Jane\"}]," +
+                "\"Includes\":{\"companies/1\":{\"Name\":\"HR\"}},\"CounterIncludes\":null,\"RevisionIncludes\":[{\"Id\":\"users/1\"}]," +
+                "\"IncludedCounterNames\":{\"users/1\":[\"likes\",\"dislikes\"]},\"TimeSeriesIncludes\":{}," +
+                "\"CompareExchangeValueIncludes\":null,\"IncludedPaths\":[\"Company\"],\"IsStale\":true," +
+                "\"IndexTimestamp\":\"2024-01-02T03:04:05.0000000\",\"IndexName\":\"Users/ByName\",\"ResultEtag\":-123456789012," +
+                "\"LastQueryTime\":\"2024-01-02T03:04:06.1230000Z\",\"NodeTag\":\"A\"," +
+                "\"Timings\":{\"DurationInMs\":7,\"Timings\":{\"Query\":{\"DurationInMs\":3,\"Timings\":null}},\"QueryPlan\":null}," +
+                "\"Unknown\":{\"Nested\":[1,2,{\"A\":null}]}}";
+
+        ObjectMapper mapper = JsonExtensions.getDefaultMapper();
+        QueryResult result = mapper.readValue(json, QueryResult.class);
+
+        assertThat(result.getTotalResults())
+                .isEqualTo(2);
+        assertThat(result.getCappedMaxResults())
+                .isNull();
+        assertThat(result.getSkippedResults())
+                .isEqualTo(1);
+        assertThat(result.getScannedResults())
+                .isEqualTo(5);
+        assertThat(result.getHighlightings().get("Name").get("users/1"))
+                .containsExactly("<b>John</b>");
+        assertThat(result.getExplanations().get("users/1"))
+                .containsExactly("score");
+        assertThat(result.getDurationInMs())
+                .isEqualTo(12);
+        assertThat(result.getResults())
+                .hasSize(2);
+        assertThat(result.getResults().get(0).get("@metadata").get("@id").asText())
+                .isEqualTo("users/1");
+        assertThat(result.getIncludes().get("companies/1").get("Name").asText())
+                .isEqualTo("HR");
+        assertThat(result.getCounterIncludes())
+                .isNull();
+        assertThat(result.getRevisionIncludes())
+                .hasSize(1);
+        assertThat(result.getIncludedCounterNames().get("users/1"))
+                .containsExactly("likes", "dislikes");
+        assertThat(result.getTimeSeriesIncludes())
+                .isEmpty();
+        assertThat(result.getCompareExchangeValueIncludes())
+                .isNull();
+        assertThat(result.getIncludedPaths())
+                .containsExactly("Company");
+        assertThat(result.getIndexTimestamp())
+                .isEqualTo(mapper.readValue("\"2024-01-02T03:04:05.0000000\"", java.util.Date.class));
+        assertThat(result.getIndexName())
+                .isEqualTo("Users/ByName");
+        assertThat(result.getResultEtag())
+                .isEqualTo(-123456789012L);
+        assertThat(result.getLastQueryTime())
+                .isEqualTo(mapper.readValue("\"2024-01-02T03:04:06.1230000Z\"", java.util.Date.class));
+        assertThat(result.getNodeTag())
+                .isEqualTo("A");
+        assertThat(result.getTimings().getDurationInMs())
+                .isEqualTo(7);
+        assertThat(result.getTimings().getTimings().get("Query").getDurationInMs())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void canReadBatchCommandResult() throws IOException {
+        BatchCommandResult result = JsonExtensions.getDefaultMapper()
+                .readValue("{\"Results\":[{\"Type\":\"PUT\",\"@id\":\"users/1\"}],\"TransactionIndex\":42}", BatchCommandResult.class);
+
+        assertThat(result.getResults())
+                .hasSize(1);
+        assertThat(result.getResults().get(0).get("@id").asText())
+                .isEqualTo("users/1");
+        assertThat(result.getTransactionIndex())
+                .isEqualTo(42);
+
+        result = JsonExtensions.getDefaultMapper()
+                .readValue("{\"Results\":null}", BatchCommandResult.class);
+
+        assertThat(result.getResults())
+                .isNull();
+        assertThat(result.getTransactionIndex())
+                .isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package net.ravendb.client.documents.session;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.Constants;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.json.MetadataAsDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityToJsonTest {
+
+    @Test
+    public void streamedEntityMatchesTree() throws IOException {
+        DocumentConventions conventions = new DocumentConventions();
+        ObjectMapper mapper = conventions.getEntityMapper();
+
+        Company company = new Company();
+        company.setId("companies/1");
+        company.setName("HR");
+        Company parent = new Company();
+        parent.setId("companies/2");
+        parent.setName("Parent");
+        company.setParent(parent);
+        company.setTags(Arrays.asList("a", "b"));
+
+        MetadataAsDictionary metadata = new MetadataAsDictionary();
+        metadata.put(Constants.Documents.Metadata.COLLECTION, "Companies");
+        metadata.put("Nested", new MetadataAsDictionary());
+
+        DocumentInfo documentInfo = new DocumentInfo();
+        documentInfo.setMetadataInstance(metadata);
+
+        ObjectNode expected = EntityToJson.convertEntityToJson(company, conventions, documentInfo, true);
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+            EntityToJson.writeEntityToJson(generator, company, conventions, documentInfo, true);
+        }
+
+        ObjectNode actual = (ObjectNode) mapper.readTree(writer.toString());
+
+        assertThat(actual)
+                .isEqualTo(expected);
+        assertThat(actual.has("id"))
+                .isFalse();
+        assertThat(actual.get("parent").has("id"))
+                .isTrue();
+    }
+
+    public static class Company {
+        private String id;
+        private String name;
+        private Company parent;
+        private List<String> tags;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Company getParent() {
+            return parent;
+        }
+
+        public void setParent(Company parent) {
+            this.parent = parent;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package net.ravendb.client.documents.subscriptions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.Constants;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.http.RequestExecutor;
+import net.ravendb.client.infrastructure.entities.User;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SubscriptionBatchTest {
+
+    private ExecutorService executorService;
+    private RequestExecutor requestExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newCachedThreadPool();
+        requestExecutor = RequestExecutor.createForSingleNodeWithoutConfigurationUpdates("http://127.0.0.1:1", "db",
+                null, null, null, executorService, new DocumentConventions());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        requestExecutor.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void deserializesItemsLazily() {
+        SubscriptionBatch<User> batch = createBatch();
+
+        List<ObjectNode> documents = new ArrayList<>();
+        documents.add(createDocument("users/1", "John"));
+
+        ObjectNode invalid = createDocument("users/2", "Jane");
+        invalid.put("age", "not a number");
+        documents.add(invalid);
+
+        batch.initialize(createBatchFromServer(documents));
+
+        SubscriptionBatchBase.Item<User> broken = batch.getItems().get(1);
+        assertThat(broken.getId())
+                .isEqualTo("users/2");
+        assertThat(broken.getRawResult().get("name").asText())
+                .isEqualTo("Jane");
+        assertThatThrownBy(broken::getResult)
+                .isInstanceOf(IllegalStateException.class);
+
+        User user = batch.getItems().get(0).getResult();
+        assertThat(user.getId())
+                .isEqualTo("users/1");
+        assertThat(user.getName())
+                .isEqualTo("John");
+        assertThat(batch.getItems().get(0).getResult())
+                .isSameAs(user);
+    }
+
+    @Test
+    public void deserializesItemsInParallel() {
+        SubscriptionBatch<User> batch = createBatch();
+
+        List<ObjectNode> documents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            documents.add(createDocument("users/" + i, "user" + i));
+        }
+
+        batch.initialize(createBatchFromServer(documents));
+        batch.deserializeResults(4, executorService);
+
+        for (int i = 0; i < 1000; i++) {
+            User user = batch.getItems().get(i).getResult();
+            assertThat(user.getId())
+                    .isEqualTo("users/" + i);
+            assertThat(user.getName())
+                    .isEqualTo("user" + i);
+        }
+    }
+
+    private SubscriptionBatch<User> createBatch() {
+        return new SubscriptionBatch<>(User.class, false, requestExecutor, null, "db", LogFactory.getLog(SubscriptionBatchTest.class));
+    }
+
+    private ObjectNode createDocument(String id, String name) {
+        ObjectMapper mapper = requestExecutor.getConventions().getEntityMapper();
+
+        User user = new User();
+        user.setName(name);
+
+        ObjectNode document = mapper.valueToTree(user);
+        document.remove("id");
+
+        ObjectNode metadata = document.putObject(Constants.Documents.Metadata.KEY);
+        metadata.put(Constants.Documents.Metadata.ID, id);
+        metadata.put(Constants.Documents.Metadata.CHANGE_VECTOR, "A:1-test");
+        return document;
+    }
+
+    private static BatchFromServer createBatchFromServer(List<ObjectNode> documents) {
+        List<SubscriptionConnectionServerMessage> messages = new ArrayList<>();
+        for (ObjectNode document : documents) {
+            SubscriptionConnectionServerMessage message = new SubscriptionConnectionServerMessage();
+            message.setType(SubscriptionConnectionServerMessage.MessageType.DATA);
+            message.setData(document);
+            messages.add(message);
+        }
+
+        BatchFromServer batch = new BatchFromServer();
+        batch.setMessages(messages);
+        batch.setIncludes(Collections.emptyList());
+        batch.setCounterIncludes(Collections.emptyList());
+        batch.setTimeSeriesIncludes(Collections.emptyList());
+        return batch;
+    }
+}
@@ -0,0 +1,45 @@
+package net.ravendb.client.documents.subscriptions;
+
+import net.ravendb.client.extensions.JsonExtensions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SubscriptionConnectionServerMessageTest {
+
+    @Test
+    public void canReadDataMessage() throws IOException {
+        SubscriptionConnectionServerMessage message = read("{\"Type\":\"Data\",\"Data\":{\"Id\":\"users/1\",\"Name\":\"John\"}," +
+                "\"IncludedCounterNames\":{\"users/1\":[\"likes\"]},\"Exception\":null,\"Unknown\":[1,{\"A\":2}]}");
+
+        assertThat(message.getType())
+                .isEqualTo(SubscriptionConnectionServerMessage.MessageType.DATA);
+        assertThat(message.getData().get("Name").asText())
+                .isEqualTo("John");
+        assertThat(message.getIncludedCounterNames().get("users/1"))
+                .containsExactly("likes");
+        assertThat(message.getException())
+                .isNull();
+    }
+
+    @Test
+    public void canReadConnectionStatusMessage() throws IOException {
+        SubscriptionConnectionServerMessage message = read("{\"Type\":\"ConnectionStatus\",\"Status\":\"ForbiddenReadOnly\"," +
+                "\"Message\":\"read only\",\"Data\":null}");
+
+        assertThat(message.getType())
+                .isEqualTo(SubscriptionConnectionServerMessage.MessageType.CONNECTION_STATUS);
+        assertThat(message.getStatus())
+                .isEqualTo(SubscriptionConnectionServerMessage.ConnectionStatus.FORBIDDEN_READ_ONLY);
+        assertThat(message.getMessage())
+                .isEqualTo("read only");
+        assertThat(message.getData())
+                .isNull();
+    }
+
+    private static SubscriptionConnectionServerMessage read(String json) throws IOException {
+        return JsonExtensions.getDefaultMapper().readValue(json, SubscriptionConnectionServerMessage.class);
+    }
+}
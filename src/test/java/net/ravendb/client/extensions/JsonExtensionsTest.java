@@ -1,5 +1,8 @@
 package net.ravendb.client.extensions;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import net.ravendb.client.documents.conventions.DocumentConventions;
 import net.ravendb.client.util.TimeUtils;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +51,60 @@ public class JsonExtensionsTest {
                 .isEqualTo("PT0.1234S");
     }
 
+    @Test
+    public void registersBytecodeAcceleratorWhenFrozen() throws Exception {
+        assertThat(JsonExtensions.isBytecodeAccelerationSupported())
+                .isTrue();
+
+        DocumentConventions conventions = new DocumentConventions();
+        conventions.setUseBytecodeAcceleration(true);
+
+        assertThat(conventions.getEntityMapper().getRegisteredModuleIds())
+                .isEmpty();
+
+        conventions.freeze();
+
+        assertThat(conventions.getEntityMapper().getRegisteredModuleIds())
+                .containsExactly(BlackbirdModule.class.getName());
+
+        Person person = new Person();
+        person.setName("John");
+        person.setAge(42);
+
+        Person copy = conventions.getEntityMapper().readValue(conventions.getEntityMapper().writeValueAsString(person), Person.class);
+        assertThat(copy.getName())
+                .isEqualTo("John");
+        assertThat(copy.getAge())
+                .isEqualTo(42);
+
+        // mapper provided after freeze belongs to the caller and is left untouched
+        ObjectMapper mapper = new ObjectMapper();
+        conventions.setEntityMapper(mapper);
+
+        assertThat(mapper.getRegisteredModuleIds())
+                .isEmpty();
+    }
+
+    public static class Person {
+        private String name;
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
 
     private static String serialize(Duration duration) {
         return TimeUtils.durationToTimeSpan(duration);
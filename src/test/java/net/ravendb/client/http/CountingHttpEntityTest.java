@@ -0,0 +1,78 @@
+package net.ravendb.client.http;
+
+import org.apache.hc.client5.http.entity.DecompressingEntity;
+import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountingHttpEntityTest {
+
+    private static final byte[] CONTENT = "{\"Results\":[{\"Name\":\"John\"},{\"Name\":\"Jane\"}]}".getBytes();
+
+    @Test
+    public void countsBytesOfChunkedContent() throws IOException {
+        List<Long> reported = new ArrayList<>();
+
+        CountingHttpEntity entity = new CountingHttpEntity(
+                new InputStreamEntity(new ByteArrayInputStream(CONTENT), -1, ContentType.APPLICATION_JSON), reported::add);
+
+        assertThat(EntityUtils.toByteArray(entity))
+                .isEqualTo(CONTENT);
+
+        entity.close();
+
+        assertThat(reported)
+                .containsExactly((long) CONTENT.length);
+    }
+
+    @Test
+    public void countsDecodedBytes() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(CONTENT);
+        }
+
+        List<Long> reported = new ArrayList<>();
+
+        CountingHttpEntity entity = new CountingHttpEntity(new DecompressingEntity(
+                new ByteArrayEntity(compressed.toByteArray(), ContentType.APPLICATION_JSON), GZIPInputStreamFactory.getInstance()), reported::add);
+
+        try (InputStream content = entity.getContent()) {
+            byte[] buffer = new byte[7];
+            while (content.read(buffer) != -1) {
+                // consume
+            }
+        }
+
+        assertThat(reported)
+                .containsExactly((long) CONTENT.length);
+    }
+
+    @Test
+    public void reportsOnceWhenResponseIsClosedWithoutReadingContent() throws IOException {
+        List<Long> reported = new ArrayList<>();
+
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(404);
+        response.setEntity(new CountingHttpEntity(new ByteArrayEntity(CONTENT, ContentType.APPLICATION_JSON), reported::add));
+
+        response.close();
+        response.close();
+
+        assertThat(reported)
+                .containsExactly(0L);
+    }
+}
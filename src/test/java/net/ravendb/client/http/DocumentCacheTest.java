@@ -0,0 +1,140 @@
+package net.ravendb.client.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.Constants;
+import net.ravendb.client.documents.commands.GetDocumentsCommand;
+import net.ravendb.client.documents.commands.GetDocumentsResult;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.extensions.JsonExtensions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DocumentCacheTest {
+
+    private static final ObjectMapper MAPPER = JsonExtensions.getDefaultMapper();
+
+    @Test
+    public void returnsCopiesOnlyForMatchingChangeVectors() {
+        try (DocumentCache cache = new DocumentCache(10)) {
+            ObjectNode document = user("John", "A:1");
+
+            ArrayNode results = MAPPER.createArrayNode();
+            results.add(document);
+            results.addNull();
+
+            cache.set("etag-1", Arrays.asList("users/1", "users/2"), results);
+
+            document.put("Name", "Modified");
+
+            ArrayNode cached = cache.get("etag-1", Arrays.asList("USERS/1", "users/2"));
+            assertThat(cached)
+                    .isNotNull();
+            assertThat(cached.get(0).get("Name").asText())
+                    .isEqualTo("John");
+            assertThat(cached.get(1).isNull())
+                    .isTrue();
+
+            ((ObjectNode) cached.get(0)).put("Name", "Changed");
+            assertThat(cache.get("etag-1", Arrays.asList("users/1", "users/2")).get(0).get("Name").asText())
+                    .isEqualTo("John");
+
+            assertThat(cache.get("etag-2", Arrays.asList("users/1", "users/2")))
+                    .isNull();
+
+            cache.invalidate("users/1");
+            assertThat(cache.get("etag-1", Arrays.asList("users/1", "users/2")))
+                    .isNull();
+
+            assertThat(cache.getNumberOfHits())
+                    .isEqualTo(2);
+            assertThat(cache.getNumberOfMisses())
+                    .isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void sharesDocumentsBetweenResponses() {
+        try (DocumentCache cache = new DocumentCache(10)) {
+            ArrayNode single = MAPPER.createArrayNode();
+            single.add(user("John", "A:1"));
+            cache.set("single", Collections.singletonList("users/1"), single);
+
+            ArrayNode multiple = MAPPER.createArrayNode();
+            multiple.add(user("John", "A:1"));
+            multiple.add(user("Jane", "A:2"));
+            cache.set("multiple", Arrays.asList("users/1", "users/2"), multiple);
+
+            assertThat(cache.getNumberOfItems())
+                    .isEqualTo(2);
+            assertThat(cache.get("single", Collections.singletonList("users/1")).get(0).get("Name").asText())
+                    .isEqualTo("John");
+
+            // newer version of users/1 replaces the cached one, so responses containing the old version are not served anymore
+            ArrayNode modified = MAPPER.createArrayNode();
+            modified.add(user("Johnny", "A:3"));
+            cache.set("modified", Collections.singletonList("users/1"), modified);
+
+            assertThat(cache.get("single", Collections.singletonList("users/1")))
+                    .isNull();
+            assertThat(cache.get("multiple", Arrays.asList("users/1", "users/2")))
+                    .isNull();
+            assertThat(cache.get("modified", Collections.singletonList("users/1")).get(0).get("Name").asText())
+                    .isEqualTo("Johnny");
+        }
+    }
+
+    @Test
+    public void getDocumentsCommandReusesParsedDocuments() throws IOException {
+        DocumentCache cache = new DocumentCache(10);
+        String response = "{\"Results\":[{\"Name\":\"John\",\"@metadata\":{\"@id\":\"users/1\",\"@change-vector\":\"A:1\"}},null],\"Includes\":{}}";
+
+        TestGetDocumentsCommand first = new TestGetDocumentsCommand(cache, "etag-1");
+        first.setResponse(response, false);
+
+        assertThat(cache.getNumberOfItems())
+                .isEqualTo(2);
+
+        // cached response isn't parsed again, so even broken payload gives the same result
+        TestGetDocumentsCommand second = new TestGetDocumentsCommand(cache, "etag-1");
+        second.setResponse("{ not json", true);
+
+        GetDocumentsResult result = second.getResult();
+        assertThat(result.getResults())
+                .hasSize(2);
+        assertThat(result.getResults().get(0).get("Name").asText())
+                .isEqualTo("John");
+        assertThat(result.getResults().get(1).isNull())
+                .isTrue();
+
+        TestGetDocumentsCommand third = new TestGetDocumentsCommand(cache, "etag-2");
+        third.setResponse(response.replace("John", "Jane").replace("A:1", "A:2"), true);
+
+        assertThat(third.getResult().getResults().get(0).get("Name").asText())
+                .isEqualTo("Jane");
+        assertThat(cache.get("etag-2", Arrays.asList("users/1", "users/2")).get(0).get("Name").asText())
+                .isEqualTo("Jane");
+    }
+
+    private static ObjectNode user(String name, String changeVector) {
+        ObjectNode document = MAPPER.createObjectNode();
+        document.put("Name", name);
+        document.putObject(Constants.Documents.Metadata.KEY)
+                .put(Constants.Documents.Metadata.CHANGE_VECTOR, changeVector);
+        return document;
+    }
+
+    private static class TestGetDocumentsCommand extends GetDocumentsCommand {
+        TestGetDocumentsCommand(DocumentCache cache, String etag) {
+            super(new DocumentConventions(), new String[] { "users/1", "users/2" }, null, false);
+            setDocumentCache(cache);
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package net.ravendb.client.http;
+
+import net.ravendb.client.primitives.Reference;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpCacheTest {
+
+    @Test
+    public void canStoreAndReadPayloadInAllStorages() {
+        String payload = "{\"Name\":\"" + StringUtils.repeat("Zażółć", 100) + "\"}";
+
+        for (HttpCacheStorage storage : HttpCacheStorage.values()) {
+            try (HttpCache cache = new HttpCache(1024 * 1024, storage)) {
+                cache.set("/docs?id=users/1", "A:1", payload);
+
+                Reference<String> changeVectorRef = new Reference<>();
+                Reference<String> responseRef = new Reference<>();
+
+                try (HttpCache.ReleaseCacheItem item = cache.get("/docs?id=users/1", changeVectorRef, responseRef)) {
+                    assertThat(item.item)
+                            .isNotNull();
+                }
+
+                assertThat(changeVectorRef.value)
+                        .isEqualTo("A:1");
+                assertThat(responseRef.value)
+                        .isEqualTo(payload);
+
+                cache.get("/docs?id=users/2", changeVectorRef, responseRef);
+
+                assertThat(responseRef.value)
+                        .isNull();
+
+                assertThat(cache.getNumberOfHits())
+                        .isEqualTo(1);
+                assertThat(cache.getNumberOfMisses())
+                        .isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void evictsItemsBasedOnPayloadSize() {
+        try (HttpCache cache = new HttpCache(10 * 1024)) {
+            String payload = StringUtils.repeat('a', 1024);
+
+            for (int i = 0; i < 100; i++) {
+                cache.set("/docs?id=users/" + i, "A:" + i, payload);
+            }
+
+            assertThat(cache.getNumberOfItems())
+                    .isLessThan(10);
+            assertThat(cache.getNumberOfEvictions())
+                    .isGreaterThan(90);
+            assertThat(cache.getTotalSize())
+                    .isLessThanOrEqualTo(10 * 1024);
+        }
+    }
+
+    @Test
+    public void offHeapStorageReusesDirectMemory() {
+        try (HttpCache cache = new HttpCache(64 * 1024, HttpCacheStorage.OFF_HEAP)) {
+            for (int i = 0; i < 10_000; i++) {
+                cache.set("/docs?id=users/" + (i % 200), "A:" + i, StringUtils.repeat('a', i % 3000));
+            }
+
+            Reference<String> changeVectorRef = new Reference<>();
+            Reference<String> responseRef = new Reference<>();
+            cache.set("/docs?id=users/1", "B:1", StringUtils.repeat('b', 2500));
+            cache.get("/docs?id=users/1", changeVectorRef, responseRef);
+
+            assertThat(responseRef.value)
+                    .isEqualTo(StringUtils.repeat('b', 2500));
+            assertThat(cache.getTotalSize())
+                    .isLessThanOrEqualTo(64 * 1024);
+            assertThat(cache.getAllocatedDirectMemory())
+                    .isEqualTo(1024 * 1024);
+        }
+    }
+
+    @Test
+    public void invalidatesOnlyDependentItems() {
+        try (HttpCache cache = new HttpCache(1024 * 1024)) {
+            cache.set("/docs?id=users/1", "A:1", "{}", new HttpCacheDependencies().addDocument("users/1"));
+            cache.set("/docs?id=users/2", "A:2", "{}", new HttpCacheDependencies().addDocument("users/2"));
+            cache.set("/queries?queryHash=1", "A:3", "{}");
+
+            cache.invalidateDocument("Users/1");
+
+            assertThat(mightHaveBeenModified(cache, "/docs?id=users/1"))
+                    .isTrue();
+            assertThat(mightHaveBeenModified(cache, "/docs?id=users/2"))
+                    .isFalse();
+            assertThat(mightHaveBeenModified(cache, "/queries?queryHash=1"))
+                    .isTrue();
+
+            cache.invalidateAll();
+
+            assertThat(mightHaveBeenModified(cache, "/docs?id=users/2"))
+                    .isTrue();
+        }
+    }
+
+    private static boolean mightHaveBeenModified(HttpCache cache, String url) {
+        HttpCacheItem item = cache.get(url, new Reference<>(), new Reference<>()).item;
+        return item.generation != cache.getCurrentGeneration(item);
+    }
+}
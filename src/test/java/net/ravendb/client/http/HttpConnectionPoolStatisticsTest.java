@@ -0,0 +1,89 @@
+package net.ravendb.client.http;
+
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HttpConnectionPoolStatisticsTest {
+
+    @Test
+    public void readsTotalStatisticsFromPool() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(5)
+                .setMaxConnTotal(7)
+                .build();
+
+        try {
+            HttpConnectionPoolStatistics statistics = HttpConnectionPoolStatistics.from(connectionManager);
+
+            assertThat(statistics.getTotal().getMax())
+                    .isEqualTo(7);
+            assertThat(statistics.getTotal().getLeased())
+                    .isZero();
+            assertThat(statistics.getRoutes())
+                    .isEmpty();
+        } finally {
+            connectionManager.close();
+        }
+    }
+
+    @Test
+    public void validatesHttpClientConventions() {
+        DocumentConventions conventions = new DocumentConventions();
+
+        assertThat(conventions.httpClient().getMaxConnectionsPerRoute())
+                .isEqualTo(30);
+        assertThat(conventions.httpClient().getMaxConnectionsTotal())
+                .isEqualTo(40);
+
+        assertThatThrownBy(() -> conventions.httpClient().setMaxConnectionsTotal(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> conventions.httpClient().setEvictIdleConnectionsAfter(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        conventions.httpClient().setMaxConnectionsTotal(200);
+        conventions.httpClient().setUseHttp2(true);
+
+        DocumentConventions cloned = conventions.clone();
+        assertThat(cloned.httpClient().getMaxConnectionsTotal())
+                .isEqualTo(200);
+        assertThat(cloned.httpClient().isUseHttp2())
+                .isTrue();
+    }
+
+    @Test
+    public void clearingPoolClosesAsyncClients() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try (RequestExecutor requestExecutor = RequestExecutor.createForSingleNodeWithoutConfigurationUpdates("http://127.0.0.1:1", "db",
+                null, null, null, executorService, new DocumentConventions())) {
+            CloseableHttpAsyncClient httpAsyncClient = requestExecutor.getHttpAsyncClient();
+
+            assertThat(httpAsyncClient.getStatus())
+                    .isIn(IOReactorStatus.INACTIVE, IOReactorStatus.ACTIVE);
+
+            RequestExecutor.clearHttpClientsPool();
+
+            assertThat(httpAsyncClient.getStatus())
+                    .isIn(IOReactorStatus.SHUTTING_DOWN, IOReactorStatus.SHUT_DOWN);
+
+            CloseableHttpAsyncClient newHttpAsyncClient = requestExecutor.getHttpAsyncClient();
+            assertThat(newHttpAsyncClient)
+                    .isNotSameAs(httpAsyncClient);
+            assertThat(newHttpAsyncClient.getStatus())
+                    .isIn(IOReactorStatus.INACTIVE, IOReactorStatus.ACTIVE);
+        } finally {
+            RequestExecutor.clearHttpClientsPool();
+            executorService.shutdownNow();
+        }
+    }
+}
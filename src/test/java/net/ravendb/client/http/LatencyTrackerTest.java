@@ -0,0 +1,42 @@
+package net.ravendb.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LatencyTrackerTest {
+
+    @Test
+    public void computesPercentileOverRecentSamples() {
+        LatencyTracker tracker = new LatencyTracker(128, 95);
+
+        assertThat(tracker.getPercentileValue())
+                .isEqualTo(-1);
+
+        for (int i = 1; i <= 128; i++) {
+            tracker.record(i);
+        }
+
+        assertThat(tracker.getPercentileValue())
+                .isEqualTo(122);
+
+        // window is full - old samples get overwritten
+        for (int i = 0; i < 128; i++) {
+            tracker.record(1000);
+        }
+
+        assertThat(tracker.getPercentileValue())
+                .isEqualTo(1000);
+        assertThat(tracker.getCount())
+                .isEqualTo(256);
+    }
+
+    @Test
+    public void validatesArguments() {
+        assertThatThrownBy(() -> new LatencyTracker(0, 95))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LatencyTracker(10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
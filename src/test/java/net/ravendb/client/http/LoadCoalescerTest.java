@@ -0,0 +1,232 @@
+package net.ravendb.client.http;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.documents.commands.GetDocumentsCommand;
+import net.ravendb.client.documents.commands.GetDocumentsResult;
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import net.ravendb.client.documents.session.SessionInfo;
+import net.ravendb.client.extensions.JsonExtensions;
+import net.ravendb.client.util.UrlUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoadCoalescerTest {
+
+    @Test
+    public void mergesConcurrentLoadsIntoSingleRequest() throws Exception {
+        DocumentConventions conventions = new DocumentConventions();
+        conventions.loadCoalescing().setEnabled(true);
+        conventions.loadCoalescing().setWindow(Duration.ofMillis(200));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            RecordingRequestExecutor executor = new RecordingRequestExecutor(conventions, executorService);
+
+            List<CompletableFuture<GetDocumentsResult>> loads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String id = i % 2 == 0 ? "users/1" : "users/" + i;
+                loads.add(CompletableFuture.supplyAsync(() -> {
+                    GetDocumentsCommand command = new GetDocumentsCommand(executor.getConventions(), id, null, false);
+                    executor.execute(command);
+                    return command.getResult();
+                }, executorService));
+            }
+
+            for (int i = 0; i < loads.size(); i++) {
+                GetDocumentsResult result = loads.get(i).get();
+                String expectedId = i % 2 == 0 ? "users/1" : "users/" + i;
+
+                assertThat(result.getResults())
+                        .hasSize(1);
+                assertThat(result.getResults().get(0).get("Id").asText())
+                        .isEqualTo(expectedId);
+            }
+
+            assertThat(executor.requestedIds)
+                    .hasSize(1);
+            assertThat(executor.requestedIds.get(0))
+                    .containsExactlyInAnyOrder("users/1", "users/3", "users/5", "users/7");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void sendsBatchWhenFullAndSkipsLoadsWithIncludes() {
+        DocumentConventions conventions = new DocumentConventions();
+        conventions.loadCoalescing().setEnabled(true);
+        conventions.loadCoalescing().setMaxBatchSize(1);
+        conventions.loadCoalescing().setWindow(Duration.ofMinutes(1));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            RecordingRequestExecutor executor = new RecordingRequestExecutor(conventions, executorService);
+
+            GetDocumentsCommand command = new GetDocumentsCommand(executor.getConventions(), "users/1", null, false);
+            executor.execute(command);
+
+            assertThat(command.getResult().getResults().get(0).get("Id").asText())
+                    .isEqualTo("users/1");
+
+            GetDocumentsCommand withIncludes = new GetDocumentsCommand(executor.getConventions(), "users/2", new String[] { "Friend" }, false);
+            assertThat(withIncludes.getSingleDocumentId())
+                    .isNull();
+
+            assertThatThrownBy(() -> conventions.loadCoalescing().setMaxBatchSize(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void batchesLoadsPerChosenNode() throws Exception {
+        DocumentConventions conventions = new DocumentConventions();
+        conventions.loadCoalescing().setEnabled(true);
+        conventions.loadCoalescing().setWindow(Duration.ofMillis(200));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(6);
+        try {
+            RecordingRequestExecutor executor = new RecordingRequestExecutor(conventions, executorService);
+            executor.nodeSelector = id -> Integer.parseInt(id.substring("users/".length())) % 2 == 0 ? executor.nodeB : executor.nodeA;
+
+            List<CompletableFuture<GetDocumentsResult>> loads = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                String id = "users/" + i;
+                loads.add(CompletableFuture.supplyAsync(() -> {
+                    GetDocumentsCommand command = new GetDocumentsCommand(executor.getConventions(), id, null, false);
+                    executor.execute(command);
+                    return command.getResult();
+                }, executorService));
+            }
+
+            for (CompletableFuture<GetDocumentsResult> load : loads) {
+                assertThat(load.get().getResults())
+                        .hasSize(1);
+            }
+
+            assertThat(executor.requestedIds)
+                    .hasSize(2);
+            assertThat(executor.requestedNodes)
+                    .containsExactlyInAnyOrder("A", "B");
+
+            for (int i = 0; i < executor.requestedIds.size(); i++) {
+                if ("A".equals(executor.requestedNodes.get(i))) {
+                    assertThat(executor.requestedIds.get(i))
+                            .containsExactlyInAnyOrder("users/1", "users/3", "users/5");
+                } else {
+                    assertThat(executor.requestedIds.get(i))
+                            .containsExactlyInAnyOrder("users/2", "users/4", "users/6");
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void doesNotCoalesceLoadsWithCachedResponseOrUnknownTopology() throws Exception {
+        DocumentConventions conventions = new DocumentConventions();
+        conventions.loadCoalescing().setEnabled(true);
+        conventions.loadCoalescing().setWindow(Duration.ofMinutes(1));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            RecordingRequestExecutor executor = new RecordingRequestExecutor(conventions, executorService);
+
+            GetDocumentsCommand cached = new GetDocumentsCommand(executor.getConventions(), "users/1", null, false);
+            executor.getCache().set(cached.createRequest(executor.nodeA).getUri().toString(), "A:1", "{}");
+
+            // would wait for the whole window if it was coalesced
+            executor.execute(cached);
+
+            assertThat(executor.requestedNodes)
+                    .containsExactly((String) null);
+
+            executor.nodeSelector = id -> null;
+
+            GetDocumentsCommand unknownTopology = new GetDocumentsCommand(executor.getConventions(), "users/2", null, false);
+            executor.execute(unknownTopology);
+
+            assertThat(executor.requestedNodes)
+                    .containsExactly(null, null);
+            assertThat(executor.requestedIds.get(1))
+                    .containsExactly("users/2");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static class RecordingRequestExecutor extends RequestExecutor {
+        private final List<List<String>> requestedIds = new CopyOnWriteArrayList<>();
+        private final List<String> requestedNodes = new CopyOnWriteArrayList<>();
+
+        private final ServerNode nodeA = createNode("A");
+        private final ServerNode nodeB = createNode("B");
+        private volatile Function<String, ServerNode> nodeSelector = id -> nodeA;
+
+        RecordingRequestExecutor(DocumentConventions conventions, ExecutorService executorService) {
+            super("db", null, null, null, conventions, executorService, new String[] { "http://localhost:8080" });
+        }
+
+        private static ServerNode createNode(String tag) {
+            ServerNode node = new ServerNode();
+            node.setUrl("http://" + tag.toLowerCase() + ":8080");
+            node.setDatabase("db");
+            node.setClusterTag(tag);
+            return node;
+        }
+
+        @Override
+        <TResult> CurrentIndexAndNode tryChooseNodeForRequest(RavenCommand<TResult> command, SessionInfo sessionInfo) {
+            ServerNode node = nodeSelector.apply(((GetDocumentsCommand) command).getSingleDocumentId());
+            return node != null ? new CurrentIndexAndNode(node == nodeA ? 0 : 1, node) : null;
+        }
+
+        @Override
+        <TResult> void executeOnNode(CurrentIndexAndNode node, RavenCommand<TResult> command) {
+            respond((GetDocumentsCommand) command, node.currentNode);
+            requestedNodes.add(node.currentNode.getClusterTag());
+        }
+
+        @Override
+        <TResult> void executeWithoutCoalescing(RavenCommand<TResult> command, SessionInfo sessionInfo) {
+            respond((GetDocumentsCommand) command, nodeA);
+            requestedNodes.add(null);
+        }
+
+        private void respond(GetDocumentsCommand getDocumentsCommand, ServerNode node) {
+            List<String> ids = new ArrayList<>();
+            ArrayNode results = JsonExtensions.getDefaultMapper().createArrayNode();
+
+            String url = getDocumentsCommand.createRequest(node).getRequestUri();
+            for (String parameter : url.substring(url.indexOf('?') + 1).split("&")) {
+                if (!parameter.startsWith("id=")) {
+                    continue;
+                }
+
+                String id = UrlUtils.unescapeDataString(parameter.substring(3));
+                ids.add(id);
+                ObjectNode document = results.addObject();
+                document.put("Id", id);
+            }
+            requestedIds.add(ids);
+
+            GetDocumentsResult result = new GetDocumentsResult();
+            result.setResults(results);
+            getDocumentsCommand.setResult(result);
+        }
+    }
+}
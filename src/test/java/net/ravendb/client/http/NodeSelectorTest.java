@@ -0,0 +1,94 @@
+package net.ravendb.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NodeSelectorTest {
+
+    @Test
+    public void leastLoadedNodeAvoidsSlowAndBusyNodes() {
+        Topology topology = createTopology("A", "B");
+
+        try (NodeSelector nodeSelector = new NodeSelector(topology, null)) {
+            ServerNode fast = topology.getNodes().get(0);
+            ServerNode slow = topology.getNodes().get(1);
+
+            nodeSelector.onRequestStarted(fast);
+            nodeSelector.onRequestCompleted(fast, 1_000_000);
+            nodeSelector.onRequestStarted(slow);
+            nodeSelector.onRequestCompleted(slow, 50_000_000);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(nodeSelector.getLeastLoadedNode().currentNode)
+                        .isSameAs(fast);
+            }
+
+            // many outstanding requests make fast node more expensive than the slow one
+            for (int i = 0; i < 100; i++) {
+                nodeSelector.onRequestStarted(fast);
+            }
+
+            assertThat(nodeSelector.getInFlightRequests(fast))
+                    .isEqualTo(100);
+            assertThat(nodeSelector.getLeastLoadedNode().currentNode)
+                    .isSameAs(slow);
+        }
+    }
+
+    @Test
+    public void leastLoadedNodeSkipsFailedNodes() {
+        Topology topology = createTopology("A", "B", "C");
+
+        try (NodeSelector nodeSelector = new NodeSelector(topology, null)) {
+            nodeSelector.onFailedRequest(0);
+            nodeSelector.onFailedRequest(2);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(nodeSelector.getLeastLoadedNode().currentIndex)
+                        .isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void latencyIsExponentiallyWeighted() {
+        Topology topology = createTopology("A");
+
+        try (NodeSelector nodeSelector = new NodeSelector(topology, null)) {
+            ServerNode node = topology.getNodes().get(0);
+
+            nodeSelector.onRequestStarted(node);
+            nodeSelector.onRequestCompleted(node, 1000);
+            nodeSelector.onRequestStarted(node);
+            nodeSelector.onRequestCompleted(node, 6000);
+            nodeSelector.onRequestStarted(node);
+            nodeSelector.onRequestCompleted(node, -1);
+
+            assertThat(nodeSelector.getAverageLatency(node))
+                    .isEqualTo(2000);
+            assertThat(nodeSelector.getInFlightRequests(node))
+                    .isZero();
+        }
+    }
+
+    private static Topology createTopology(String... tags) {
+        List<ServerNode> nodes = new ArrayList<>();
+        for (String tag : tags) {
+            ServerNode node = new ServerNode();
+            node.setUrl("http://" + tag.toLowerCase() + ":8080");
+            node.setDatabase("db");
+            node.setClusterTag(tag);
+            node.setServerRole(ServerNode.Role.MEMBER);
+            nodes.add(node);
+        }
+
+        Topology topology = new Topology();
+        topology.setEtag(1L);
+        topology.setNodes(nodes);
+        return topology;
+    }
+}
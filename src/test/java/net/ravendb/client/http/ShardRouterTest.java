@@ -0,0 +1,150 @@
+package net.ravendb.client.http;
+
+import net.ravendb.client.serverwide.DatabaseTopology;
+import net.ravendb.client.serverwide.sharding.PrefixedShardingSetting;
+import net.ravendb.client.serverwide.sharding.ShardBucketMigration;
+import net.ravendb.client.serverwide.sharding.ShardBucketRange;
+import net.ravendb.client.serverwide.sharding.ShardingConfiguration;
+import net.ravendb.client.util.ClientShardHelper;
+import net.ravendb.client.util.XxHash64;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardRouterTest {
+
+    @Test
+    public void computesXxHash64() {
+        assertThat(XxHash64.hash(new byte[0], 0))
+                .isEqualTo(0xEF46DB3751D8E999L);
+        assertThat(XxHash64.hash("abc".getBytes(StandardCharsets.UTF_8), 0))
+                .isEqualTo(0x44BC2CF5AD770999L);
+        assertThat(XxHash64.hash("Nobody inspects the spammish repetition".getBytes(StandardCharsets.UTF_8), 0))
+                .isEqualTo(0xFBCEA83C8A378BF1L);
+    }
+
+    @Test
+    public void bucketIgnoresCaseAndUsesAnchor() {
+        int bucket = ClientShardHelper.getBucketFor("users/1");
+
+        assertThat(bucket)
+                .isBetween(0, ClientShardHelper.NUMBER_OF_BUCKETS - 1);
+        assertThat(ClientShardHelper.getBucketFor("Users/1"))
+                .isEqualTo(bucket);
+        assertThat(ClientShardHelper.getBucketFor("orders/1$users/1"))
+                .isEqualTo(bucket);
+    }
+
+    @Test
+    public void routesDocumentsToOwningShard() {
+        String id = "users/1";
+        int bucket = ClientShardHelper.getBucketFor(id);
+
+        ShardingConfiguration sharding = new ShardingConfiguration();
+        sharding.setBucketRanges(Arrays.asList(range(bucket + 1, 1), range(0, 0)));
+        sharding.setShards(new HashMap<>());
+        sharding.getShards().put(0, topology("A"));
+        sharding.getShards().put(1, topology("B"));
+
+        ClusterTopology clusterTopology = clusterTopology();
+
+        ShardRouter.RoutingTable routingTable = new ShardRouter.RoutingTable("db", sharding, clusterTopology, 1);
+
+        ServerNode node = routingTable.getNodeFor(id, n -> true, false);
+        assertThat(node.getUrl())
+                .isEqualTo("http://a:8080");
+        assertThat(node.getDatabase())
+                .isEqualTo("db$0");
+
+        ShardBucketMigration migration = new ShardBucketMigration();
+        migration.setBucket(bucket);
+        sharding.setBucketMigrations(Collections.singletonMap(bucket, migration));
+
+        assertThat(new ShardRouter.RoutingTable("db", sharding, clusterTopology, 1).getNodeFor(id, n -> true, false))
+                .isNull();
+
+        sharding.setBucketMigrations(null);
+        PrefixedShardingSetting prefixed = new PrefixedShardingSetting();
+        prefixed.setPrefix("Users/");
+        sharding.setPrefixed(Collections.singletonList(prefixed));
+
+        assertThat(new ShardRouter.RoutingTable("db", sharding, clusterTopology, 1).getNodeFor(id, n -> true, false))
+                .isNull();
+
+        assertThat(ShardRouter.RoutingTable.EMPTY.getNodeFor(id, n -> true, false))
+                .isNull();
+    }
+
+    @Test
+    public void skipsUnavailableNodes() {
+        String id = "users/1";
+
+        ShardRouter.RoutingTable routingTable = new ShardRouter.RoutingTable("db", singleShard("A", "B"), clusterTopology(), 1);
+
+        assertThat(routingTable.getNodeFor(id, node -> true, false).getClusterTag())
+                .isEqualTo("A");
+
+        assertThat(routingTable.getNodeFor(id, node -> !node.getClusterTag().equals("A"), false).getClusterTag())
+                .isEqualTo("B");
+
+        assertThat(routingTable.getNodeFor(id, node -> false, false))
+                .isNull();
+    }
+
+    @Test
+    public void spreadsReadsOnlyWhenAllowed() {
+        ShardRouter.RoutingTable routingTable = new ShardRouter.RoutingTable("db", singleShard("A", "B"), clusterTopology(), 1);
+
+        Set<String> tags = new HashSet<>();
+        Set<String> spreadTags = new HashSet<>();
+
+        for (int i = 0; i < 20; i++) {
+            String id = "users/" + i;
+
+            tags.add(routingTable.getNodeFor(id, node -> true, false).getClusterTag());
+
+            String spreadTag = routingTable.getNodeFor(id, node -> true, true).getClusterTag();
+            assertThat(spreadTag)
+                    .isEqualTo(ClientShardHelper.getBucketFor(id) % 2 == 0 ? "A" : "B");
+            spreadTags.add(spreadTag);
+        }
+
+        // writes go to the first member, so loads right after save must not read from the other one
+        assertThat(tags)
+                .containsExactly("A");
+        assertThat(spreadTags)
+                .containsExactlyInAnyOrder("A", "B");
+    }
+
+    private static ShardingConfiguration singleShard(String... members) {
+        ShardingConfiguration sharding = new ShardingConfiguration();
+        sharding.setBucketRanges(Collections.singletonList(range(0, 0)));
+        sharding.setShards(Collections.singletonMap(0, topology(members)));
+        return sharding;
+    }
+
+    private static ClusterTopology clusterTopology() {
+        ClusterTopology clusterTopology = new ClusterTopology();
+        Map<String, String> members = new HashMap<>();
+        members.put("A", "http://a:8080");
+        members.put("B", "http://b:8080");
+        clusterTopology.setMembers(members);
+        return clusterTopology;
+    }
+
+    private static ShardBucketRange range(int start, int shardNumber) {
+        ShardBucketRange range = new ShardBucketRange();
+        range.setBucketRangeStart(start);
+        range.setShardNumber(shardNumber);
+        return range;
+    }
+
+    private static DatabaseTopology topology(String... members) {
+        DatabaseTopology topology = new DatabaseTopology();
+        topology.setMembers(Arrays.asList(members));
+        return topology;
+    }
+}
@@ -0,0 +1,56 @@
+package net.ravendb.client.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.ravendb.client.documents.session.DocumentInfo;
+import net.ravendb.client.documents.session.DocumentsChanges;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonOperationTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String ORIGINAL = "{\"Name\":\"John\",\"Age\":30,\"Tags\":[\"a\",{\"X\":1}],\"Address\":{\"City\":\"Torun\"},\"Manager\":null," +
+            "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}";
+
+    @Test
+    public void fastPathMatchesDetailedComparison() throws IOException {
+        assertSameResult(ORIGINAL, false);
+        assertSameResult("{\"Name\":\"John\",\"Age\":30.0,\"Tags\":[\"a\",{\"X\":1}],\"Address\":{\"City\":\"Torun\"},\"Manager\":null," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:2\"}}", false);
+        assertSameResult("{\"Name\":\"Jane\",\"Age\":30,\"Tags\":[\"a\",{\"X\":1}],\"Address\":{\"City\":\"Torun\"},\"Manager\":null," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}", true);
+        assertSameResult("{\"Name\":\"John\",\"Age\":30,\"Tags\":[\"a\",{\"X\":2}],\"Address\":{\"City\":\"Torun\"},\"Manager\":null," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}", true);
+        assertSameResult("{\"Name\":\"John\",\"Age\":30,\"Tags\":[\"a\"],\"Address\":{\"City\":\"Torun\"},\"Manager\":null," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}", true);
+        assertSameResult("{\"Name\":\"John\",\"Age\":30,\"Tags\":[\"a\",{\"X\":1}],\"Address\":{\"City\":\"Torun\"}," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}", true);
+        assertSameResult("{\"Name\":\"John\",\"Age\":30,\"Tags\":[\"a\",{\"X\":1}],\"Address\":{\"City\":\"Torun\"},\"Manager\":\"users/2\"," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}", true);
+        assertSameResult("{\"Name\":\"John\",\"Age\":30,\"Tags\":[\"a\",{\"X\":1}],\"Address\":{\"City\":\"Torun\",\"Zip\":\"87-100\"},\"Manager\":null," +
+                "\"@metadata\":{\"@collection\":\"Users\",\"@change-vector\":\"A:1\"}}", true);
+    }
+
+    private static void assertSameResult(String newJson, boolean expectedChanged) throws IOException {
+        DocumentInfo documentInfo = new DocumentInfo();
+        documentInfo.setId("users/1");
+        documentInfo.setDocument((ObjectNode) mapper.readTree(ORIGINAL));
+
+        ObjectNode newObj = (ObjectNode) mapper.readTree(newJson);
+
+        Map<String, List<DocumentsChanges>> changes = new HashMap<>();
+
+        assertThat(JsonOperation.entityChanged(newObj, documentInfo, null))
+                .isEqualTo(expectedChanged);
+        assertThat(JsonOperation.entityChanged(newObj, documentInfo, changes))
+                .isEqualTo(expectedChanged);
+    }
+}
@@ -0,0 +1,98 @@
+package net.ravendb.client.metrics;
+
+import net.ravendb.client.documents.conventions.DocumentConventions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class InMemoryMetricsRegistryTest {
+
+    @Test
+    public void histogramComputesPercentiles() {
+        Histogram histogram = new Histogram();
+
+        assertThat(histogram.getValueAtPercentile(99))
+                .isZero();
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertThat(histogram.getCount())
+                .isEqualTo(1000);
+        assertThat(histogram.getMax())
+                .isEqualTo(1_000_000);
+        assertThat(histogram.getMean())
+                .isCloseTo(500_500, within(0.1));
+        assertThat((double) histogram.getValueAtPercentile(50))
+                .isCloseTo(500_000, within(500_000 * 0.0625));
+        assertThat((double) histogram.getValueAtPercentile(99))
+                .isCloseTo(990_000, within(990_000 * 0.0625));
+        assertThat(histogram.getValueAtPercentile(100))
+                .isEqualTo(1_000_000);
+
+        assertThatThrownBy(() -> histogram.record(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void histogramBucketsCoverAllValues() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE }) {
+            long highest = Histogram.highestEquivalentValue(Histogram.bucketIndex(value));
+            assertThat(highest)
+                    .isGreaterThanOrEqualTo(value);
+            assertThat(highest - value)
+                    .isLessThanOrEqualTo(value / 16);
+        }
+    }
+
+    @Test
+    public void recordsClientMetrics() {
+        InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+
+        metrics.onRequestCompleted("GetDocumentsCommand", 2_000_000, 0, 512, 200);
+        metrics.onRequestCompleted("GetDocumentsCommand", 4_000_000, 0, -1, 200);
+        metrics.onRequestCompleted("BatchCommand", 8_000_000, 1024, 100, 201);
+        metrics.onRequestFailed("BatchCommand", 1_000_000);
+
+        metrics.onCacheHit("GetDocumentsCommand");
+        metrics.onCacheNotModified("GetDocumentsCommand");
+        metrics.onCacheMiss("GetDocumentsCommand");
+        metrics.onCacheMiss("GetDocumentsCommand");
+
+        metrics.onBulkInsertCompleted(1000, 500_000_000);
+
+        assertThat(metrics.getRequestLatencies().get("GetDocumentsCommand").getCount())
+                .isEqualTo(2);
+        assertThat(metrics.getResponseSizes().get("GetDocumentsCommand").getCount())
+                .isEqualTo(1);
+        assertThat(metrics.getFailedRequests("BatchCommand"))
+                .isEqualTo(1);
+        assertThat(metrics.getBytesSent())
+                .isEqualTo(1024);
+        assertThat(metrics.getBytesReceived())
+                .isEqualTo(612);
+        assertThat(metrics.getCacheHitRate())
+                .isEqualTo(0.5);
+        assertThat(metrics.getBulkInsertThroughput())
+                .isEqualTo(2000);
+    }
+
+    @Test
+    public void metricsRegistryIsCopiedWithConventions() {
+        DocumentConventions conventions = new DocumentConventions();
+
+        assertThat(conventions.getMetricsRegistry())
+                .isSameAs(MetricsRegistry.NO_OP);
+        assertThatThrownBy(() -> conventions.setMetricsRegistry(null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+        conventions.setMetricsRegistry(metrics);
+
+        assertThat(conventions.clone().getMetricsRegistry())
+                .isSameAs(metrics);
+    }
+}
@@ -0,0 +1,69 @@
+package net.ravendb.client.primitives;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CaseInsensitiveHashMapTest {
+
+    @Test
+    public void lookupsIgnoreCase() {
+        CaseInsensitiveHashMap<Integer> map = new CaseInsensitiveHashMap<>();
+        map.put("Users/1-A", 1);
+        map.put("users/2-a", 2);
+
+        assertThat(map.get("USERS/1-a"))
+                .isEqualTo(1);
+        assertThat(map.containsKey("Users/2-A"))
+                .isTrue();
+        assertThat(map.get("users/3-a"))
+                .isNull();
+
+        map.put("USERS/1-A", 10);
+
+        assertThat(map)
+                .hasSize(2);
+        assertThat(map.keySet())
+                .containsExactly("Users/1-A", "users/2-a");
+        assertThat(map.get("users/1-a"))
+                .isEqualTo(10);
+
+        assertThat(map.remove("USERS/2-A"))
+                .isEqualTo(2);
+        assertThat(map)
+                .hasSize(1);
+    }
+
+    @Test
+    public void entriesCanBeModifiedDuringIteration() {
+        CaseInsensitiveHashMap<Integer> map = new CaseInsensitiveHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        Map.Entry<String, Integer> first = iterator.next();
+        first.setValue(5);
+        iterator.next();
+        iterator.remove();
+
+        assertThat(map.get("A"))
+                .isEqualTo(5);
+        assertThat(map.containsKey("B"))
+                .isFalse();
+    }
+
+    @Test
+    public void setIgnoresCase() {
+        Set<String> set = CaseInsensitiveHashMap.newSet();
+        set.add("Orders/1");
+
+        assertThat(set.contains("ORDERS/1"))
+                .isTrue();
+        assertThat(set.add("orders/1"))
+                .isFalse();
+    }
+}
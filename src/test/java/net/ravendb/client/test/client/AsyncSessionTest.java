@@ -0,0 +1,96 @@
+package net.ravendb.client.test.client;
+
+import net.ravendb.client.RemoteTestBase;
+import net.ravendb.client.documents.IDocumentStore;
+import net.ravendb.client.documents.session.IAsyncDocumentSession;
+import net.ravendb.client.infrastructure.entities.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncSessionTest extends RemoteTestBase {
+
+    @Test
+    public void canStoreAndLoadAsync() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            try (IAsyncDocumentSession session = store.openAsyncSession()) {
+                User user1 = new User();
+                user1.setName("John");
+                session.store(user1, "users/1");
+
+                User user2 = new User();
+                user2.setName("Jane");
+                session.store(user2, "users/2");
+
+                session.saveChangesAsync().get();
+            }
+
+            try (IAsyncDocumentSession session = store.openAsyncSession()) {
+                User user = session.loadAsync(User.class, "users/1").get();
+                assertThat(user.getName())
+                        .isEqualTo("John");
+
+                Map<String, User> users = session.loadAsync(User.class, "users/1", "users/2", "users/3").get();
+                assertThat(users)
+                        .hasSize(3);
+                assertThat(users.get("users/1"))
+                        .isSameAs(user);
+                assertThat(users.get("users/2").getName())
+                        .isEqualTo("Jane");
+                assertThat(users.get("users/3"))
+                        .isNull();
+
+                assertThat(session.existsAsync("users/2").get())
+                        .isTrue();
+                assertThat(session.existsAsync("users/3").get())
+                        .isFalse();
+
+                user.setName("Johnny");
+                session.saveChangesAsync().get();
+            }
+
+            try (IAsyncDocumentSession session = store.openAsyncSession()) {
+                assertThat(session.loadAsync(User.class, "users/1").get().getName())
+                        .isEqualTo("Johnny");
+            }
+        }
+    }
+
+    @Test
+    public void canRunManyAsyncSessionsConcurrently() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            List<CompletableFuture<Void>> saves = new ArrayList<>();
+            List<IAsyncDocumentSession> sessions = new ArrayList<>();
+
+            for (int i = 0; i < 50; i++) {
+                IAsyncDocumentSession session = store.openAsyncSession();
+                sessions.add(session);
+
+                User user = new User();
+                user.setName("user" + i);
+                session.store(user, "users/" + i);
+
+                saves.add(session.saveChangesAsync());
+            }
+
+            CompletableFuture.allOf(saves.toArray(new CompletableFuture[0])).get();
+            sessions.forEach(IAsyncDocumentSession::close);
+
+            try (IAsyncDocumentSession session = store.openAsyncSession()) {
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    ids.add("users/" + i);
+                }
+
+                Map<String, User> users = session.loadAsync(User.class, ids).get();
+                assertThat(users.values())
+                        .allMatch(x -> x != null);
+            }
+        }
+    }
+}
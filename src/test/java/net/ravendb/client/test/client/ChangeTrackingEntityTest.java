@@ -0,0 +1,193 @@
+package net.ravendb.client.test.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import net.ravendb.client.RemoteTestBase;
+import net.ravendb.client.documents.IDocumentStore;
+import net.ravendb.client.documents.session.IChangeTrackingEntity;
+import net.ravendb.client.documents.session.IDocumentSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeTrackingEntityTest extends RemoteTestBase {
+
+    @Test
+    public void unchangedEntityIsNotConvertedOrSaved() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            storeUser(store);
+
+            try (IDocumentSession session = store.openSession()) {
+                AtomicInteger conversions = new AtomicInteger();
+                session.advanced().addBeforeConversionToDocumentListener((sender, event) -> conversions.incrementAndGet());
+
+                TrackedUser user = session.load(TrackedUser.class, "users/1");
+
+                assertThat(user.hasChanges())
+                        .isFalse();
+                assertThat(user.getAcceptedChanges())
+                        .isPositive();
+
+                // modification the entity doesn't report is not noticed by the session
+                user.setNameWithoutTracking("Silent");
+
+                assertThat(session.advanced().hasChanges())
+                        .isFalse();
+                assertThat(session.advanced().hasChanged(user))
+                        .isFalse();
+
+                session.saveChanges();
+
+                assertThat(session.advanced().getNumberOfRequests())
+                        .isEqualTo(1);
+                assertThat(conversions.get())
+                        .isZero();
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                assertThat(session.load(TrackedUser.class, "users/1").getName())
+                        .isEqualTo("John");
+            }
+        }
+    }
+
+    @Test
+    public void changedEntityIsSavedAndAccepted() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            storeUser(store);
+
+            try (IDocumentSession session = store.openSession()) {
+                TrackedUser user = session.load(TrackedUser.class, "users/1");
+                int acceptedChanges = user.getAcceptedChanges();
+                user.setName("Jane");
+
+                assertThat(session.advanced().hasChanges())
+                        .isTrue();
+                assertThat(session.advanced().hasChanged(user))
+                        .isTrue();
+
+                session.saveChanges();
+
+                assertThat(user.hasChanges())
+                        .isFalse();
+                assertThat(user.getAcceptedChanges())
+                        .isGreaterThan(acceptedChanges);
+                assertThat(session.advanced().hasChanges())
+                        .isFalse();
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                assertThat(session.load(TrackedUser.class, "users/1").getName())
+                        .isEqualTo("Jane");
+            }
+        }
+    }
+
+    @Test
+    public void refreshAcceptsChanges() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            storeUser(store);
+
+            try (IDocumentSession session = store.openSession()) {
+                TrackedUser user = session.load(TrackedUser.class, "users/1");
+                user.setName("Jane");
+
+                session.advanced().refresh(user);
+
+                assertThat(user.getName())
+                        .isEqualTo("John");
+                assertThat(user.hasChanges())
+                        .isFalse();
+                assertThat(session.advanced().hasChanged(user))
+                        .isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void metadataChangeOfUnchangedEntityIsSaved() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            storeUser(store);
+
+            try (IDocumentSession session = store.openSession()) {
+                TrackedUser user = session.load(TrackedUser.class, "users/1");
+                session.advanced().getMetadataFor(user).put("Tag", "vip");
+
+                assertThat(user.hasChanges())
+                        .isFalse();
+
+                session.saveChanges();
+
+                assertThat(session.advanced().getNumberOfRequests())
+                        .isEqualTo(2);
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                TrackedUser user = session.load(TrackedUser.class, "users/1");
+
+                assertThat(session.advanced().getMetadataFor(user).getString("Tag"))
+                        .isEqualTo("vip");
+                assertThat(user.getName())
+                        .isEqualTo("John");
+            }
+        }
+    }
+
+    private static void storeUser(IDocumentStore store) {
+        try (IDocumentSession session = store.openSession()) {
+            TrackedUser user = new TrackedUser();
+            user.setName("John");
+            session.store(user, "users/1");
+            session.saveChanges();
+        }
+    }
+
+    public static class TrackedUser implements IChangeTrackingEntity {
+        private String id;
+        private String name;
+
+        @JsonIgnore
+        private boolean changed;
+
+        @JsonIgnore
+        private int acceptedChanges;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            changed = true;
+        }
+
+        public void setNameWithoutTracking(String name) {
+            this.name = name;
+        }
+
+        @JsonIgnore
+        public int getAcceptedChanges() {
+            return acceptedChanges;
+        }
+
+        @Override
+        public boolean hasChanges() {
+            return changed;
+        }
+
+        @Override
+        public void acceptChanges() {
+            changed = false;
+            acceptedChanges++;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package net.ravendb.client.test.client;
+
+import net.ravendb.client.RemoteTestBase;
+import net.ravendb.client.documents.CloseableIterator;
+import net.ravendb.client.documents.DocumentStore;
+import net.ravendb.client.documents.IDocumentStore;
+import net.ravendb.client.documents.commands.StreamResult;
+import net.ravendb.client.documents.session.IDocumentSession;
+import net.ravendb.client.documents.session.SessionOptions;
+import net.ravendb.client.infrastructure.entities.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedLoadTest extends RemoteTestBase {
+
+    @Override
+    protected void customizeStore(DocumentStore store) {
+        store.getConventions().loadChunking().setEnabled(true);
+        store.getConventions().loadChunking().setChunkSize(10);
+        store.getConventions().loadChunking().setMaxConcurrency(3);
+    }
+
+    @Test
+    public void canLoadManyIdsInChunks() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            storeUsers(store, 95);
+
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ids.add("users/" + i);
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                Map<String, User> users = session.load(User.class, ids);
+
+                assertThat(users)
+                        .hasSize(100);
+                assertThat(users.get("users/42").getName())
+                        .isEqualTo("User 42");
+                assertThat(users.get("users/97"))
+                        .isNull();
+
+                assertThat(session.advanced().getNumberOfRequests())
+                        .isEqualTo(1);
+
+                // all documents are already tracked or known as missing
+                session.load(User.class, ids);
+                assertThat(session.advanced().getNumberOfRequests())
+                        .isEqualTo(1);
+            }
+
+            SessionOptions noTracking = new SessionOptions();
+            noTracking.setNoTracking(true);
+
+            try (IDocumentSession session = store.openSession(noTracking)) {
+                Map<String, User> users = session.load(User.class, ids);
+
+                assertThat(users)
+                        .hasSize(100);
+                assertThat(users.values().stream().filter(Objects::nonNull).count())
+                        .isEqualTo(95);
+            }
+        }
+    }
+
+    @Test
+    public void canStreamDocumentsByIds() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            storeUsers(store, 35);
+
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                ids.add("users/" + i);
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                Set<String> loadedIds = new HashSet<>();
+
+                try (CloseableIterator<StreamResult<User>> results = session.advanced().streamByIds(User.class, ids)) {
+                    while (results.hasNext()) {
+                        StreamResult<User> result = results.next();
+                        assertThat(result.getDocument().getName())
+                                .isEqualTo("User " + result.getId().substring("users/".length()));
+                        loadedIds.add(result.getId());
+                    }
+                }
+
+                assertThat(loadedIds)
+                        .hasSize(35);
+                assertThat(session.advanced().isLoaded("users/1"))
+                        .isFalse();
+            }
+        }
+    }
+
+    private static void storeUsers(IDocumentStore store, int count) {
+        try (IDocumentSession session = store.openSession()) {
+            for (int i = 0; i < count; i++) {
+                User user = new User();
+                user.setName("User " + i);
+                session.store(user, "users/" + i);
+            }
+            session.saveChanges();
+        }
+    }
+}
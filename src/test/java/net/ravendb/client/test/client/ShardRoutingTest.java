@@ -0,0 +1,56 @@
+package net.ravendb.client.test.client;
+
+import net.ravendb.client.RemoteTestBase;
+import net.ravendb.client.documents.DocumentStore;
+import net.ravendb.client.documents.IDocumentStore;
+import net.ravendb.client.documents.session.IDocumentSession;
+import net.ravendb.client.infrastructure.entities.User;
+import net.ravendb.client.serverwide.DatabaseRecord;
+import net.ravendb.client.serverwide.DatabaseTopology;
+import net.ravendb.client.serverwide.sharding.ShardingConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardRoutingTest extends RemoteTestBase {
+
+    @Override
+    protected void customizeDbRecord(DatabaseRecord dbRecord) {
+        Map<Integer, DatabaseTopology> shards = new HashMap<>();
+        shards.put(0, new DatabaseTopology());
+        shards.put(1, new DatabaseTopology());
+
+        ShardingConfiguration sharding = new ShardingConfiguration();
+        sharding.setShards(shards);
+        dbRecord.setSharding(sharding);
+    }
+
+    @Override
+    protected void customizeStore(DocumentStore store) {
+        store.getConventions().sharding().setDirectShardRouting(true);
+    }
+
+    @Test
+    public void loadAfterWriteReturnsLatestVersion() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            for (int i = 0; i < 10; i++) {
+                try (IDocumentSession session = store.openSession()) {
+                    User user = new User();
+                    user.setName("John " + i);
+
+                    session.store(user, "users/1");
+                    session.saveChanges();
+                }
+
+                try (IDocumentSession session = store.openSession()) {
+                    User user = session.load(User.class, "users/1");
+                    assertThat(user.getName())
+                            .isEqualTo("John " + i);
+                }
+            }
+        }
+    }
+}
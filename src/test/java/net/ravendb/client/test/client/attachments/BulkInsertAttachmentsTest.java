@@ -5,12 +5,14 @@ import net.ravendb.client.documents.BulkInsertOperation;
 import net.ravendb.client.documents.IDocumentStore;
 import net.ravendb.client.documents.operations.attachments.AttachmentIteratorResult;
 import net.ravendb.client.documents.operations.attachments.AttachmentRequest;
+import net.ravendb.client.documents.operations.attachments.CloseableAttachmentResult;
 import net.ravendb.client.documents.operations.attachments.CloseableAttachmentsResult;
 import net.ravendb.client.documents.operations.counters.CountersDetail;
 import net.ravendb.client.documents.operations.counters.GetCountersOperation;
 import net.ravendb.client.documents.session.IDocumentSession;
 import net.ravendb.client.exceptions.BulkInsertInvalidOperationException;
 import net.ravendb.client.infrastructure.entities.User;
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
@@ -95,6 +97,35 @@ public class BulkInsertAttachmentsTest extends RemoteTestBase {
         }
     }
 
+    @Test
+    public void canStoreAttachmentFromStream() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            String userId = "user/1";
+
+            byte[] bytes = new byte[3 * 1024 * 1024 + 17];
+            new Random().nextBytes(bytes);
+
+            try (BulkInsertOperation bulkInsert = store.bulkInsert()) {
+                User user = new User();
+                user.setName("EGR");
+
+                bulkInsert.store(user, userId);
+
+                bulkInsert.attachmentsFor(userId)
+                        .store("file", new ByteArrayInputStream(bytes), bytes.length, "application/pdf");
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                try (CloseableAttachmentResult attachment = session.advanced().attachments().get(userId, "file")) {
+                    assertThat(attachment.getDetails().getContentType())
+                            .isEqualTo("application/pdf");
+                    assertThat(IOUtils.toByteArray(attachment.getData()))
+                            .isEqualTo(bytes);
+                }
+            }
+        }
+    }
+
     @Test
     public void storeManyAttachmentsAndDocs() throws Exception {
         int count = 100;
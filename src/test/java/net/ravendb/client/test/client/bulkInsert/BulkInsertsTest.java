@@ -5,6 +5,7 @@ import net.ravendb.client.RemoteTestBase;
 import net.ravendb.client.documents.BulkInsertOperation;
 import net.ravendb.client.documents.DocumentStore;
 import net.ravendb.client.documents.IDocumentStore;
+import net.ravendb.client.documents.ParallelBulkInsertOperation;
 import net.ravendb.client.documents.session.IDocumentSession;
 import net.ravendb.client.exceptions.documents.bulkinsert.BulkInsertAbortedException;
 import net.ravendb.client.json.MetadataAsDictionary;
@@ -13,6 +14,7 @@ import org.apache.commons.lang3.time.DateUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.Date;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -148,6 +150,53 @@ public class BulkInsertsTest extends RemoteTestBase {
     }
 
 
+    @Test
+    public void parallelBulkInsertShouldWork() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+
+            try (ParallelBulkInsertOperation bulkInsert = store.parallelBulkInsert()) {
+                IntStream.range(0, 1000)
+                        .parallel()
+                        .forEach(i -> {
+                            FooBar fooBar = new FooBar();
+                            fooBar.setName("Name " + i);
+                            bulkInsert.store(fooBar, "fooBars/" + i);
+                        });
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                assertThat(session.query(FooBar.class).waitForNonStaleResults().count())
+                        .isEqualTo(1000);
+
+                FooBar doc = session.load(FooBar.class, "fooBars/500");
+                assertThat(doc.getName())
+                        .isEqualTo("Name 500");
+            }
+        }
+    }
+
+    @Test
+    public void parallelBulkInsertShouldContinueAfterInvalidId() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+
+            try (ParallelBulkInsertOperation bulkInsert = store.parallelBulkInsert()) {
+                FooBar fooBar = new FooBar();
+                fooBar.setName("John");
+
+                assertThatThrownBy(() -> bulkInsert.store(fooBar, "fooBars/1|"))
+                        .isInstanceOf(UnsupportedOperationException.class);
+
+                bulkInsert.store(fooBar, "fooBars/1");
+            }
+
+            try (IDocumentSession session = store.openSession()) {
+                FooBar doc = session.load(FooBar.class, "fooBars/1");
+                assertThat(doc.getName())
+                        .isEqualTo("John");
+            }
+        }
+    }
+
     public static class FooBar {
         private String name;
 
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -189,6 +190,72 @@ public class SubscriptionsBasicTest extends RemoteTestBase {
         }
     }
 
+    @Test
+    public void shouldStreamAllDocumentsWithPrefetch() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            try (BulkInsertOperation bulkInsert = store.bulkInsert()) {
+                for (int i = 0; i < 100; i++) {
+                    User user = new User();
+                    user.setAge(i);
+                    bulkInsert.store(user, "users/" + i);
+                }
+            }
+
+            String id = store.subscriptions().create(User.class);
+
+            SubscriptionWorkerOptions options = new SubscriptionWorkerOptions(id);
+            options.setMaxDocsPerBatch(5);
+            options.setPrefetchDepth(4);
+
+            try (SubscriptionWorker<User> subscription = store.subscriptions().getSubscriptionWorker(User.class, options)) {
+                BlockingArrayQueue<String> keys = new BlockingArrayQueue<>();
+
+                Set<SubscriptionBatch<User>> processedBatches = ConcurrentHashMap.newKeySet();
+                AtomicInteger acknowledgedBeforeProcessing = new AtomicInteger();
+
+                subscription.addAfterAcknowledgmentListener(batch -> {
+                    if (!processedBatches.contains(batch)) {
+                        acknowledgedBeforeProcessing.incrementAndGet();
+                    }
+                });
+
+                subscription.run(batch -> {
+                    batch.getItems().forEach(x -> keys.add(x.getId()));
+                    processedBatches.add(batch);
+                });
+
+                for (int i = 0; i < 100; i++) {
+                    assertThat(keys.poll(_reasonableWaitTime, TimeUnit.SECONDS))
+                            .isNotNull();
+                }
+
+                assertThat(acknowledgedBeforeProcessing.get())
+                        .isZero();
+            }
+        }
+    }
+
+    @Test
+    public void shouldReportSubscriberErrorWithPrefetch() throws Exception {
+        try (IDocumentStore store = getDocumentStore()) {
+            String id = store.subscriptions().create(User.class);
+
+            SubscriptionWorkerOptions options = new SubscriptionWorkerOptions(id);
+            options.setPrefetchDepth(4);
+
+            try (SubscriptionWorker<User> subscription = store.subscriptions().getSubscriptionWorker(User.class, options)) {
+                putUserDoc(store);
+
+                CompletableFuture<Void> subscriptionTask = subscription.run(x -> {
+                    throw new RuntimeException("Fake exception");
+                });
+
+                assertThatThrownBy(() -> subscriptionTask.get(_reasonableWaitTime, TimeUnit.SECONDS))
+                        .matches(x -> ExceptionsUtils.unwrapException(x) instanceof SubscriberErrorException);
+            }
+        }
+    }
+
     @Test
     public void shouldSendAllNewAndModifiedDocs() throws Exception {
         try (IDocumentStore store = getDocumentStore()) {